@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice.globalclock;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.plugin.core.advice.AbstractInstanceMethodAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Batch size histogram advice for redis timestamp oracle.
+ */
+public final class RedisTSOBatchSizeHistogramAdvice extends AbstractInstanceMethodAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration("global_clock_tso_batch_size",
+            MetricCollectorType.HISTOGRAM, "Batch size histogram of redis timestamp oracle", Collections.emptyList(), Collections.singletonMap("buckets", getBuckets()));
+    
+    private Map<String, Object> getBuckets() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 1);
+        result.put("factor", 2);
+        result.put("count", 11);
+        return result;
+    }
+    
+    @Override
+    public void afterMethod(final TargetAdviceObject target, final Method method, final Object[] args, final Object result, final String pluginType) {
+        MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe(((Collection<?>) args[0]).size());
+    }
+}
@@ -36,8 +36,8 @@ public final class JDBCExecutorCallbackFixture extends JDBCExecutorCallback<Obje
     
     private Object attachment;
     
-    public JDBCExecutorCallbackFixture(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    public JDBCExecutorCallbackFixture(final DatabaseType protocolType, final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        super(protocolType, databaseName, resourceMetaData, sqlStatement, isExceptionThrown);
     }
     
     @Override
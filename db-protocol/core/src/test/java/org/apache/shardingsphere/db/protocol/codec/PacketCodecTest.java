@@ -20,14 +20,20 @@ package org.apache.shardingsphere.db.protocol.codec;
 import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -74,4 +80,21 @@ class PacketCodecTest {
         packetCodec.encode(context, databasePacket, byteBuf);
         verify(databasePacketCodecEngine).encode(context, databasePacket, byteBuf);
     }
+    
+    @Test
+    void assertEncodeBatch() {
+        DatabasePacket firstPacket = mock(DatabasePacket.class);
+        DatabasePacket secondPacket = mock(DatabasePacket.class);
+        packetCodec.encode(context, new DatabasePacketBatch(Arrays.asList(firstPacket, secondPacket)), byteBuf);
+        InOrder inOrder = inOrder(databasePacketCodecEngine);
+        inOrder.verify(databasePacketCodecEngine).encode(context, firstPacket, byteBuf);
+        inOrder.verify(databasePacketCodecEngine).encode(context, secondPacket, byteBuf);
+    }
+    
+    @Test
+    void assertAcceptOutboundMessage() {
+        assertTrue(packetCodec.acceptOutboundMessage(mock(DatabasePacket.class)));
+        assertTrue(packetCodec.acceptOutboundMessage(new DatabasePacketBatch(Collections.emptyList())));
+        assertFalse(packetCodec.acceptOutboundMessage(byteBuf));
+    }
 }
@@ -230,7 +230,17 @@ public enum MySQLCommandPacketType implements CommandPacketType {
      * 
      * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_reset_connection.html">COM_RESET_CONNECTION</a>
      */
-    COM_RESET_CONNECTION(0x1f);
+    COM_RESET_CONNECTION(0x1f),
+    
+    /**
+     * Pseudo command of LOCAL INFILE data.
+     * 
+     * <p>File contents sent by client after LOCAL INFILE request do not start with command byte, so that they are identified by connection state.
+     * The value is out of single byte range and never received from client.</p>
+     * 
+     * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_local_infile_request.html">LOCAL INFILE Request</a>
+     */
+    COM_LOCAL_INFILE_DATA(0x100);
     
     private static final Map<Integer, MySQLCommandPacketType> MYSQL_COMMAND_PACKET_TYPE_CACHE = new HashMap<>();
     
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.ByteBuf;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
@@ -40,6 +41,10 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL = 0xfb;
     
+    private static final int DATE_TIME_LENGTH = 19;
+    
+    private static final int MAX_COMPACT_DECIMAL_PRECISION = 18;
+    
     private final Collection<Object> data;
     
     public MySQLTextResultSetRowPacket(final MySQLPacketPayload payload, final int columnCount) {
@@ -61,18 +66,80 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
-        if (data instanceof byte[]) {
+        if (data instanceof String) {
+            payload.writeStringLenenc((String) data);
+        } else if (data instanceof Integer || data instanceof Long || data instanceof Short || data instanceof Byte) {
+            payload.writeStringLenenc(((Number) data).longValue());
+        } else if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
-            payload.writeStringLenenc(data.toString().split("\\.")[0]);
+            writeTimestamp(payload, (Timestamp) data);
         } else if (data instanceof BigDecimal) {
-            payload.writeStringLenenc(((BigDecimal) data).toPlainString());
+            writeDecimal(payload, (BigDecimal) data);
         } else if (data instanceof Boolean) {
-            payload.writeBytesLenenc((boolean) data ? new byte[]{1} : new byte[]{0});
+            payload.writeInt1(1);
+            payload.writeInt1((boolean) data ? 1 : 0);
         } else if (data instanceof LocalDateTime) {
-            payload.writeStringLenenc(DateTimeFormatterFactory.getStandardFormatter().format((LocalDateTime) data));
+            writeLocalDateTime(payload, (LocalDateTime) data);
         } else {
             payload.writeStringLenenc(data.toString());
         }
     }
+    
+    private void writeDecimal(final MySQLPacketPayload payload, final BigDecimal data) {
+        if (data.scale() < 0 || data.precision() > MAX_COMPACT_DECIMAL_PRECISION) {
+            payload.writeStringLenenc(data.toPlainString());
+            return;
+        }
+        payload.writeStringLenenc(data.unscaledValue().longValue(), data.scale());
+    }
+    
+    private void writeTimestamp(final MySQLPacketPayload payload, final Timestamp data) {
+        LocalDateTime dateTime = data.toLocalDateTime();
+        if (isFourDigitYear(dateTime)) {
+            writeDateTime(payload, dateTime);
+        } else {
+            payload.writeStringLenenc(data.toString().split("\\.")[0]);
+        }
+    }
+    
+    private void writeLocalDateTime(final MySQLPacketPayload payload, final LocalDateTime data) {
+        if (isFourDigitYear(data)) {
+            writeDateTime(payload, data);
+        } else {
+            payload.writeStringLenenc(DateTimeFormatterFactory.getStandardFormatter().format(data));
+        }
+    }
+    
+    private boolean isFourDigitYear(final LocalDateTime dateTime) {
+        return dateTime.getYear() >= 1 && dateTime.getYear() <= 9999;
+    }
+    
+    private void writeDateTime(final MySQLPacketPayload payload, final LocalDateTime data) {
+        payload.writeInt1(DATE_TIME_LENGTH);
+        ByteBuf byteBuf = payload.getByteBuf();
+        writeDigits(byteBuf, data.getYear(), 4);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, data.getMonthValue(), 2);
+        byteBuf.writeByte('-');
+        writeDigits(byteBuf, data.getDayOfMonth(), 2);
+        byteBuf.writeByte(' ');
+        writeDigits(byteBuf, data.getHour(), 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, data.getMinute(), 2);
+        byteBuf.writeByte(':');
+        writeDigits(byteBuf, data.getSecond(), 2);
+    }
+    
+    private void writeDigits(final ByteBuf byteBuf, final int value, final int digitCount) {
+        int divisor = 1;
+        for (int i = 1; i < digitCount; i++) {
+            divisor *= 10;
+        }
+        int remainder = value;
+        for (; divisor > 0; divisor /= 10) {
+            byteBuf.writeByte('0' + remainder / divisor);
+            remainder %= divisor;
+        }
+    }
 }
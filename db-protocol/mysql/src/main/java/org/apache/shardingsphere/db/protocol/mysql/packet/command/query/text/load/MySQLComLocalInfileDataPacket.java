@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * LOCAL INFILE data packet for MySQL, which carries file contents sent by client.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_local_infile_request.html">LOCAL INFILE Request</a>
+ */
+@Getter
+public final class MySQLComLocalInfileDataPacket extends MySQLCommandPacket {
+    
+    private final ByteBuf data;
+    
+    public MySQLComLocalInfileDataPacket(final MySQLPacketPayload payload) {
+        super(MySQLCommandPacketType.COM_LOCAL_INFILE_DATA);
+        data = payload.getByteBuf().readSlice(payload.getByteBuf().readableBytes());
+    }
+    
+    /**
+     * Judge whether is end of file, which is marked by empty packet.
+     *
+     * @return is end of file or not
+     */
+    public boolean isEndOfFile() {
+        return !data.isReadable();
+    }
+}
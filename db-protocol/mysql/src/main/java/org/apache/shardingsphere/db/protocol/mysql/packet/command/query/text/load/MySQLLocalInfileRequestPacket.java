@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+
+/**
+ * LOCAL INFILE request packet for MySQL.
+ * 
+ * @see <a href="https://dev.mysql.com/doc/dev/mysql-server/latest/page_protocol_com_query_response_local_infile_request.html">LOCAL INFILE Request</a>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class MySQLLocalInfileRequestPacket extends MySQLPacket {
+    
+    /**
+     * Header of LOCAL INFILE request packet.
+     */
+    public static final int HEADER = 0xFB;
+    
+    private final String fileName;
+    
+    @Override
+    protected void write(final MySQLPacketPayload payload) {
+        payload.writeInt1(HEADER);
+        payload.writeStringEOF(fileName);
+    }
+}
@@ -19,11 +19,13 @@ package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import com.google.common.base.Strings;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
 
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 
 /**
  * MySQL payload operation for MySQL packet data types.
@@ -241,11 +243,69 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte(0);
             return;
         }
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            int length = ByteBufUtil.utf8Bytes(value);
+            writeIntLenenc(length);
+            ByteBufUtil.reserveAndWriteUtf8(byteBuf, value, length);
+            return;
+        }
         byte[] valueBytes = value.getBytes(charset);
         writeIntLenenc(valueBytes.length);
         byteBuf.writeBytes(valueBytes);
     }
     
+    /**
+     * Write lenenc string of integer value to byte buffers without creating intermediate string.
+     *
+     * @param value integer value
+     */
+    public void writeStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(Long.toString(value));
+            return;
+        }
+        writeStringLenenc(value, 0);
+    }
+    
+    /**
+     * Write lenenc string of decimal value to byte buffers without creating intermediate string.
+     *
+     * <p>The text is the same as {@link java.math.BigDecimal#toPlainString()} of the decimal value.</p>
+     *
+     * @param unscaledValue unscaled value of decimal, absolute value must be less than {@link Long#MAX_VALUE}
+     * @param scale scale of decimal, must not be negative
+     */
+    public void writeStringLenenc(final long unscaledValue, final int scale) {
+        long absValue = Math.abs(unscaledValue);
+        int digitCount = Math.max(getDigitCount(absValue), scale + 1);
+        int length = digitCount + (scale > 0 ? 1 : 0) + (unscaledValue < 0 ? 1 : 0);
+        writeIntLenenc(length);
+        byteBuf.ensureWritable(length);
+        int startIndex = byteBuf.writerIndex();
+        if (unscaledValue < 0) {
+            byteBuf.setByte(startIndex, '-');
+        }
+        int index = startIndex + length - 1;
+        for (int i = 0; i < digitCount; i++) {
+            if (i == scale && scale > 0) {
+                byteBuf.setByte(index--, '.');
+            }
+            byteBuf.setByte(index--, '0' + (int) (absValue % 10L));
+            absValue /= 10L;
+        }
+        byteBuf.writerIndex(startIndex + length);
+    }
+    
+    private int getDigitCount(final long absValue) {
+        int result = 1;
+        long threshold = 10L;
+        while (result < 19 && absValue >= threshold) {
+            result++;
+            threshold *= 10L;
+        }
+        return result;
+    }
+    
     /**
      * Write lenenc bytes to byte buffers.
      *
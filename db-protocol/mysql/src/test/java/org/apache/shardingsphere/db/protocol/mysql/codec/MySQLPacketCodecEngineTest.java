@@ -49,6 +49,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -133,7 +134,7 @@ class MySQLPacketCodecEngineTest {
     void assertEncode() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(8);
+        when(byteBuf.writerIndex()).thenReturn(0, 8);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(1);
         new MySQLPacketCodecEngine().encode(context, actualMessage, byteBuf);
@@ -150,7 +151,7 @@ class MySQLPacketCodecEngineTest {
         when(context.alloc().compositeBuffer(6)).thenReturn(expected);
         when(context.alloc().ioBuffer(4, 4)).thenReturn(Unpooled.buffer(4, 4), Unpooled.buffer(4, 4), Unpooled.buffer(4, 4));
         MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
-        engine.encode(context, mock(MySQLPacket.class), prepareByteBufAlmost32MB());
+        engine.encode(context, mockPacketAlmost32MB(), Unpooled.buffer());
         verify(context).write(expected);
         assertThat(expected.numComponents(), is(5));
         assertThat(expected.component(0).getUnsignedByte(3), is((short) 0));
@@ -160,18 +161,33 @@ class MySQLPacketCodecEngineTest {
         assertThat(expected.component(4).getUnsignedByte(3), is((short) 2));
     }
     
-    private ByteBuf prepareByteBufAlmost32MB() {
-        int max = 0xFFFFFF << 1;
-        ByteBuf result = Unpooled.buffer(max + 4);
-        result.writerIndex(max);
-        return result.retain();
+    private MySQLPacket mockPacketAlmost32MB() {
+        MySQLPacket result = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeZero(0xFFFFFF << 1)).when(result).write(any(MySQLPacketPayload.class));
+        return result;
+    }
+    
+    @Test
+    void assertEncodeAfterPreviousPacket() {
+        ByteBuf out = Unpooled.buffer();
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doAnswer(invocation -> ((MySQLPacketPayload) invocation.getArgument(0)).getByteBuf().writeByte(1)).when(packet).write(any(MySQLPacketPayload.class));
+        context.channel().attr(MySQLConstants.MYSQL_SEQUENCE_ID).get().set(1);
+        MySQLPacketCodecEngine engine = new MySQLPacketCodecEngine();
+        engine.encode(context, packet, out);
+        engine.encode(context, packet, out);
+        assertThat(out.readableBytes(), is(10));
+        assertThat(out.getMediumLE(0), is(1));
+        assertThat(out.getUnsignedByte(3), is((short) 1));
+        assertThat(out.getMediumLE(5), is(1));
+        assertThat(out.getUnsignedByte(8), is((short) 2));
     }
     
     @Test
     void assertEncodeOccursException() {
         when(byteBuf.writeInt(anyInt())).thenReturn(byteBuf);
         when(byteBuf.markWriterIndex()).thenReturn(byteBuf);
-        when(byteBuf.readableBytes()).thenReturn(12);
+        when(byteBuf.writerIndex()).thenReturn(0, 12);
         RuntimeException ex = mock(RuntimeException.class);
         MySQLPacket actualMessage = mock(MySQLPacket.class);
         doThrow(ex).when(actualMessage).write(any(MySQLPacketPayload.class));
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text;
 
+import io.netty.buffer.Unpooled;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,12 +25,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,37 +57,70 @@ class MySQLTextResultSetRowPacketTest {
     void assertWrite() {
         long now = System.currentTimeMillis();
         Timestamp timestamp = new Timestamp(now);
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp, Boolean.TRUE));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        if (0 == timestamp.getNanos()) {
-            verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
-        } else {
-            verify(payload).writeStringLenenc(timestamp.toString());
-        }
-        verify(payload).writeBytesLenenc(new byte[]{1});
+        MySQLPacketPayload actual = write(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp, Boolean.TRUE));
+        assertThat(actual.readInt1(), is(0xfb));
+        assertThat(actual.readStringLenenc(), is("value"));
+        assertThat(actual.readStringLenenc(), is("1"));
+        assertThat(actual.readStringLenenc(), is(""));
+        assertThat(actual.readStringLenenc(), is(0 == timestamp.getNanos() ? timestamp.toString().split("\\.")[0] : timestamp.toString()));
+        assertThat(actual.readStringLenencByBytes(), is(new byte[]{1}));
     }
     
     @Test
     void assertTimestampWithoutNanos() {
         long now = System.currentTimeMillis() / 1000 * 1000;
         Timestamp timestamp = new Timestamp(now);
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Arrays.asList(null, "value", BigDecimal.ONE, new byte[]{}, timestamp));
-        actual.write(payload);
-        verify(payload).writeInt1(0xfb);
-        verify(payload).writeStringLenenc("value");
-        verify(payload).writeStringLenenc("1");
-        verify(payload).writeStringLenenc(timestamp.toString().split("\\.")[0]);
+        MySQLPacketPayload actual = write(Collections.singletonList(timestamp));
+        assertThat(actual.readStringLenenc(), is(timestamp.toString().split("\\.")[0]));
     }
     
     @Test
     void assertLocalDateTime() {
         String localDateTimeStr = "2021-08-23T17:30:30";
         LocalDateTime dateTime = LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"));
-        MySQLTextResultSetRowPacket actual = new MySQLTextResultSetRowPacket(Collections.singletonList(dateTime));
-        actual.write(payload);
-        verify(payload).writeStringLenenc(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.parse(localDateTimeStr, DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss"))));
+        MySQLPacketPayload actual = write(Collections.singletonList(dateTime));
+        assertThat(actual.readStringLenenc(), is(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").format(dateTime)));
+    }
+    
+    @Test
+    void assertLocalDateTimeWithSmallYear() {
+        MySQLPacketPayload actual = write(Collections.singletonList(LocalDateTime.of(9, 1, 2, 3, 4, 5, 6)));
+        assertThat(actual.readStringLenenc(), is("0009-01-02 03:04:05"));
+    }
+    
+    @Test
+    void assertIntegers() {
+        MySQLPacketPayload actual = write(Arrays.asList(0, -1, Integer.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE, (short) -12, (byte) 7, new BigInteger("123456789012345678901234567890")));
+        assertThat(actual.readStringLenenc(), is("0"));
+        assertThat(actual.readStringLenenc(), is("-1"));
+        assertThat(actual.readStringLenenc(), is(String.valueOf(Integer.MAX_VALUE)));
+        assertThat(actual.readStringLenenc(), is(String.valueOf(Long.MIN_VALUE)));
+        assertThat(actual.readStringLenenc(), is(String.valueOf(Long.MAX_VALUE)));
+        assertThat(actual.readStringLenenc(), is("-12"));
+        assertThat(actual.readStringLenenc(), is("7"));
+        assertThat(actual.readStringLenenc(), is("123456789012345678901234567890"));
+    }
+    
+    @Test
+    void assertDecimals() {
+        BigDecimal[] decimals = {new BigDecimal("0.005"), new BigDecimal("-0.005"), new BigDecimal("123.450"), new BigDecimal("-98765.4321"), new BigDecimal("1E+3"),
+                new BigDecimal("12345678901234567890.123"), BigDecimal.ZERO, new BigDecimal("0.00")};
+        MySQLPacketPayload actual = write(Arrays.asList((Object[]) decimals));
+        for (BigDecimal each : decimals) {
+            assertThat(actual.readStringLenenc(), is(each.toPlainString()));
+        }
+    }
+    
+    @Test
+    void assertBoolean() {
+        MySQLPacketPayload actual = write(Arrays.asList(Boolean.TRUE, Boolean.FALSE));
+        assertThat(actual.readStringLenencByBytes(), is(new byte[]{1}));
+        assertThat(actual.readStringLenencByBytes(), is(new byte[]{0}));
+    }
+    
+    private MySQLPacketPayload write(final List<Object> data) {
+        MySQLPacketPayload result = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        new MySQLTextResultSetRowPacket(data).write(result);
+        return result;
     }
 }
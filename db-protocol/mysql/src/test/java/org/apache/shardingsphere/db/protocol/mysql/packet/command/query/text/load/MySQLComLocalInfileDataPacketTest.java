@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLComLocalInfileDataPacketTest {
+    
+    @Test
+    void assertNewInstanceWithData() {
+        ByteBuf byteBuf = Unpooled.wrappedBuffer("1\tfoo\n".getBytes(StandardCharsets.UTF_8));
+        MySQLComLocalInfileDataPacket actual = new MySQLComLocalInfileDataPacket(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8));
+        assertThat(actual.getData().toString(StandardCharsets.UTF_8), is("1\tfoo\n"));
+        assertFalse(actual.isEndOfFile());
+        assertFalse(byteBuf.isReadable());
+    }
+    
+    @Test
+    void assertNewInstanceWithEndOfFile() {
+        assertTrue(new MySQLComLocalInfileDataPacket(new MySQLPacketPayload(Unpooled.EMPTY_BUFFER, StandardCharsets.UTF_8)).isEndOfFile());
+    }
+}
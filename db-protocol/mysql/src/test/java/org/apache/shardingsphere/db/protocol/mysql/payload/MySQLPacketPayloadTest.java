@@ -18,6 +18,7 @@
 package org.apache.shardingsphere.db.protocol.mysql.payload;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -208,6 +209,27 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeBytes("value".getBytes());
     }
     
+    @Test
+    void assertWriteStringLenencWithNonUTF8Charset() {
+        new MySQLPacketPayload(byteBuf, StandardCharsets.ISO_8859_1).writeStringLenenc("value");
+        verify(byteBuf).writeByte(5);
+        verify(byteBuf).writeBytes("value".getBytes());
+    }
+    
+    @Test
+    void assertWriteStringLenencWithLong() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        payload.writeStringLenenc(-1234567890123L);
+        assertThat(payload.readStringLenenc(), is("-1234567890123"));
+    }
+    
+    @Test
+    void assertWriteStringLenencWithDecimal() {
+        MySQLPacketPayload payload = new MySQLPacketPayload(Unpooled.buffer(), StandardCharsets.UTF_8);
+        payload.writeStringLenenc(-12345L, 7);
+        assertThat(payload.readStringLenenc(), is("-0.0012345"));
+    }
+    
     @Test
     void assertReadStringFix() {
         assertThat(new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).readStringFix(0), is(""));
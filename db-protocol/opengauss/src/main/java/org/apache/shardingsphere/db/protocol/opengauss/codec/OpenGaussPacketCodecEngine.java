@@ -107,6 +107,8 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        int startIndex = out.writerIndex();
+        out.markWriterIndex();
         boolean isIdentifierPacket = message instanceof PostgreSQLIdentifierPacket;
         if (isIdentifierPacket) {
             prepareMessageHeader(out, ((PostgreSQLIdentifierPacket) message).getIdentifier().getValue());
@@ -126,7 +128,7 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
             errorResponsePacket.write(payload);
         } finally {
             if (isIdentifierPacket) {
-                updateMessageLength(out);
+                updateMessageLength(out, startIndex);
             }
         }
     }
@@ -136,8 +138,8 @@ public final class OpenGaussPacketCodecEngine implements DatabasePacketCodecEngi
         out.writeInt(0);
     }
     
-    private void updateMessageLength(final ByteBuf out) {
-        out.setInt(1, out.readableBytes() - MESSAGE_TYPE_LENGTH);
+    private void updateMessageLength(final ByteBuf out, final int startIndex) {
+        out.setInt(startIndex + MESSAGE_TYPE_LENGTH, out.writerIndex() - startIndex - MESSAGE_TYPE_LENGTH);
     }
     
     @Override
@@ -36,25 +36,35 @@ import java.security.GeneralSecurityException;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Properties;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
 
 /**
  * AES encrypt algorithm.
  */
-@EqualsAndHashCode
+@EqualsAndHashCode(exclude = {"encryptCiphers", "decryptCiphers"})
 public final class AESEncryptAlgorithm implements EncryptAlgorithm {
     
     private static final String AES_KEY = "aes-key-value";
     
     private static final String DIGEST_ALGORITHM_NAME = "digest-algorithm-name";
     
+    private static final int MAX_POOLED_CIPHERS = Runtime.getRuntime().availableProcessors() * 2;
+    
     @Getter
     private final EncryptAlgorithmMetaData metaData = new EncryptAlgorithmMetaData(true, true, false);
     
+    private final Queue<Cipher> encryptCiphers = new ArrayBlockingQueue<>(MAX_POOLED_CIPHERS);
+    
+    private final Queue<Cipher> decryptCiphers = new ArrayBlockingQueue<>(MAX_POOLED_CIPHERS);
+    
     private byte[] secretKey;
     
     @Override
     public void init(final Properties props) {
         secretKey = getSecretKey(props);
+        encryptCiphers.clear();
+        decryptCiphers.clear();
     }
     
     private byte[] getSecretKey(final Properties props) {
@@ -64,29 +74,42 @@ public final class AESEncryptAlgorithm implements EncryptAlgorithm {
         return Arrays.copyOf(DigestUtils.getDigest(digestAlgorithm.toUpperCase()).digest(aesKey.getBytes(StandardCharsets.UTF_8)), 16);
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public String encrypt(final Object plainValue, final AlgorithmSQLContext algorithmSQLContext) {
         if (null == plainValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.ENCRYPT_MODE).doFinal(String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
+        byte[] result = doFinal(encryptCiphers, Cipher.ENCRYPT_MODE, String.valueOf(plainValue).getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(result);
     }
     
-    @SneakyThrows(GeneralSecurityException.class)
     @Override
     public Object decrypt(final Object cipherValue, final AlgorithmSQLContext algorithmSQLContext) {
         if (null == cipherValue) {
             return null;
         }
-        byte[] result = getCipher(Cipher.DECRYPT_MODE).doFinal(Base64.getDecoder().decode(cipherValue.toString().trim()));
+        byte[] result = doFinal(decryptCiphers, Cipher.DECRYPT_MODE, Base64.getDecoder().decode(cipherValue.toString().trim()));
         return new String(result, StandardCharsets.UTF_8);
     }
     
-    private Cipher getCipher(final int decryptMode) throws GeneralSecurityException {
+    /*
+     * Ciphers are pooled per algorithm and shared by all threads, so they are reused by short-lived virtual threads as well, and the pool size is bounded.
+     * Cipher is reset to its initialized state after doFinal completes, so it is returned to the pool. A cipher which failed is discarded to avoid reusing an unknown state.
+     */
+    @SneakyThrows(GeneralSecurityException.class)
+    private byte[] doFinal(final Queue<Cipher> ciphers, final int mode, final byte[] input) {
+        Cipher cipher = ciphers.poll();
+        if (null == cipher) {
+            cipher = createCipher(mode);
+        }
+        byte[] result = cipher.doFinal(input);
+        ciphers.offer(cipher);
+        return result;
+    }
+    
+    private Cipher createCipher(final int mode) throws GeneralSecurityException {
         Cipher result = Cipher.getInstance(getType());
-        result.init(decryptMode, new SecretKeySpec(secretKey, getType()));
+        result.init(mode, new SecretKeySpec(secretKey, getType()));
         return result;
     }
     
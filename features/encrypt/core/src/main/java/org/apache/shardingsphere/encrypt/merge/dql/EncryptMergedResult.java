@@ -19,7 +19,9 @@ package org.apache.shardingsphere.encrypt.merge.dql;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
-import org.apache.shardingsphere.encrypt.rule.column.EncryptColumn;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
@@ -35,16 +37,41 @@ import java.util.Optional;
 /**
  * Merged result for encrypt.
  */
-@RequiredArgsConstructor
 public final class EncryptMergedResult implements MergedResult {
     
-    private final ShardingSphereDatabase database;
+    private final MergedResult mergedResult;
     
-    private final EncryptRule encryptRule;
+    private final EncryptColumnDecryptor[] decryptors;
     
-    private final SelectStatementContext selectStatementContext;
+    public EncryptMergedResult(final ShardingSphereDatabase database, final EncryptRule encryptRule, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) {
+        this.mergedResult = mergedResult;
+        decryptors = createDecryptors(database, encryptRule, selectStatementContext);
+    }
     
-    private final MergedResult mergedResult;
+    private EncryptColumnDecryptor[] createDecryptors(final ShardingSphereDatabase database, final EncryptRule encryptRule, final SelectStatementContext selectStatementContext) {
+        int columnCount = selectStatementContext.getProjectionsContext().getExpandProjections().size();
+        EncryptColumnDecryptor[] result = new EncryptColumnDecryptor[columnCount];
+        String schemaName = null;
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
+            if (!columnProjection.isPresent()) {
+                continue;
+            }
+            String originalTableName = columnProjection.get().getOriginalTable().getValue();
+            String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
+            Optional<EncryptTable> encryptTable = encryptRule.findEncryptTable(originalTableName).filter(optional -> optional.isEncryptColumn(originalColumnName));
+            if (!encryptTable.isPresent()) {
+                continue;
+            }
+            if (null == schemaName) {
+                schemaName = selectStatementContext.getTablesContext().getSchemaName()
+                        .orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
+            }
+            result[columnIndex - 1] = new EncryptColumnDecryptor(encryptTable.get().getEncryptColumn(originalColumnName).getCipher().getEncryptor(),
+                    new AlgorithmSQLContext(database.getName(), schemaName, originalTableName, originalColumnName));
+        }
+        return result;
+    }
     
     @Override
     public boolean next() throws SQLException {
@@ -53,20 +80,8 @@ public final class EncryptMergedResult implements MergedResult {
     
     @Override
     public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
-        Optional<ColumnProjection> columnProjection = selectStatementContext.findColumnProjection(columnIndex);
-        if (!columnProjection.isPresent()) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        String originalTableName = columnProjection.get().getOriginalTable().getValue();
-        String originalColumnName = columnProjection.get().getOriginalColumn().getValue();
-        if (!encryptRule.findEncryptTable(originalTableName).map(optional -> optional.isEncryptColumn(originalColumnName)).orElse(false)) {
-            return mergedResult.getValue(columnIndex, type);
-        }
-        Object cipherValue = mergedResult.getValue(columnIndex, Object.class);
-        EncryptColumn encryptColumn = encryptRule.getEncryptTable(originalTableName).getEncryptColumn(originalColumnName);
-        String schemaName =
-                selectStatementContext.getTablesContext().getSchemaName().orElseGet(() -> new DatabaseTypeRegistry(selectStatementContext.getDatabaseType()).getDefaultSchemaName(database.getName()));
-        return encryptColumn.getCipher().decrypt(database.getName(), schemaName, originalTableName, originalColumnName, cipherValue);
+        EncryptColumnDecryptor decryptor = columnIndex > decryptors.length ? null : decryptors[columnIndex - 1];
+        return null == decryptor ? mergedResult.getValue(columnIndex, type) : decryptor.decrypt(mergedResult.getValue(columnIndex, Object.class));
     }
     
     @Override
@@ -88,4 +103,21 @@ public final class EncryptMergedResult implements MergedResult {
     public boolean wasNull() throws SQLException {
         return mergedResult.wasNull();
     }
+    
+    @Override
+    public void close() throws SQLException {
+        mergedResult.close();
+    }
+    
+    @RequiredArgsConstructor
+    private static final class EncryptColumnDecryptor {
+        
+        private final EncryptAlgorithm encryptor;
+        
+        private final AlgorithmSQLContext algorithmSQLContext;
+        
+        private Object decrypt(final Object cipherValue) {
+            return null == cipherValue ? null : encryptor.decrypt(cipherValue, algorithmSQLContext);
+        }
+    }
 }
@@ -28,8 +28,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockedStatic;
 
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +104,38 @@ class AESEncryptAlgorithmTest {
     void assertDecryptNullValue() {
         assertNull(encryptAlgorithm.decrypt(null, mock(AlgorithmSQLContext.class)));
     }
+    
+    @Test
+    void assertEncryptAndDecryptWithDifferentKeys() {
+        EncryptAlgorithm otherEncryptAlgorithm = TypedSPILoader.getService(EncryptAlgorithm.class, "AES", PropertiesBuilder.build(new Property("aes-key-value", "other")));
+        Object actual = otherEncryptAlgorithm.encrypt("test", mock(AlgorithmSQLContext.class));
+        assertThat(otherEncryptAlgorithm.decrypt(actual, mock(AlgorithmSQLContext.class)), is("test"));
+        assertThat(encryptAlgorithm.encrypt("test", mock(AlgorithmSQLContext.class)), is("dSpPiyENQGDUXMKFMJPGWA=="));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class)), is("test"));
+    }
+    
+    @Test
+    void assertDecryptAfterFailure() {
+        assertThrows(GeneralSecurityException.class, () -> encryptAlgorithm.decrypt("dGVzdA==", mock(AlgorithmSQLContext.class)));
+        assertThat(encryptAlgorithm.decrypt("dSpPiyENQGDUXMKFMJPGWA==", mock(AlgorithmSQLContext.class)), is("test"));
+    }
+    
+    @Test
+    void assertEncryptAndDecryptConcurrently() throws InterruptedException, ExecutionException {
+        AlgorithmSQLContext algorithmSQLContext = mock(AlgorithmSQLContext.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+        try {
+            Collection<Future<Object>> futures = new LinkedList<>();
+            for (int i = 0; i < 1000; i++) {
+                String plainValue = "test_" + i;
+                futures.add(executorService.submit(() -> encryptAlgorithm.decrypt(encryptAlgorithm.encrypt(plainValue, algorithmSQLContext), algorithmSQLContext)));
+            }
+            int index = 0;
+            for (Future<Object> each : futures) {
+                assertThat(each.get(), is("test_" + index++));
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
 }
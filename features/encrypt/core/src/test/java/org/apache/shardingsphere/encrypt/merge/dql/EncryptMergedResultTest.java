@@ -18,11 +18,17 @@
 package org.apache.shardingsphere.encrypt.merge.dql;
 
 import org.apache.shardingsphere.encrypt.rule.EncryptRule;
+import org.apache.shardingsphere.encrypt.rule.EncryptTable;
+import org.apache.shardingsphere.encrypt.spi.EncryptAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.ColumnProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -30,11 +36,17 @@ import java.io.InputStream;
 import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Optional;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -47,7 +59,7 @@ class EncryptMergedResultTest {
     @Mock
     private EncryptRule encryptRule;
     
-    @Mock
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private SelectStatementContext selectStatementContext;
     
     @Mock
@@ -58,6 +70,51 @@ class EncryptMergedResultTest {
         assertFalse(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).next());
     }
     
+    @Test
+    void assertGetValueWithoutColumnProjection() throws SQLException {
+        when(selectStatementContext.getProjectionsContext().getExpandProjections()).thenReturn(Collections.singletonList(mock(Projection.class)));
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo_value");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("foo_value"));
+    }
+    
+    @Test
+    void assertGetValueWithOutOfProjectionsColumnIndex() throws SQLException {
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo_value");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("foo_value"));
+    }
+    
+    @Test
+    void assertGetValueWithoutEncryptColumn() throws SQLException {
+        mockColumnProjection();
+        when(encryptRule.findEncryptTable("foo_tbl")).thenReturn(Optional.empty());
+        when(mergedResult.getValue(1, String.class)).thenReturn("foo_value");
+        assertThat(new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult).getValue(1, String.class), is("foo_value"));
+    }
+    
+    @Test
+    void assertGetValueWithEncryptColumn() throws SQLException {
+        mockColumnProjection();
+        EncryptTable encryptTable = mock(EncryptTable.class, RETURNS_DEEP_STUBS);
+        when(encryptTable.isEncryptColumn("foo_col")).thenReturn(true);
+        EncryptAlgorithm encryptor = mock(EncryptAlgorithm.class);
+        when(encryptor.decrypt(eq("foo_cipher_value"), any(AlgorithmSQLContext.class))).thenReturn("foo_plain_value");
+        when(encryptTable.getEncryptColumn("foo_col").getCipher().getEncryptor()).thenReturn(encryptor);
+        when(encryptRule.findEncryptTable("foo_tbl")).thenReturn(Optional.of(encryptTable));
+        when(selectStatementContext.getTablesContext().getSchemaName()).thenReturn(Optional.of("foo_schema"));
+        when(mergedResult.getValue(1, Object.class)).thenReturn("foo_cipher_value", (Object) null);
+        EncryptMergedResult actual = new EncryptMergedResult(database, encryptRule, selectStatementContext, mergedResult);
+        assertThat(actual.getValue(1, String.class), is("foo_plain_value"));
+        assertNull(actual.getValue(1, String.class));
+    }
+    
+    private void mockColumnProjection() {
+        ColumnProjection columnProjection = mock(ColumnProjection.class, RETURNS_DEEP_STUBS);
+        when(columnProjection.getOriginalTable().getValue()).thenReturn("foo_tbl");
+        when(columnProjection.getOriginalColumn().getValue()).thenReturn("foo_col");
+        when(selectStatementContext.getProjectionsContext().getExpandProjections()).thenReturn(Collections.singletonList(columnProjection));
+        when(selectStatementContext.findColumnProjection(1)).thenReturn(Optional.of(columnProjection));
+    }
+    
     @Test
     void assertGetCalendarValue() throws SQLException {
         Calendar calendar = Calendar.getInstance();
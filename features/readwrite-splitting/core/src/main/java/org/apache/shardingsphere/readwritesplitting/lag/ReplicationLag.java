@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replication lag of read data source.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ReplicationLag {
+    
+    private static final long EXPIRED_MILLISECONDS = 10000L;
+    
+    private final long lagMilliseconds;
+    
+    private final long probedTimeMillis;
+    
+    /**
+     * Judge whether replication lag is expired, which means read data source has not been probed successfully for a while.
+     *
+     * @param currentTimeMillis current time milliseconds
+     * @return replication lag is expired or not
+     */
+    public boolean isExpired(final long currentTimeMillis) {
+        return currentTimeMillis - probedTimeMillis > EXPIRED_MILLISECONDS;
+    }
+}
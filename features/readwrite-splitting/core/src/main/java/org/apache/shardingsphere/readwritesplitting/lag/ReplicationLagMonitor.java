@@ -0,0 +1,174 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeFactory;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Replication lag monitor.
+ * 
+ * <p>Read data sources are probed in background, and each round publishes an immutable snapshot to data source rules, so routing reads lags without locking.
+ * Lag of read data source which can not be probed is unknown, and such read data source is not excluded.</p>
+ * 
+ * <p>Read data sources are probed independently and each round waits for them until a deadline, so a hung read data source can not stall probing of others.
+ * Probe of a hung read data source is not submitted again until it finished, and its last lag is kept, which is treated as exceeded after expired.</p>
+ */
+@Slf4j
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    private static final long PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private static final int PROBE_QUERY_TIMEOUT_SECONDS = 1;
+    
+    private static final long PROBE_DEADLINE_MILLISECONDS = 2000L;
+    
+    private final Collection<ReadwriteSplittingDataSourceRule> dataSourceRules;
+    
+    private final Map<String, DataSource> dataSources;
+    
+    private final Map<String, Optional<ReplicationLagProbe>> probes = new ConcurrentHashMap<>();
+    
+    private final Map<String, Future<Optional<Long>>> runningProbes = new HashMap<>();
+    
+    private final Map<String, ReplicationLag> replicationLags = new HashMap<>();
+    
+    private final ScheduledExecutorService executor;
+    
+    private final ExecutorService probeExecutor;
+    
+    public ReplicationLagMonitor(final String databaseName, final Collection<ReadwriteSplittingDataSourceRule> dataSourceRules, final Map<String, DataSource> dataSources) {
+        this.dataSourceRules = dataSourceRules;
+        this.dataSources = dataSources;
+        executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("ReadwriteSplitting-ReplicationLag-" + databaseName + "-%d"));
+        probeExecutor = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("ReadwriteSplitting-ReplicationLag-Probe-" + databaseName + "-%d"));
+    }
+    
+    /**
+     * Start probing in background.
+     */
+    public void start() {
+        executor.scheduleWithFixedDelay(this::probe, 0L, PROBE_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Probe replication lags of read data sources.
+     */
+    public synchronized void probe() {
+        for (ReadwriteSplittingDataSourceRule each : dataSourceRules) {
+            for (String dataSourceName : each.getReadwriteSplittingGroup().getReadDataSources()) {
+                DataSource dataSource = dataSources.get(dataSourceName);
+                if (null != dataSource && !runningProbes.containsKey(dataSourceName)) {
+                    runningProbes.put(dataSourceName, probeExecutor.submit(() -> probe(dataSourceName, dataSource)));
+                }
+            }
+        }
+        waitRunningProbes(System.currentTimeMillis() + PROBE_DEADLINE_MILLISECONDS);
+        for (ReadwriteSplittingDataSourceRule each : dataSourceRules) {
+            Map<String, ReplicationLag> result = new HashMap<>(each.getReadwriteSplittingGroup().getReadDataSources().size(), 1F);
+            for (String dataSourceName : each.getReadwriteSplittingGroup().getReadDataSources()) {
+                ReplicationLag replicationLag = replicationLags.get(dataSourceName);
+                if (null != replicationLag) {
+                    result.put(dataSourceName, replicationLag);
+                }
+            }
+            each.updateReplicationLags(Collections.unmodifiableMap(result));
+        }
+    }
+    
+    private void waitRunningProbes(final long deadlineMillis) {
+        Iterator<Entry<String, Future<Optional<Long>>>> iterator = runningProbes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry<String, Future<Optional<Long>>> entry = iterator.next();
+            try {
+                Optional<Long> replicationLag = entry.getValue().get(Math.max(0L, deadlineMillis - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+                if (replicationLag.isPresent()) {
+                    replicationLags.put(entry.getKey(), new ReplicationLag(replicationLag.get(), System.currentTimeMillis()));
+                } else {
+                    replicationLags.remove(entry.getKey());
+                }
+                iterator.remove();
+            } catch (final TimeoutException ex) {
+                log.warn("Probe replication lag of data source `{}` is not finished in {} milliseconds.", entry.getKey(), PROBE_DEADLINE_MILLISECONDS);
+            } catch (final ExecutionException ex) {
+                replicationLags.remove(entry.getKey());
+                iterator.remove();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    private Optional<Long> probe(final String dataSourceName, final DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            Optional<ReplicationLagProbe> probe = findProbe(dataSourceName, connection);
+            return probe.isPresent() ? Optional.of(probe(probe.get(), connection)) : Optional.empty();
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Probe replication lag of data source `{}` failed, reason is: {}", dataSourceName, ex.getMessage());
+            return Optional.empty();
+        }
+    }
+    
+    private long probe(final ReplicationLagProbe probe, final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout(PROBE_QUERY_TIMEOUT_SECONDS);
+            return probe.getReplicationLagMilliseconds(statement);
+        }
+    }
+    
+    private Optional<ReplicationLagProbe> findProbe(final String dataSourceName, final Connection connection) throws SQLException {
+        Optional<ReplicationLagProbe> result = probes.get(dataSourceName);
+        if (null == result) {
+            result = DatabaseTypedSPILoader.findService(ReplicationLagProbe.class, DatabaseTypeFactory.get(connection.getMetaData().getURL()));
+            probes.put(dataSourceName, result);
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        probeExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Replication lag probe for openGauss.
+ * 
+ * <p>Standby which has replayed all received xlog is treated as no lag, otherwise lag is the time since last replayed transaction.</p>
+ */
+public final class OpenGaussReplicationLagProbe implements ReplicationLagProbe {
+    
+    private static final String QUERY_REPLICATION_LAG = "SELECT CASE WHEN NOT pg_is_in_recovery() OR pg_last_xlog_receive_location() = pg_last_xlog_replay_location() THEN 0"
+            + " ELSE CAST(COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) AS BIGINT) END";
+    
+    @Override
+    public long getReplicationLagMilliseconds(final Statement statement) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(QUERY_REPLICATION_LAG)) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "openGauss";
+    }
+}
@@ -17,8 +17,6 @@
 
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
-import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
-import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
 
 import java.util.List;
@@ -32,17 +30,10 @@ public final class StandardReadwriteSplittingDataSourceRouter {
      * Route to data source.
      *
      * @param rule Readwrite-splitting data source rule
-     * @return routed data source name
+     * @return routed data source name, write data source if no read data source available
      */
     public String route(final ReadwriteSplittingDataSourceRule rule) {
-        return rule.getLoadBalancer().getTargetName(rule.getName(), getFilteredReadDataSources(rule));
-    }
-    
-    private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceRule rule) {
-        List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
-        for (ReadDataSourcesFilter each : ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class)) {
-            result = each.filter(rule, result);
-        }
-        return result;
+        List<String> readDataSources = rule.getAvailableReadDataSources();
+        return readDataSources.isEmpty() ? rule.getWriteDataSource() : rule.getLoadBalancer().getTargetName(rule.getName(), readDataSources);
     }
 }
@@ -17,15 +17,23 @@
 
 package org.apache.shardingsphere.readwritesplitting.rule;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
 import org.apache.shardingsphere.readwritesplitting.group.ReadwriteSplittingGroup;
 import org.apache.shardingsphere.readwritesplitting.group.type.StaticReadwriteSplittingGroup;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Readwrite-splitting data source rule.
@@ -41,7 +49,16 @@ public final class ReadwriteSplittingDataSourceRule {
     
     private final ReadwriteSplittingGroup readwriteSplittingGroup;
     
-    private final Collection<String> disabledDataSourceNames = new HashSet<>();
+    private final Collection<String> disabledDataSourceNames = ConcurrentHashMap.newKeySet();
+    
+    private final long maxReplicationLagMilliseconds;
+    
+    private volatile Map<String, ReplicationLag> replicationLags = Collections.emptyMap();
+    
+    @Getter(AccessLevel.NONE)
+    private final Collection<ReadDataSourcesFilter> readDataSourcesFilters = ShardingSphereServiceLoader.getServiceInstances(ReadDataSourcesFilter.class);
+    
+    private volatile List<String> availableReadDataSources;
     
     public ReadwriteSplittingDataSourceRule(final ReadwriteSplittingDataSourceRuleConfiguration config, final TransactionalReadQueryStrategy transactionalReadQueryStrategy,
                                             final LoadBalanceAlgorithm loadBalancer) {
@@ -49,6 +66,8 @@ public final class ReadwriteSplittingDataSourceRule {
         this.transactionalReadQueryStrategy = transactionalReadQueryStrategy;
         this.loadBalancer = loadBalancer;
         readwriteSplittingGroup = createStaticReadwriteSplittingGroup(config);
+        maxReplicationLagMilliseconds = config.getMaxReplicationLagMilliseconds();
+        refreshAvailableReadDataSources();
     }
     
     private StaticReadwriteSplittingGroup createStaticReadwriteSplittingGroup(final ReadwriteSplittingDataSourceRuleConfiguration config) {
@@ -69,8 +88,9 @@ public final class ReadwriteSplittingDataSourceRule {
      *
      * @param dataSourceName data source name to be enabled.
      */
-    public void enableDataSource(final String dataSourceName) {
+    public synchronized void enableDataSource(final String dataSourceName) {
         disabledDataSourceNames.remove(dataSourceName);
+        refreshAvailableReadDataSources();
     }
     
     /**
@@ -78,7 +98,39 @@ public final class ReadwriteSplittingDataSourceRule {
      *
      * @param dataSourceName data source name to be disabled.
      */
-    public void disableDataSource(final String dataSourceName) {
+    public synchronized void disableDataSource(final String dataSourceName) {
         disabledDataSourceNames.add(dataSourceName);
+        refreshAvailableReadDataSources();
+    }
+    
+    /**
+     * Update replication lags of read data sources.
+     *
+     * @param replicationLags replication lags of read data sources
+     */
+    public synchronized void updateReplicationLags(final Map<String, ReplicationLag> replicationLags) {
+        this.replicationLags = replicationLags;
+        refreshAvailableReadDataSources();
+    }
+    
+    /**
+     * Judge whether replication lag of read data source exceeds max replication lag.
+     * 
+     * <p>Expired replication lag is treated as exceeded, since the read data source can not be proved to be caught up.</p>
+     *
+     * @param dataSourceName read data source name
+     * @return replication lag exceeds max replication lag or not
+     */
+    public boolean isReplicationLagExceeded(final String dataSourceName) {
+        ReplicationLag replicationLag = replicationLags.get(dataSourceName);
+        return null != replicationLag && (replicationLag.getLagMilliseconds() > maxReplicationLagMilliseconds || replicationLag.isExpired(System.currentTimeMillis()));
+    }
+    
+    private void refreshAvailableReadDataSources() {
+        List<String> result = readwriteSplittingGroup.getReadDataSources();
+        for (ReadDataSourcesFilter each : readDataSourcesFilters) {
+            result = each.filter(this, result);
+        }
+        availableReadDataSources = Collections.unmodifiableList(new ArrayList<>(result));
     }
 }
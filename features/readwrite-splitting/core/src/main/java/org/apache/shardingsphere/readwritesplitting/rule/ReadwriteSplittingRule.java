@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAware;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
@@ -29,11 +31,14 @@ import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.readwritesplitting.api.ReadwriteSplittingRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.InvalidInlineExpressionDataSourcesException;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingDataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingExportableRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
 
+import javax.sql.DataSource;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -44,7 +49,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -57,21 +62,28 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     @Getter
     private final RuleAttributes attributes;
     
-    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final InstanceContext instanceContext) {
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final Map<String, DataSource> dataSources, final InstanceContext instanceContext) {
         configuration = ruleConfig;
-        loadBalancers = createLoadBalancers(ruleConfig);
+        loadBalancers = createLoadBalancers(databaseName, ruleConfig);
         dataSourceRules = createDataSourceRules(ruleConfig);
+        replicationLagMonitor = createReplicationLagMonitor(databaseName, dataSources);
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRules.values()), new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRules, instanceContext),
                 new ReadwriteSplittingExportableRuleAttribute(dataSourceRules), new ReadwriteSplittingStorageConnectorReusableRuleAttribute());
     }
     
-    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final ReadwriteSplittingRuleConfiguration ruleConfig) {
+    private Map<String, LoadBalanceAlgorithm> createLoadBalancers(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig) {
         Map<String, LoadBalanceAlgorithm> result = new LinkedHashMap<>(ruleConfig.getDataSources().size(), 1F);
         for (ReadwriteSplittingDataSourceRuleConfiguration each : ruleConfig.getDataSources()) {
             if (ruleConfig.getLoadBalancers().containsKey(each.getLoadBalancerName())) {
                 AlgorithmConfiguration algorithmConfig = ruleConfig.getLoadBalancers().get(each.getLoadBalancerName());
-                result.put(each.getName() + "." + each.getLoadBalancerName(), TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps()));
+                LoadBalanceAlgorithm loadBalancer = TypedSPILoader.getService(LoadBalanceAlgorithm.class, algorithmConfig.getType(), algorithmConfig.getProps());
+                if (loadBalancer instanceof DatabaseNameAware) {
+                    ((DatabaseNameAware) loadBalancer).setDatabaseName(databaseName);
+                }
+                result.put(each.getName() + "." + each.getLoadBalancerName(), loadBalancer);
             }
         }
         return result;
@@ -109,11 +121,23 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return result;
     }
     
+    private ReplicationLagMonitor createReplicationLagMonitor(final String databaseName, final Map<String, DataSource> dataSources) {
+        Collection<ReadwriteSplittingDataSourceRule> lagAwareDataSourceRules =
+                dataSourceRules.values().stream().filter(each -> each.getMaxReplicationLagMilliseconds() > 0L).collect(Collectors.toList());
+        if (lagAwareDataSourceRules.isEmpty()) {
+            return null;
+        }
+        ReplicationLagMonitor result = new ReplicationLagMonitor(databaseName, lagAwareDataSourceRules, dataSources);
+        result.start();
+        return result;
+    }
+    
     private ReadwriteSplittingDataSourceRuleConfiguration createStaticDataSourceRuleConfiguration(final ReadwriteSplittingDataSourceRuleConfiguration config, final int index,
                                                                                                   final List<String> readwriteDataSourceNames, final List<String> writeDatasourceNames,
                                                                                                   final List<List<String>> readDatasourceNames) {
         List<String> readDataSourceNames = readDatasourceNames.stream().map(each -> each.get(index)).collect(Collectors.toList());
-        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
+        return new ReadwriteSplittingDataSourceRuleConfiguration(readwriteDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames,
+                config.getTransactionalReadQueryStrategy(), config.getLoadBalancerName(), config.getMaxReplicationLagMilliseconds());
     }
     
     /**
@@ -134,4 +158,17 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public Optional<ReadwriteSplittingDataSourceRule> findDataSourceRule(final String dataSourceName) {
         return Optional.ofNullable(dataSourceRules.get(dataSourceName));
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        if (null != replicationLagMonitor) {
+            replicationLagMonitor.close();
+        }
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
@@ -37,4 +37,6 @@ public final class YamlReadwriteSplittingDataSourceRuleConfiguration implements
     private String transactionalReadQueryStrategy;
     
     private String loadBalancerName;
+    
+    private Long maxReplicationLagMilliseconds;
 }
@@ -70,6 +70,9 @@ public final class YamlReadwriteSplittingDataNodeRuleConfigurationSwapper implem
         result.setReadDataSourceNames(dataSourceRuleConfig.getReadDataSourceNames());
         result.setTransactionalReadQueryStrategy(dataSourceRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceRuleConfig.getLoadBalancerName());
+        if (dataSourceRuleConfig.getMaxReplicationLagMilliseconds() > 0L) {
+            result.setMaxReplicationLagMilliseconds(dataSourceRuleConfig.getMaxReplicationLagMilliseconds());
+        }
         return result;
     }
     
@@ -92,7 +95,8 @@ public final class YamlReadwriteSplittingDataNodeRuleConfigurationSwapper implem
     
     private ReadwriteSplittingDataSourceRuleConfiguration swapDataSource(final String name, final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
         return new ReadwriteSplittingDataSourceRuleConfiguration(name, yamlDataSourceRuleConfig.getWriteDataSourceName(), yamlDataSourceRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                getMaxReplicationLagMilliseconds(yamlDataSourceRuleConfig));
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
@@ -101,6 +105,10 @@ public final class YamlReadwriteSplittingDataNodeRuleConfigurationSwapper implem
                 : TransactionalReadQueryStrategy.valueOf(yamlDataSourceRuleConfig.getTransactionalReadQueryStrategy());
     }
     
+    private long getMaxReplicationLagMilliseconds(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getMaxReplicationLagMilliseconds() ? 0L : yamlDataSourceRuleConfig.getMaxReplicationLagMilliseconds();
+    }
+    
     @Override
     public Class<ReadwriteSplittingRuleConfiguration> getTypeClass() {
         return ReadwriteSplittingRuleConfiguration.class;
@@ -61,6 +61,9 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper
         result.setReadDataSourceNames(dataSourceRuleConfig.getReadDataSourceNames());
         result.setTransactionalReadQueryStrategy(dataSourceRuleConfig.getTransactionalReadQueryStrategy().name());
         result.setLoadBalancerName(dataSourceRuleConfig.getLoadBalancerName());
+        if (dataSourceRuleConfig.getMaxReplicationLagMilliseconds() > 0L) {
+            result.setMaxReplicationLagMilliseconds(dataSourceRuleConfig.getMaxReplicationLagMilliseconds());
+        }
         return result;
     }
     
@@ -79,7 +82,8 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper
     
     private ReadwriteSplittingDataSourceRuleConfiguration swapToObject(final String name, final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
         return new ReadwriteSplittingDataSourceRuleConfiguration(name, yamlDataSourceRuleConfig.getWriteDataSourceName(), yamlDataSourceRuleConfig.getReadDataSourceNames(),
-                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName());
+                getTransactionalReadQueryStrategy(yamlDataSourceRuleConfig), yamlDataSourceRuleConfig.getLoadBalancerName(),
+                getMaxReplicationLagMilliseconds(yamlDataSourceRuleConfig));
     }
     
     private TransactionalReadQueryStrategy getTransactionalReadQueryStrategy(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
@@ -88,6 +92,10 @@ public final class YamlReadwriteSplittingRuleConfigurationSwapper
                 : TransactionalReadQueryStrategy.valueOf(yamlDataSourceRuleConfig.getTransactionalReadQueryStrategy());
     }
     
+    private long getMaxReplicationLagMilliseconds(final YamlReadwriteSplittingDataSourceRuleConfiguration yamlDataSourceRuleConfig) {
+        return null == yamlDataSourceRuleConfig.getMaxReplicationLagMilliseconds() ? 0L : yamlDataSourceRuleConfig.getMaxReplicationLagMilliseconds();
+    }
+    
     @Override
     public Class<ReadwriteSplittingRuleConfiguration> getTypeClass() {
         return ReadwriteSplittingRuleConfiguration.class;
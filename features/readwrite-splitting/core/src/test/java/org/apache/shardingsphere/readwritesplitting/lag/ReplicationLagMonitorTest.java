@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagMonitorTest {
+    
+    @Test
+    void assertProbe() throws SQLException {
+        ReadwriteSplittingDataSourceRule rule = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds",
+                Arrays.asList("read_ds_0", "read_ds_1", "read_ds_2"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L), TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        Map<String, DataSource> dataSources = new HashMap<>(3, 1F);
+        dataSources.put("read_ds_0", mockMySQLDataSource(10L));
+        dataSources.put("read_ds_1", mockMySQLDataSource(0L));
+        DataSource failedDataSource = mock(DataSource.class);
+        when(failedDataSource.getConnection()).thenThrow(SQLException.class);
+        dataSources.put("read_ds_2", failedDataSource);
+        try (ReplicationLagMonitor monitor = new ReplicationLagMonitor("foo_db", Collections.singleton(rule), dataSources)) {
+            monitor.probe();
+        }
+        verify(dataSources.get("read_ds_0").getConnection().createStatement()).setQueryTimeout(1);
+        assertTrue(rule.isReplicationLagExceeded("read_ds_0"));
+        assertFalse(rule.isReplicationLagExceeded("read_ds_1"));
+        assertFalse(rule.isReplicationLagExceeded("read_ds_2"));
+    }
+    
+    @Test
+    void assertProbeWithHungDataSource() throws SQLException {
+        ReadwriteSplittingDataSourceRule rule = new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds",
+                Arrays.asList("read_ds_0", "read_ds_1"), TransactionalReadQueryStrategy.DYNAMIC, null, 1000L), TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        Map<String, DataSource> dataSources = new HashMap<>(2, 1F);
+        dataSources.put("read_ds_0", mockMySQLDataSource(10L));
+        CountDownLatch hungLatch = new CountDownLatch(1);
+        DataSource hungDataSource = mock(DataSource.class);
+        when(hungDataSource.getConnection()).thenAnswer(invocation -> {
+            hungLatch.await();
+            throw new SQLException("Connection is not available");
+        });
+        dataSources.put("read_ds_1", hungDataSource);
+        try (ReplicationLagMonitor monitor = new ReplicationLagMonitor("foo_db", Collections.singleton(rule), dataSources)) {
+            assertTimeoutPreemptively(Duration.ofSeconds(10L), monitor::probe);
+        } finally {
+            hungLatch.countDown();
+        }
+        assertTrue(rule.isReplicationLagExceeded("read_ds_0"));
+        assertFalse(rule.isReplicationLagExceeded("read_ds_1"));
+    }
+    
+    private DataSource mockMySQLDataSource(final long secondsBehindSource) throws SQLException {
+        DataSource result = mock(DataSource.class);
+        Connection connection = mock(Connection.class, RETURNS_DEEP_STUBS);
+        when(result.getConnection()).thenReturn(connection);
+        when(connection.getMetaData().getURL()).thenReturn("jdbc:mysql://127.0.0.1:3306/foo_db");
+        ResultSet resultSet = mock(ResultSet.class, RETURNS_DEEP_STUBS);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(1);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("Seconds_Behind_Source");
+        when(resultSet.getLong(1)).thenReturn(secondsBehindSource);
+        return result;
+    }
+}
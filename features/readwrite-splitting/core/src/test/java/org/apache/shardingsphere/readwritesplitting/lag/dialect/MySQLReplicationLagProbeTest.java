@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLReplicationLagProbeTest {
+    
+    @Mock
+    private Statement statement;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ResultSet resultSet;
+    
+    @Test
+    void assertGetReplicationLagMillisecondsWithoutReplicaStatus() throws SQLException {
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(statement), is(0L));
+    }
+    
+    @Test
+    void assertGetReplicationLagMilliseconds() throws SQLException {
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        mockReplicaStatus("Seconds_Behind_Source");
+        when(resultSet.getLong(2)).thenReturn(3L);
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(statement), is(3000L));
+    }
+    
+    @Test
+    void assertGetReplicationLagMillisecondsWithReplicationStopped() throws SQLException {
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        mockReplicaStatus("Seconds_Behind_Source");
+        when(resultSet.wasNull()).thenReturn(true);
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(statement), is(Long.MAX_VALUE));
+    }
+    
+    @Test
+    void assertGetReplicationLagMillisecondsWithSlaveStatus() throws SQLException {
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLException.class);
+        when(statement.executeQuery("SHOW SLAVE STATUS")).thenReturn(resultSet);
+        mockReplicaStatus("Seconds_Behind_Master");
+        when(resultSet.getLong(2)).thenReturn(1L);
+        assertThat(new MySQLReplicationLagProbe().getReplicationLagMilliseconds(statement), is(1000L));
+    }
+    
+    private void mockReplicaStatus(final String secondsBehindColumnLabel) throws SQLException {
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData().getColumnCount()).thenReturn(2);
+        when(resultSet.getMetaData().getColumnLabel(1)).thenReturn("Replica_IO_State");
+        when(resultSet.getMetaData().getColumnLabel(2)).thenReturn(secondsBehindColumnLabel);
+    }
+}
@@ -50,4 +50,11 @@ class StandardReadwriteSplittingDataSourceRouterTest {
         rule.disableDataSource("read_ds_0");
         assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("read_ds_1"));
     }
+    
+    @Test
+    void assertRouteToWriteDataSourceWhenAllReadDataSourcesFiltered() {
+        rule.disableDataSource("read_ds_0");
+        rule.disableDataSource("read_ds_1");
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().route(rule), is("write_ds"));
+    }
 }
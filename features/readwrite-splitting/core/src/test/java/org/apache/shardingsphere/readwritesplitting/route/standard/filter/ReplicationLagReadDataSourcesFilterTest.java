@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceRule;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    @Test
+    void assertFilterWithoutMaxReplicationLag() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(0L);
+        rule.updateReplicationLags(Collections.singletonMap("read_ds_0", new ReplicationLag(10000L, System.currentTimeMillis())));
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithReplicationLagExceeded() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(1000L);
+        Map<String, ReplicationLag> replicationLags = new HashMap<>(2, 1F);
+        replicationLags.put("read_ds_0", new ReplicationLag(10000L, System.currentTimeMillis()));
+        replicationLags.put("read_ds_1", new ReplicationLag(1000L, System.currentTimeMillis()));
+        rule.updateReplicationLags(replicationLags);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithExpiredReplicationLag() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(1000L);
+        Map<String, ReplicationLag> replicationLags = new HashMap<>(2, 1F);
+        replicationLags.put("read_ds_0", new ReplicationLag(0L, System.currentTimeMillis() - 60000L));
+        replicationLags.put("read_ds_1", new ReplicationLag(0L, System.currentTimeMillis()));
+        rule.updateReplicationLags(replicationLags);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithUnknownReplicationLag() {
+        ReadwriteSplittingDataSourceRule rule = createDataSourceRule(1000L);
+        assertThat(new ReplicationLagReadDataSourcesFilter().filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    private ReadwriteSplittingDataSourceRule createDataSourceRule(final long maxReplicationLagMilliseconds) {
+        return new ReadwriteSplittingDataSourceRule(new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"),
+                TransactionalReadQueryStrategy.DYNAMIC, null, maxReplicationLagMilliseconds), TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+    }
+}
@@ -20,11 +20,14 @@ package org.apache.shardingsphere.readwritesplitting.rule;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
 import org.apache.shardingsphere.readwritesplitting.api.rule.ReadwriteSplittingDataSourceRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.api.transaction.TransactionalReadQueryStrategy;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
 import org.junit.jupiter.api.Test;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 class ReadwriteSplittingDataSourceRuleTest {
@@ -38,4 +41,36 @@ class ReadwriteSplittingDataSourceRuleTest {
         String writeDataSourceName = readwriteSplittingDataSourceRule.getWriteDataSource();
         assertThat(writeDataSourceName, is("write_ds"));
     }
+    
+    @Test
+    void assertGetAvailableReadDataSources() {
+        ReadwriteSplittingDataSourceRule readwriteSplittingDataSourceRule = new ReadwriteSplittingDataSourceRule(
+                new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"),
+                        TransactionalReadQueryStrategy.DYNAMIC, null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        assertThat(readwriteSplittingDataSourceRule.getAvailableReadDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1")));
+        assertThat(readwriteSplittingDataSourceRule.getAvailableReadDataSources(), sameInstance(readwriteSplittingDataSourceRule.getAvailableReadDataSources()));
+    }
+    
+    @Test
+    void assertGetAvailableReadDataSourcesAfterDataSourceStatusChanged() {
+        ReadwriteSplittingDataSourceRule readwriteSplittingDataSourceRule = new ReadwriteSplittingDataSourceRule(
+                new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"),
+                        TransactionalReadQueryStrategy.DYNAMIC, null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        readwriteSplittingDataSourceRule.disableDataSource("read_ds_0");
+        assertThat(readwriteSplittingDataSourceRule.getAvailableReadDataSources(), is(Collections.singletonList("read_ds_1")));
+        readwriteSplittingDataSourceRule.enableDataSource("read_ds_0");
+        assertThat(readwriteSplittingDataSourceRule.getAvailableReadDataSources(), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    void assertGetAvailableReadDataSourcesAfterReplicationLagsUpdated() {
+        ReadwriteSplittingDataSourceRule readwriteSplittingDataSourceRule = new ReadwriteSplittingDataSourceRule(
+                new ReadwriteSplittingDataSourceRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"),
+                        TransactionalReadQueryStrategy.DYNAMIC, null, 1000L),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        readwriteSplittingDataSourceRule.updateReplicationLags(Collections.singletonMap("read_ds_1", new ReplicationLag(2000L, System.currentTimeMillis())));
+        assertThat(readwriteSplittingDataSourceRule.getAvailableReadDataSources(), is(Collections.singletonList("read_ds_0")));
+    }
 }
@@ -22,6 +22,7 @@ import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitial
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.expr.core.InlineExpressionParserFactory;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingAlgorithm;
 import org.apache.shardingsphere.sharding.api.sharding.complex.ComplexKeysShardingValue;
 import org.apache.shardingsphere.sharding.exception.algorithm.MismatchedComplexInlineShardingAlgorithmColumnAndValueSizeException;
@@ -50,6 +51,8 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String algorithmExpression;
     
+    private InlineExpressionParser inlineExpressionParser;
+    
     private Collection<String> shardingColumns;
     
     private boolean allowRangeQuery;
@@ -57,6 +60,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     @Override
     public void init(final Properties props) {
         algorithmExpression = getAlgorithmExpression(props);
+        inlineExpressionParser = InlineExpressionParserFactory.newInstance(algorithmExpression);
         shardingColumns = getShardingColumns(props);
         allowRangeQuery = getAllowRangeQuery(props);
     }
@@ -91,7 +95,7 @@ public final class ComplexInlineShardingAlgorithm implements ComplexKeysSharding
     
     private String doSharding(final Map<String, Comparable<?>> columnNameAndShardingValueMap) {
         columnNameAndShardingValueMap.forEach((key, value) -> ShardingSpherePreconditions.checkNotNull(value, NullShardingValueException::new));
-        return InlineExpressionParserFactory.newInstance(algorithmExpression).evaluateWithArgs(columnNameAndShardingValueMap);
+        return inlineExpressionParser.evaluateWithArgs(columnNameAndShardingValueMap);
     }
     
     private Collection<Map<String, Comparable<?>>> flatten(final Map<String, Collection<Comparable<?>>> columnNameAndShardingValuesMap) {
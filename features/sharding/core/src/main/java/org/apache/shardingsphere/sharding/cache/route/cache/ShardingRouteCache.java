@@ -25,6 +25,8 @@ import java.util.Optional;
 
 /**
  * Cache for sharding route.
+ * 
+ * <p>Maximum size of cache options is weighed by routed data nodes, so route contexts with multiple data nodes take more capacity than single data node ones.</p>
  */
 public final class ShardingRouteCache {
     
@@ -35,7 +37,8 @@ public final class ShardingRouteCache {
     }
     
     private Cache<ShardingRouteCacheKey, ShardingRouteCacheValue> buildRouteCache(final ShardingCacheOptionsConfiguration cacheOptions) {
-        Caffeine<Object, Object> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumSize(cacheOptions.getMaximumSize());
+        Caffeine<ShardingRouteCacheKey, ShardingRouteCacheValue> result = Caffeine.newBuilder().initialCapacity(cacheOptions.getInitialCapacity()).maximumWeight(cacheOptions.getMaximumSize())
+                .weigher((ShardingRouteCacheKey key, ShardingRouteCacheValue value) -> value.getWeight()).recordStats();
         if (cacheOptions.isSoftValues()) {
             result.softValues();
         }
@@ -61,4 +64,31 @@ public final class ShardingRouteCache {
     public Optional<ShardingRouteCacheValue> get(final ShardingRouteCacheKey key) {
         return Optional.ofNullable(cache.getIfPresent(key));
     }
+    
+    /**
+     * Get hit count.
+     *
+     * @return hit count
+     */
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+    
+    /**
+     * Get miss count.
+     *
+     * @return miss count
+     */
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+    
+    /**
+     * Get eviction count.
+     *
+     * @return eviction count
+     */
+    public long getEvictionCount() {
+        return cache.stats().evictionCount();
+    }
 }
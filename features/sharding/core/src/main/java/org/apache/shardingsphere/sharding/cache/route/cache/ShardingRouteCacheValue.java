@@ -44,6 +44,22 @@ public final class ShardingRouteCacheValue {
         this(null != routeContext, routeContext);
     }
     
+    /**
+     * Get weight of cached route context.
+     *
+     * @return routed data nodes count, at least 1
+     */
+    public int getWeight() {
+        if (!cacheable) {
+            return 1;
+        }
+        int result = 0;
+        for (RouteUnit each : cachedRouteContext.getRouteUnits()) {
+            result += Math.max(1, each.getTableMappers().size());
+        }
+        return Math.max(1, result);
+    }
+    
     /**
      * Get cached route context.
      *
@@ -23,6 +23,8 @@ import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.Ord
 import org.apache.shardingsphere.infra.binder.context.segment.select.pagination.PaginationContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.metadata.database.DialectDatabaseMetaData;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -34,6 +36,7 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.sharding.merge.common.IteratorStreamMergedResult;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByExternalMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -43,6 +46,7 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.In
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
 import java.sql.SQLException;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -55,10 +59,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final ConfigurationProperties props;
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
-        if (1 == queryResults.size() && !isNeedAggregateRewrite(sqlStatementContext)) {
+        if (isSingleQueryResult(queryResults) && !isNeedAggregateRewrite(sqlStatementContext)) {
             return new IteratorStreamMergedResult(queryResults);
         }
         Map<String, Integer> columnLabelIndexMap = getColumnLabelIndexMap(queryResults.get(0));
@@ -68,6 +74,16 @@ public final class ShardingDQLResultMerger implements ResultMerger {
         return decorate(queryResults, selectStatementContext, mergedResult);
     }
     
+    private boolean isSingleQueryResult(final List<QueryResult> queryResults) {
+        // Do not use size() here, query results may be still loading by streaming execution
+        Iterator<QueryResult> iterator = queryResults.iterator();
+        if (!iterator.hasNext()) {
+            return false;
+        }
+        iterator.next();
+        return !iterator.hasNext();
+    }
+    
     private boolean isNeedAggregateRewrite(final SQLStatementContext sqlStatementContext) {
         return sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
     }
@@ -117,8 +133,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        int maxInMemoryRows = props.getValue(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_IN_MEMORY_ROWS);
+        return maxInMemoryRows > 0
+                ? new GroupByExternalMergedResult(queryResults, selectStatementContext, schema, maxInMemoryRows)
                 : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
     }
     
@@ -128,7 +148,7 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult decorate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) throws SQLException {
         PaginationContext paginationContext = selectStatementContext.getPaginationContext();
-        if (!paginationContext.isHasPagination() || 1 == queryResults.size()) {
+        if (!paginationContext.isHasPagination() || isSingleQueryResult(queryResults)) {
             return mergedResult;
         }
         Optional<PaginationDecoratorMergedResultBuilder> paginationDecoratorMergedResultBuilder = DatabaseTypedSPILoader.findService(PaginationDecoratorMergedResultBuilder.class, protocolType);
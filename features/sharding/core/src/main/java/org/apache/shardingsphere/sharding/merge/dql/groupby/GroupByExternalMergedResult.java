@@ -0,0 +1,380 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationColumnIndexUtils;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.SQLXML;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * External merged result for group by.
+ * 
+ * <p>Groups exceeding max in memory rows are hash partitioned and spilled into local temporary files,
+ * every partition is aggregated and sorted separately, then all sorted runs are merged by k-way merge.
+ * Spill files live until they are read through or the merged result is closed.</p>
+ */
+public final class GroupByExternalMergedResult implements MergedResult {
+    
+    private static final Collection<Class<?>> INVALID_MEMORY_TYPES = new HashSet<>(Arrays.asList(Blob.class, Clob.class, Reader.class, InputStream.class, SQLXML.class));
+    
+    private static final int PARTITION_BITS = 4;
+    
+    private static final int PARTITION_SIZE = 1 << PARTITION_BITS;
+    
+    private static final int MAX_PARTITION_DEPTH = Integer.SIZE / PARTITION_BITS;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final int maxInMemoryRows;
+    
+    private final int columnCount;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final int[][] aggregationColumnIndexes;
+    
+    private final QueryResultMetaData queryResultMetaData;
+    
+    private final GroupByRowComparator rowComparator;
+    
+    private final Queue<SortedRun> sortedRuns;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private int groupCount;
+    
+    private boolean isFirstNext;
+    
+    private MemoryQueryResultRow currentRow;
+    
+    private boolean wasNull;
+    
+    public GroupByExternalMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                       final ShardingSphereSchema schema, final int maxInMemoryRows) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.maxInMemoryRows = maxInMemoryRows;
+        columnCount = queryResults.isEmpty() ? 0 : queryResults.get(0).getMetaData().getColumnCount();
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        aggregationColumnIndexes = AggregationColumnIndexUtils.getColumnIndexes(aggregationProjections);
+        queryResultMetaData = queryResults.isEmpty() ? null : queryResults.get(0).getMetaData();
+        List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.get(0), selectStatementContext, schema);
+        rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        sortedRuns = new PriorityQueue<>((o1, o2) -> rowComparator.compare(o1.getCurrentRow(), o2.getCurrentRow()));
+        try {
+            aggregate(queryResults);
+        } catch (final SQLException ex) {
+            close();
+            throw ex;
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            close();
+            throw ex;
+        }
+        isFirstNext = true;
+    }
+    
+    private List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
+        List<Boolean> result = new ArrayList<>();
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= queryResult.getMetaData().getColumnCount(); columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, selectStatementContext, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult,
+                                                    final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getAllTables()) {
+            String tableName = each.getTableName().getIdentifier().getValue();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    private void aggregate(final List<QueryResult> queryResults) throws SQLException {
+        PartitionAggregation aggregation = new PartitionAggregation(0);
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                aggregation.add(new MemoryQueryResultRow(each));
+            }
+        }
+        aggregation.finish();
+        if (0 == groupCount) {
+            Object[] data = generateReturnData();
+            if (Arrays.stream(data).anyMatch(Objects::nonNull)) {
+                addSortedRun(new SortedRun(Collections.singletonList(new MemoryQueryResultRow(data)).iterator(), null));
+            }
+        }
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile() {
+        GroupBySpillFile result = new GroupBySpillFile(columnCount);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private void addSortedRun(final SortedRun sortedRun) {
+        if (sortedRun.next()) {
+            sortedRuns.offer(sortedRun);
+        } else {
+            sortedRun.close();
+        }
+    }
+    
+    @Override
+    public boolean next() {
+        if (sortedRuns.isEmpty()) {
+            return false;
+        }
+        if (isFirstNext) {
+            isFirstNext = false;
+            currentRow = sortedRuns.peek().getCurrentRow();
+            return true;
+        }
+        SortedRun firstSortedRun = sortedRuns.poll();
+        if (firstSortedRun.next()) {
+            sortedRuns.offer(firstSortedRun);
+        } else {
+            firstSortedRun.close();
+        }
+        if (sortedRuns.isEmpty()) {
+            return false;
+        }
+        currentRow = sortedRuns.peek().getCurrentRow();
+        return true;
+    }
+    
+    @Override
+    public Object getValue(final int columnIndex, final Class<?> type) throws SQLException {
+        ShardingSpherePreconditions.checkState(!INVALID_MEMORY_TYPES.contains(type), () -> new SQLFeatureNotSupportedException(String.format("Get value from `%s`", type.getName())));
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
+        Object result = currentRow.getCell(columnIndex);
+        wasNull = null == result;
+        return result;
+    }
+    
+    @Override
+    public InputStream getInputStream(final int columnIndex, final String type) throws SQLException {
+        throw new SQLFeatureNotSupportedException(String.format("Get input stream from `%s`", type));
+    }
+    
+    @Override
+    public Reader getCharacterStream(final int columnIndex) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Get Character stream");
+    }
+    
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+    
+    @Override
+    public void close() {
+        sortedRuns.clear();
+        spillFiles.forEach(GroupBySpillFile::close);
+        spillFiles.clear();
+    }
+    
+    @RequiredArgsConstructor
+    private final class PartitionAggregation {
+        
+        private final int depth;
+        
+        private final Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
+        
+        private final Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024, 1F);
+        
+        private final List<GroupBySpillFile> partitions = new ArrayList<>(PARTITION_SIZE);
+        
+        void add(final MemoryQueryResultRow row) throws SQLException {
+            GroupByValue groupByValue = new GroupByValue(row, selectStatementContext.getGroupByContext().getItems());
+            AggregationUnit[] aggregationUnits = aggregationMap.get(groupByValue);
+            if (null == aggregationUnits) {
+                if (dataMap.size() >= maxInMemoryRows && depth < MAX_PARTITION_DEPTH) {
+                    spill(groupByValue, row);
+                    return;
+                }
+                dataMap.put(groupByValue, row);
+                aggregationUnits = createAggregationUnits();
+                aggregationMap.put(groupByValue, aggregationUnits);
+            }
+            aggregate(row, aggregationUnits);
+        }
+        
+        private void spill(final GroupByValue groupByValue, final MemoryQueryResultRow row) {
+            if (partitions.isEmpty()) {
+                for (int i = 0; i < PARTITION_SIZE; i++) {
+                    partitions.add(createSpillFile());
+                }
+            }
+            int hash = groupByValue.hashCode() * 0x9E3779B9;
+            partitions.get((hash >>> (depth * PARTITION_BITS)) & (PARTITION_SIZE - 1)).write(row);
+        }
+        
+        private AggregationUnit[] createAggregationUnits() throws SQLException {
+            AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+            for (int i = 0; i < result.length; i++) {
+                result[i] = AggregationUnitFactory.create(aggregationProjections.get(i), queryResultMetaData);
+            }
+            return result;
+        }
+        
+        private void aggregate(final MemoryQueryResultRow row, final AggregationUnit[] aggregationUnits) {
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                List<Comparable<?>> values = new ArrayList<>(aggregationColumnIndexes[i].length);
+                for (int each : aggregationColumnIndexes[i]) {
+                    values.add(getAggregationValue(row, each));
+                }
+                aggregationUnits[i].merge(values);
+            }
+        }
+        
+        private Comparable<?> getAggregationValue(final MemoryQueryResultRow row, final int columnIndex) {
+            Object result = row.getCell(columnIndex);
+            ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+            return (Comparable<?>) result;
+        }
+        
+        void finish() throws SQLException {
+            addSortedRun(createSortedRun());
+            dataMap.clear();
+            aggregationMap.clear();
+            try {
+                for (GroupBySpillFile each : partitions) {
+                    each.finishWriting();
+                    PartitionAggregation aggregation = new PartitionAggregation(depth + 1);
+                    for (Optional<MemoryQueryResultRow> row = each.read(); row.isPresent(); row = each.read()) {
+                        aggregation.add(row.get());
+                    }
+                    each.close();
+                    aggregation.finish();
+                }
+            } finally {
+                partitions.forEach(GroupBySpillFile::close);
+            }
+        }
+        
+        private SortedRun createSortedRun() {
+            for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
+                AggregationUnit[] aggregationUnits = aggregationMap.get(entry.getKey());
+                for (int i = 0; i < aggregationUnits.length; i++) {
+                    entry.getValue().setCell(aggregationProjections.get(i).getIndex(), aggregationUnits[i].getResult());
+                }
+            }
+            groupCount += dataMap.size();
+            List<MemoryQueryResultRow> rows = new ArrayList<>(dataMap.values());
+            rows.sort(rowComparator);
+            if (0 == depth && partitions.isEmpty()) {
+                return new SortedRun(rows.iterator(), null);
+            }
+            GroupBySpillFile spillFile = createSpillFile();
+            rows.forEach(spillFile::write);
+            spillFile.finishWriting();
+            return new SortedRun(null, spillFile);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SortedRun {
+        
+        private final Iterator<MemoryQueryResultRow> memoryRows;
+        
+        private final GroupBySpillFile spillFile;
+        
+        @Getter
+        private MemoryQueryResultRow currentRow;
+        
+        boolean next() {
+            if (null == spillFile) {
+                currentRow = memoryRows.hasNext() ? memoryRows.next() : null;
+            } else {
+                currentRow = spillFile.read().orElse(null);
+            }
+            return null != currentRow;
+        }
+        
+        void close() {
+            if (null != spillFile) {
+                spillFile.close();
+            }
+        }
+    }
+}
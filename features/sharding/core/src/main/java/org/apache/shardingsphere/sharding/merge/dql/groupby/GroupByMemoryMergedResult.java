@@ -19,7 +19,6 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.table.NoSuchTableException;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
-import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
@@ -29,7 +28,7 @@ import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResul
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationColumnIndexUtils;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.rule.ShardingRule;
@@ -46,8 +45,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Memory merged result for group by.
@@ -62,56 +59,48 @@ public final class GroupByMemoryMergedResult extends MemoryMergedResult<Sharding
     protected List<MemoryQueryResultRow> init(final ShardingRule shardingRule, final ShardingSphereSchema schema,
                                               final SQLStatementContext sqlStatementContext, final List<QueryResult> queryResults) throws SQLException {
         SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        List<AggregationProjection> aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        int[][] aggregationColumnIndexes = AggregationColumnIndexUtils.getColumnIndexes(aggregationProjections);
         Map<GroupByValue, MemoryQueryResultRow> dataMap = new HashMap<>(1024, 1F);
-        Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap = new HashMap<>(1024, 1F);
+        Map<GroupByValue, AggregationUnit[]> aggregationMap = new HashMap<>(1024, 1F);
         for (QueryResult each : queryResults) {
             while (each.next()) {
                 GroupByValue groupByValue = new GroupByValue(each, selectStatementContext.getGroupByContext().getItems());
-                initForFirstGroupByValue(selectStatementContext, each, groupByValue, dataMap, aggregationMap);
-                aggregate(selectStatementContext, each, groupByValue, aggregationMap);
+                initForFirstGroupByValue(aggregationProjections, each, groupByValue, dataMap, aggregationMap);
+                aggregate(each, aggregationColumnIndexes, aggregationMap.get(groupByValue));
             }
         }
-        setAggregationValueToMemoryRow(selectStatementContext, dataMap, aggregationMap);
+        setAggregationValueToMemoryRow(aggregationProjections, dataMap, aggregationMap);
         List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : getValueCaseSensitive(queryResults.iterator().next(), selectStatementContext, schema);
         return getMemoryResultSetRows(selectStatementContext, dataMap, valueCaseSensitive);
     }
     
-    private void initForFirstGroupByValue(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
+    private void initForFirstGroupByValue(final List<AggregationProjection> aggregationProjections, final QueryResult queryResult,
                                           final GroupByValue groupByValue, final Map<GroupByValue, MemoryQueryResultRow> dataMap,
-                                          final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        if (!dataMap.containsKey(groupByValue)) {
-            dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+                                          final Map<GroupByValue, AggregationUnit[]> aggregationMap) throws SQLException {
+        if (dataMap.containsKey(groupByValue)) {
+            return;
         }
-        aggregationMap.computeIfAbsent(groupByValue, unused -> selectStatementContext.getProjectionsContext().getAggregationProjections().stream()
-                .collect(Collectors.toMap(Function.identity(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection))));
-    }
-    
-    private void aggregate(final SelectStatementContext selectStatementContext, final QueryResult queryResult,
-                           final GroupByValue groupByValue, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) throws SQLException {
-        for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (each.getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(queryResult, each));
-            } else {
-                for (AggregationProjection derived : each.getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(queryResult, derived));
-                }
-            }
-            aggregationMap.get(groupByValue).get(each).merge(values);
+        dataMap.put(groupByValue, new MemoryQueryResultRow(queryResult));
+        AggregationUnit[] aggregationUnits = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i] = AggregationUnitFactory.create(aggregationProjections.get(i), queryResult.getMetaData());
         }
+        aggregationMap.put(groupByValue, aggregationUnits);
     }
     
-    private Comparable<?> getAggregationValue(final QueryResult queryResult, final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = queryResult.getValue(aggregationProjection.getIndex(), Object.class);
-        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
-        return (Comparable<?>) result;
+    private void aggregate(final QueryResult queryResult, final int[][] aggregationColumnIndexes, final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].merge(queryResult, aggregationColumnIndexes[i]);
+        }
     }
     
-    private void setAggregationValueToMemoryRow(final SelectStatementContext selectStatementContext,
-                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, Map<AggregationProjection, AggregationUnit>> aggregationMap) {
+    private void setAggregationValueToMemoryRow(final List<AggregationProjection> aggregationProjections,
+                                                final Map<GroupByValue, MemoryQueryResultRow> dataMap, final Map<GroupByValue, AggregationUnit[]> aggregationMap) {
         for (Entry<GroupByValue, MemoryQueryResultRow> entry : dataMap.entrySet()) {
-            for (AggregationProjection each : selectStatementContext.getProjectionsContext().getAggregationProjections()) {
-                entry.getValue().setCell(each.getIndex(), aggregationMap.get(entry.getKey()).get(each).getResult());
+            AggregationUnit[] aggregationUnits = aggregationMap.get(entry.getKey());
+            for (int i = 0; i < aggregationUnits.length; i++) {
+                entry.getValue().setCell(aggregationProjections.get(i).getIndex(), aggregationUnits[i].getResult());
             }
         }
     }
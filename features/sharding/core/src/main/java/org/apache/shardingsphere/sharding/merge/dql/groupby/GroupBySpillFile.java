@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+import org.apache.shardingsphere.sharding.exception.data.MergedResultSpillException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Spill file for group by merging, which saves rows into local temporary file.
+ */
+public final class GroupBySpillFile {
+    
+    private static final int RESET_INTERVAL = 1024;
+    
+    private final int columnCount;
+    
+    private final Path path;
+    
+    private ObjectOutputStream outputStream;
+    
+    private ObjectInputStream inputStream;
+    
+    private int writtenRowCount;
+    
+    public GroupBySpillFile(final int columnCount) {
+        this.columnCount = columnCount;
+        try {
+            path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+            outputStream = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (final IOException ex) {
+            throw new MergedResultSpillException(ex);
+        }
+    }
+    
+    /**
+     * Write row.
+     *
+     * @param row row to be written
+     * @throws MergedResultSpillException merged result spill exception
+     */
+    public void write(final MemoryQueryResultRow row) {
+        Object[] data = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            data[i] = row.getCell(i + 1);
+        }
+        try {
+            outputStream.writeObject(data);
+            if (0 == ++writtenRowCount % RESET_INTERVAL) {
+                outputStream.reset();
+            }
+        } catch (final IOException ex) {
+            close();
+            throw new MergedResultSpillException(ex);
+        }
+    }
+    
+    /**
+     * Finish writing and prepare for reading.
+     *
+     * @throws MergedResultSpillException merged result spill exception
+     */
+    public void finishWriting() {
+        try {
+            outputStream.writeObject(null);
+            outputStream.close();
+            outputStream = null;
+            inputStream = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+        } catch (final IOException ex) {
+            close();
+            throw new MergedResultSpillException(ex);
+        }
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, empty if all rows are read
+     * @throws MergedResultSpillException merged result spill exception
+     */
+    public Optional<MemoryQueryResultRow> read() {
+        try {
+            Object data = inputStream.readObject();
+            if (null == data) {
+                close();
+                return Optional.empty();
+            }
+            return Optional.of(new MemoryQueryResultRow((Object[]) data));
+        } catch (final IOException | ClassNotFoundException ex) {
+            close();
+            throw new MergedResultSpillException(ex);
+        }
+    }
+    
+    /**
+     * Close spill file and delete it.
+     */
+    public void close() {
+        QuietlyCloser.close(outputStream);
+        QuietlyCloser.close(inputStream);
+        outputStream = null;
+        inputStream = null;
+        try {
+            Files.deleteIfExists(path);
+        } catch (final IOException ignore) {
+        }
+    }
+}
@@ -17,14 +17,11 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby;
 
-import com.google.common.collect.Maps;
-import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
-import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
-import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationColumnIndexUtils;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -35,7 +32,6 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 
 /**
  * Stream merged result for group by.
@@ -44,6 +40,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     
     private final SelectStatementContext selectStatementContext;
     
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final int[][] aggregationColumnIndexes;
+    
     private final List<Object> currentRow;
     
     private List<?> currentGroupByValues;
@@ -52,8 +52,10 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                                      final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         super(queryResults, selectStatementContext, schema);
         this.selectStatementContext = selectStatementContext;
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        aggregationColumnIndexes = AggregationColumnIndexUtils.getColumnIndexes(aggregationProjections);
         currentRow = new ArrayList<>(labelAndIndexMap.size());
-        currentGroupByValues = getOrderByValuesQueue().isEmpty()
+        currentGroupByValues = getOrderByValueLoserTree().isEmpty()
                 ? Collections.emptyList()
                 : new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues();
     }
@@ -61,7 +63,7 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     @Override
     public boolean next() throws SQLException {
         currentRow.clear();
-        if (getOrderByValuesQueue().isEmpty()) {
+        if (getOrderByValueLoserTree().isEmpty()) {
             return false;
         }
         if (isFirstNext()) {
@@ -76,10 +78,9 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
     private boolean aggregateCurrentGroupByRowAndNext() throws SQLException {
         boolean result = false;
         boolean cachedRow = false;
-        Map<AggregationProjection, AggregationUnit> aggregationUnitMap = Maps.toMap(
-                selectStatementContext.getProjectionsContext().getAggregationProjections(), input -> AggregationUnitFactory.create(input.getType(), input instanceof AggregationDistinctProjection));
+        AggregationUnit[] aggregationUnits = createAggregationUnits();
         while (currentGroupByValues.equals(new GroupByValue(getCurrentQueryResult(), selectStatementContext.getGroupByContext().getItems()).getGroupValues())) {
-            aggregate(aggregationUnitMap);
+            aggregate(aggregationUnits);
             if (!cachedRow) {
                 cacheCurrentRow();
                 cachedRow = true;
@@ -89,21 +90,21 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
                 break;
             }
         }
-        setAggregationValueToCurrentRow(aggregationUnitMap);
+        setAggregationValueToCurrentRow(aggregationUnits);
         return result;
     }
     
-    private void aggregate(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) throws SQLException {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            List<Comparable<?>> values = new ArrayList<>(2);
-            if (entry.getKey().getDerivedAggregationProjections().isEmpty()) {
-                values.add(getAggregationValue(entry.getKey()));
-            } else {
-                for (AggregationProjection each : entry.getKey().getDerivedAggregationProjections()) {
-                    values.add(getAggregationValue(each));
-                }
-            }
-            entry.getValue().merge(values);
+    private AggregationUnit[] createAggregationUnits() throws SQLException {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = AggregationUnitFactory.create(aggregationProjections.get(i), getCurrentQueryResult().getMetaData());
+        }
+        return result;
+    }
+    
+    private void aggregate(final AggregationUnit[] aggregationUnits) throws SQLException {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            aggregationUnits[i].merge(getCurrentQueryResult(), aggregationColumnIndexes[i]);
         }
     }
     
@@ -113,15 +114,9 @@ public final class GroupByStreamMergedResult extends OrderByStreamMergedResult {
         }
     }
     
-    private Comparable<?> getAggregationValue(final AggregationProjection aggregationProjection) throws SQLException {
-        Object result = getCurrentQueryResult().getValue(aggregationProjection.getIndex(), Object.class);
-        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
-        return (Comparable<?>) result;
-    }
-    
-    private void setAggregationValueToCurrentRow(final Map<AggregationProjection, AggregationUnit> aggregationUnitMap) {
-        for (Entry<AggregationProjection, AggregationUnit> entry : aggregationUnitMap.entrySet()) {
-            currentRow.set(entry.getKey().getIndex() - 1, entry.getValue().getResult());
+    private void setAggregationValueToCurrentRow(final AggregationUnit[] aggregationUnits) {
+        for (int i = 0; i < aggregationUnits.length; i++) {
+            currentRow.set(aggregationProjections.get(i).getIndex() - 1, aggregationUnits[i].getResult());
         }
     }
     
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+
+import java.util.List;
+
+/**
+ * Aggregation column index utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AggregationColumnIndexUtils {
+    
+    /**
+     * Get column indexes of aggregation values.
+     *
+     * <p>Aggregation projection with derived projections, such as AVG, reads values from derived columns, otherwise reads value from its own column.</p>
+     *
+     * @param aggregationProjections aggregation projections
+     * @return column indexes of aggregation values, in the order of aggregation projections
+     */
+    public static int[][] getColumnIndexes(final List<AggregationProjection> aggregationProjections) {
+        int[][] result = new int[aggregationProjections.size()][];
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            AggregationProjection aggregationProjection = aggregationProjections.get(i);
+            result[i] = aggregationProjection.getDerivedAggregationProjections().isEmpty()
+                    ? new int[]{aggregationProjection.getIndex()}
+                    : aggregationProjection.getDerivedAggregationProjections().stream().mapToInt(AggregationProjection::getIndex).toArray();
+        }
+        return result;
+    }
+}
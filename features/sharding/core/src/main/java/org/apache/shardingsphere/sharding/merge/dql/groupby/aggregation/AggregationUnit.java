@@ -17,6 +17,12 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,6 +37,23 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Merge aggregation values from columns of query result current row.
+     *
+     * @param queryResult query result
+     * @param columnIndexes column indexes of aggregation values
+     * @throws SQLException SQL exception
+     */
+    default void merge(final QueryResult queryResult, final int[] columnIndexes) throws SQLException {
+        List<Comparable<?>> values = new ArrayList<>(columnIndexes.length);
+        for (int each : columnIndexes) {
+            Object value = queryResult.getValue(each, Object.class);
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", value));
+            values.add((Comparable<?>) value);
+        }
+        merge(values);
+    }
+    
     /**
      * Get aggregation result.
      * 
@@ -19,9 +19,15 @@ package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 /**
  * Aggregation unit factory.
  */
@@ -54,4 +60,45 @@ public final class AggregationUnitFactory {
                 throw new UnsupportedSQLOperationException(type.name());
         }
     }
+    
+    /**
+     * Create aggregation unit instance by column meta data.
+     *
+     * @param aggregationProjection aggregation projection
+     * @param metaData query result meta data
+     * @return aggregation unit instance
+     * @throws SQLException SQL exception
+     */
+    public static AggregationUnit create(final AggregationProjection aggregationProjection, final QueryResultMetaData metaData) throws SQLException {
+        boolean isDistinct = aggregationProjection instanceof AggregationDistinctProjection;
+        if (!isDistinct && AggregationType.COUNT == aggregationProjection.getType()) {
+            return new LongAccumulationAggregationUnit();
+        }
+        if (!isDistinct && AggregationType.SUM == aggregationProjection.getType() && isIntegralColumn(metaData, aggregationProjection.getIndex())) {
+            return new LongAccumulationAggregationUnit();
+        }
+        if (!isDistinct && AggregationType.AVG == aggregationProjection.getType() && 2 == aggregationProjection.getDerivedAggregationProjections().size()
+                && isIntegralColumn(metaData, aggregationProjection.getDerivedAggregationProjections().get(1).getIndex())) {
+            return new LongAverageAggregationUnit();
+        }
+        return create(aggregationProjection.getType(), isDistinct);
+    }
+    
+    private static boolean isIntegralColumn(final QueryResultMetaData metaData, final int columnIndex) throws SQLException {
+        if (columnIndex < 1 || columnIndex > metaData.getColumnCount()) {
+            return false;
+        }
+        switch (metaData.getColumnType(columnIndex)) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return 0 == metaData.getDecimals(columnIndex);
+            default:
+                return false;
+        }
+    }
 }
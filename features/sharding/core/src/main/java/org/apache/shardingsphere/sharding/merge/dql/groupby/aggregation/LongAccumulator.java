@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Long accumulator, which accumulates integral values with primitive long and falls back to big decimal for overflow or non integral values.
+ */
+public final class LongAccumulator {
+    
+    private static final int MAX_LONG_PRECISION = 18;
+    
+    private boolean accumulated;
+    
+    private long longResult;
+    
+    private BigDecimal decimalResult;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added, should not be null
+     */
+    public void add(final Object value) {
+        accumulated = true;
+        if (isIntegralValue(value)) {
+            long longValue = ((Number) value).longValue();
+            long sum = longResult + longValue;
+            // overflow only if both operands have different sign with the sum
+            if (((longResult ^ sum) & (longValue ^ sum)) >= 0L) {
+                longResult = sum;
+                return;
+            }
+        }
+        BigDecimal decimalValue = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString());
+        decimalResult = null == decimalResult ? decimalValue : decimalResult.add(decimalValue);
+    }
+    
+    private boolean isIntegralValue(final Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return true;
+        }
+        return value instanceof BigDecimal && 0 == ((BigDecimal) value).scale() && ((BigDecimal) value).precision() <= MAX_LONG_PRECISION;
+    }
+    
+    /**
+     * Get accumulated result.
+     *
+     * @return accumulated result, null if no value added
+     */
+    public BigDecimal getResult() {
+        if (!accumulated) {
+            return null;
+        }
+        BigDecimal result = BigDecimal.valueOf(longResult);
+        return null == decimalResult ? result : decimalResult.add(result);
+    }
+}
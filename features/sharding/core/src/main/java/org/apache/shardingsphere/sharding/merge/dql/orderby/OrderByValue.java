@@ -20,11 +20,13 @@ package org.apache.shardingsphere.sharding.merge.dql.orderby;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.OrderByItemSegment;
@@ -32,8 +34,8 @@ import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.Sim
 
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -50,7 +52,13 @@ public final class OrderByValue implements Comparable<OrderByValue> {
     
     private final SelectStatementContext selectStatementContext;
     
-    private List<Comparable<?>> orderValues;
+    private final int[] orderByColumnIndexes;
+    
+    private final OrderDirection[] orderDirections;
+    
+    private final NullsOrderType[] nullsOrderTypes;
+    
+    private final Comparable<?>[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
@@ -58,6 +66,17 @@ public final class OrderByValue implements Comparable<OrderByValue> {
         this.orderByItems = orderByItems;
         this.selectStatementContext = selectStatementContext;
         orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
+        orderByColumnIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        int i = 0;
+        for (OrderByItem each : orderByItems) {
+            orderByColumnIndexes[i] = each.getIndex();
+            orderDirections[i] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[i] = each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType());
+            i++;
+        }
+        orderValues = new Comparable<?>[orderByItems.size()];
     }
     
     private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
@@ -99,30 +118,29 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
+        if (result) {
+            loadOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
+        }
         return result;
     }
     
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
+    private void loadOrderValues() throws SQLException {
+        for (int i = 0; i < orderValues.length; i++) {
+            Object value = queryResult.getValue(orderByColumnIndexes[i], Object.class);
             ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-            result.add((Comparable<?>) value);
+            orderValues[i] = (Comparable<?>) value;
         }
-        return result;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = CompareUtils.compareTo(orderValues[i], orderByValue.orderValues[i], orderDirections[i], nullsOrderTypes[i], orderValuesCaseSensitive.get(i));
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
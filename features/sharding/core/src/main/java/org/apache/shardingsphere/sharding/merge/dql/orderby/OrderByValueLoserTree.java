@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Loser tree of order by values, which is used to merge ordered query results.
+ * 
+ * <p>Only the path from the winner leaf to the root is replayed after each advance, so about log2(k) comparisons are needed for each row of k query results.</p>
+ */
+public final class OrderByValueLoserTree {
+    
+    private static final int NONE = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    private int winner;
+    
+    private int remaining;
+    
+    public OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        losers = new int[leaves.length];
+        remaining = leaves.length;
+        winner = 0 == leaves.length ? NONE : build();
+    }
+    
+    private int build() {
+        int leafCount = leaves.length;
+        int[] winners = new int[leafCount << 1];
+        for (int i = 0; i < leafCount; i++) {
+            winners[leafCount + i] = i;
+        }
+        for (int node = leafCount - 1; node > 0; node--) {
+            int left = winners[node << 1];
+            int right = winners[(node << 1) + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                losers[node] = right;
+            } else {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        return winners[1];
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    public boolean isEmpty() {
+        return 0 == remaining;
+    }
+    
+    /**
+     * Get order by value of current winner.
+     *
+     * @return order by value of current winner, null if all order by values are exhausted
+     */
+    public OrderByValue peek() {
+        return isEmpty() ? null : leaves[winner];
+    }
+    
+    /**
+     * Iterate next data of current winner and choose new winner.
+     *
+     * @return has next winner
+     * @throws SQLException SQL exception
+     */
+    public boolean next() throws SQLException {
+        if (isEmpty()) {
+            return false;
+        }
+        if (!leaves[winner].next()) {
+            exhausted[winner] = true;
+            remaining--;
+            if (isEmpty()) {
+                return false;
+            }
+        }
+        replay(winner);
+        return true;
+    }
+    
+    private void replay(final int leafIndex) {
+        int current = leafIndex;
+        for (int node = (leafIndex + leaves.length) >> 1; node > 0; node >>= 1) {
+            if (beats(losers[node], current)) {
+                int previous = losers[node];
+                losers[node] = current;
+                current = previous;
+            }
+        }
+        winner = current;
+    }
+    
+    private boolean beats(final int leafIndex, final int otherLeafIndex) {
+        if (exhausted[leafIndex]) {
+            return false;
+        }
+        if (exhausted[otherLeafIndex]) {
+            return true;
+        }
+        int result = leaves[leafIndex].compareTo(leaves[otherLeafIndex]);
+        return result < 0 || 0 == result && leafIndex < otherLeafIndex;
+    }
+}
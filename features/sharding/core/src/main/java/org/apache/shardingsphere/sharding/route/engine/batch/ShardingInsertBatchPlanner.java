@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.batch;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlanner;
+import org.apache.shardingsphere.infra.hint.HintManager;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.sharding.exception.algorithm.NoShardingDatabaseRouteInfoException;
+import org.apache.shardingsphere.sharding.exception.syntax.UnsupportedShardingOperationException;
+import org.apache.shardingsphere.sharding.route.engine.row.ShardingRowRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Sharding insert batch planner.
+ * 
+ * <p>Route parameter sets of batched single row insert statement by sharding algorithms only.
+ * The execution unit of the first parameter set routed to each data node is generated by the full kernel process and kept as template,
+ * later parameter sets routed to the same data node reuse the rewritten SQL of the template without binding, routing and rewriting again.</p>
+ */
+public final class ShardingInsertBatchPlanner implements BatchPlanner {
+    
+    private final ShardingRowRouter rowRouter;
+    
+    private final Map<String, ExpressionSegment> shardingValueExpressions;
+    
+    private final Map<DataNode, ExecutionUnit> executionUnitTemplates = new HashMap<>();
+    
+    private ShardingInsertBatchPlanner(final ShardingRowRouter rowRouter, final Map<String, ExpressionSegment> shardingValueExpressions) {
+        this.rowRouter = rowRouter;
+        this.shardingValueExpressions = shardingValueExpressions;
+    }
+    
+    /**
+     * Create new instance of sharding insert batch planner.
+     *
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @param hintValueContext hint value context
+     * @param props configuration properties
+     * @return created sharding insert batch planner, empty if SQL statement can not be planned without the full kernel process
+     */
+    public static Optional<ShardingInsertBatchPlanner> newInstance(final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext,
+                                                                   final HintValueContext hintValueContext, final ConfigurationProperties props) {
+        if (!(sqlStatementContext instanceof InsertStatementContext)) {
+            return Optional.empty();
+        }
+        InsertStatementContext insertStatementContext = (InsertStatementContext) sqlStatementContext;
+        if (null != insertStatementContext.getInsertSelectContext() || 1 != insertStatementContext.getInsertValueContexts().size()
+                || insertStatementContext.getGeneratedKeyContext().isPresent() || 1 != insertStatementContext.getTablesContext().getTableNames().size()) {
+            return Optional.empty();
+        }
+        String tableName = insertStatementContext.getSqlStatement().getTable().getTableName().getIdentifier().getValue();
+        Optional<ShardingRule> shardingRule = database.getRuleMetaData().findSingleRule(ShardingRule.class);
+        if (!shardingRule.isPresent() || !shardingRule.get().isShardingTable(tableName) || isRoutedByHint(tableName, hintValueContext)
+                || !isOtherRulesIndependentOfValues(database.getRuleMetaData().getRules(), shardingRule.get(), tableName)) {
+            return Optional.empty();
+        }
+        ShardingRowRouter rowRouter;
+        try {
+            rowRouter = new ShardingRowRouter(shardingRule.get(), tableName, props);
+        } catch (final UnsupportedShardingOperationException ignored) {
+            return Optional.empty();
+        }
+        return findShardingValueExpressions(insertStatementContext, rowRouter.getShardingColumns()).map(optional -> new ShardingInsertBatchPlanner(rowRouter, optional));
+    }
+    
+    private static boolean isRoutedByHint(final String tableName, final HintValueContext hintValueContext) {
+        return HintManager.isInstantiated() || hintValueContext.findHintDataSourceName().isPresent() || hintValueContext.containsHintShardingValue(tableName) || hintValueContext.isShadow();
+    }
+    
+    private static boolean isOtherRulesIndependentOfValues(final Collection<ShardingSphereRule> rules, final ShardingRule shardingRule, final String tableName) {
+        for (ShardingSphereRule each : rules) {
+            if (each == shardingRule) {
+                continue;
+            }
+            Optional<TableMapperRuleAttribute> tableMapperRuleAttribute = each.getAttributes().findAttribute(TableMapperRuleAttribute.class);
+            if (tableMapperRuleAttribute.isPresent() && containsIgnoreCase(tableMapperRuleAttribute.get().getLogicTableNames(), tableName)) {
+                return false;
+            }
+            if (each.getAttributes().findAttribute(DataSourceMapperRuleAttribute.class).isPresent() && !each.getAttributes().findAttribute(StaticDataSourceRuleAttribute.class).isPresent()) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static boolean containsIgnoreCase(final Collection<String> names, final String name) {
+        for (String each : names) {
+            if (each.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private static Optional<Map<String, ExpressionSegment>> findShardingValueExpressions(final InsertStatementContext insertStatementContext, final Collection<String> shardingColumns) {
+        List<String> columnNames = insertStatementContext.getColumnNames();
+        List<ExpressionSegment> valueExpressions = insertStatementContext.getInsertValueContexts().get(0).getValueExpressions();
+        if (columnNames.size() != valueExpressions.size()) {
+            return Optional.empty();
+        }
+        Map<String, ExpressionSegment> result = new LinkedHashMap<>(shardingColumns.size(), 1F);
+        for (String each : shardingColumns) {
+            int index = indexOfIgnoreCase(columnNames, each);
+            if (index < 0 || !(valueExpressions.get(index) instanceof ParameterMarkerExpressionSegment || valueExpressions.get(index) instanceof LiteralExpressionSegment)) {
+                return Optional.empty();
+            }
+            result.put(each, valueExpressions.get(index));
+        }
+        return Optional.of(result);
+    }
+    
+    private static int indexOfIgnoreCase(final List<String> names, final String name) {
+        int result = 0;
+        for (String each : names) {
+            if (each.equalsIgnoreCase(name)) {
+                return result;
+            }
+            result++;
+        }
+        return -1;
+    }
+    
+    @Override
+    public Optional<ExecutionUnit> plan(final List<Object> params) {
+        return findDataNode(params).map(executionUnitTemplates::get)
+                .map(optional -> new ExecutionUnit(optional.getDataSourceName(), new SQLUnit(optional.getSqlUnit().getSql(), params, optional.getSqlUnit().getTableRouteMappers())));
+    }
+    
+    @Override
+    public void keepTemplate(final List<Object> params, final ExecutionContext executionContext) {
+        if (1 != executionContext.getExecutionUnits().size() || 1 != executionContext.getRouteContext().getRouteUnits().size()) {
+            return;
+        }
+        ExecutionUnit executionUnit = executionContext.getExecutionUnits().iterator().next();
+        if (!params.equals(executionUnit.getSqlUnit().getParameters())) {
+            return;
+        }
+        Optional<DataNode> dataNode = findDataNode(params);
+        if (dataNode.isPresent() && isRoutedTo(executionContext.getRouteContext().getRouteUnits().iterator().next(), dataNode.get())) {
+            executionUnitTemplates.putIfAbsent(dataNode.get(), executionUnit);
+        }
+    }
+    
+    private boolean isRoutedTo(final RouteUnit routeUnit, final DataNode dataNode) {
+        return routeUnit.getDataSourceMapper().getLogicName().equalsIgnoreCase(dataNode.getDataSourceName())
+                && 1 == routeUnit.getTableMappers().size() && routeUnit.getTableMappers().iterator().next().getActualName().equalsIgnoreCase(dataNode.getTableName());
+    }
+    
+    private Optional<DataNode> findDataNode(final List<Object> params) {
+        Map<String, Comparable<?>> shardingValues = new HashMap<>(shardingValueExpressions.size(), 1F);
+        for (Map.Entry<String, ExpressionSegment> entry : shardingValueExpressions.entrySet()) {
+            Object shardingValue = entry.getValue() instanceof ParameterMarkerExpressionSegment
+                    ? params.get(((ParameterMarkerExpressionSegment) entry.getValue()).getParameterMarkerIndex())
+                    : ((LiteralExpressionSegment) entry.getValue()).getLiterals();
+            if (!(shardingValue instanceof Comparable)) {
+                return Optional.empty();
+            }
+            shardingValues.put(entry.getKey(), (Comparable<?>) shardingValue);
+        }
+        try {
+            return Optional.of(rowRouter.route(shardingValues));
+        } catch (final UnsupportedSQLOperationException | NoShardingDatabaseRouteInfoException ignored) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.row;
+
+import com.cedarsoftware.util.CaseInsensitiveSet;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.ShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.exception.algorithm.NoShardingDatabaseRouteInfoException;
+import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
+import org.apache.shardingsphere.sharding.exception.syntax.UnsupportedShardingOperationException;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ListShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.engine.condition.value.ShardingConditionValue;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.ShardingStrategyFactory;
+import org.apache.shardingsphere.sharding.route.strategy.type.hint.HintShardingStrategy;
+import org.apache.shardingsphere.sharding.route.strategy.type.none.NoneShardingStrategy;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.sharding.rule.ShardingTable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharding row router.
+ * 
+ * <p>Route single rows of a sharding table to their data nodes by sharding values, without parsing or routing SQL for every row.
+ * It is designed for bulk loading, whose rows are shipped to the storage units directly.</p>
+ */
+public final class ShardingRowRouter {
+    
+    private final ShardingTable shardingTable;
+    
+    private final ShardingStrategy databaseShardingStrategy;
+    
+    private final ShardingStrategy tableShardingStrategy;
+    
+    private final ConfigurationProperties props;
+    
+    public ShardingRowRouter(final ShardingRule shardingRule, final String logicTableName, final ConfigurationProperties props) {
+        shardingTable = shardingRule.getShardingTable(logicTableName);
+        databaseShardingStrategy = createShardingStrategy(shardingRule, shardingRule.getDatabaseShardingStrategyConfiguration(shardingTable));
+        tableShardingStrategy = createShardingStrategy(shardingRule, shardingRule.getTableShardingStrategyConfiguration(shardingTable));
+        ShardingSpherePreconditions.checkState(!(databaseShardingStrategy instanceof HintShardingStrategy) && !(tableShardingStrategy instanceof HintShardingStrategy),
+                () -> new UnsupportedShardingOperationException("Route rows with hint sharding strategy", logicTableName));
+        this.props = props;
+    }
+    
+    private ShardingStrategy createShardingStrategy(final ShardingRule shardingRule, final ShardingStrategyConfiguration shardingStrategyConfig) {
+        return null == shardingStrategyConfig ? new NoneShardingStrategy()
+                : ShardingStrategyFactory.newInstance(shardingStrategyConfig, shardingRule.getShardingAlgorithms().get(shardingStrategyConfig.getShardingAlgorithmName()),
+                        shardingRule.getDefaultShardingColumn());
+    }
+    
+    /**
+     * Get sharding columns which are required to route rows.
+     *
+     * @return sharding columns
+     */
+    public Collection<String> getShardingColumns() {
+        Collection<String> result = new CaseInsensitiveSet<>(databaseShardingStrategy.getShardingColumns());
+        result.addAll(tableShardingStrategy.getShardingColumns());
+        return result;
+    }
+    
+    /**
+     * Route row.
+     *
+     * @param shardingValues sharding values of row, key is case insensitive sharding column name
+     * @return routed data node
+     * @throws NullShardingValueException null sharding value exception
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public DataNode route(final Map<String, Comparable<?>> shardingValues) {
+        String dataSourceName = routeUniquely(databaseShardingStrategy, shardingTable.getActualDataSourceNames(), shardingValues, true);
+        String tableName = routeUniquely(tableShardingStrategy, shardingTable.getActualTableNames(dataSourceName), shardingValues, false);
+        return new DataNode(dataSourceName, tableName);
+    }
+    
+    private String routeUniquely(final ShardingStrategy shardingStrategy, final Collection<String> availableTargetNames, final Map<String, Comparable<?>> shardingValues,
+                                 final boolean isDatabaseSharding) {
+        if (1 == availableTargetNames.size()) {
+            return availableTargetNames.iterator().next();
+        }
+        List<ShardingConditionValue> shardingConditionValues = new ArrayList<>(shardingStrategy.getShardingColumns().size());
+        for (String each : shardingStrategy.getShardingColumns()) {
+            Comparable<?> shardingValue = shardingValues.get(each);
+            ShardingSpherePreconditions.checkNotNull(shardingValue, NullShardingValueException::new);
+            shardingConditionValues.add(new ListShardingConditionValue<>(each, shardingTable.getLogicTable(), Collections.singletonList(shardingValue)));
+        }
+        Collection<String> result = shardingConditionValues.isEmpty() ? availableTargetNames
+                : shardingStrategy.doSharding(availableTargetNames, shardingConditionValues, isDatabaseSharding ? shardingTable.getDataSourceDataNode() : shardingTable.getTableDataNode(), props);
+        ShardingSpherePreconditions.checkState(!result.isEmpty(), NoShardingDatabaseRouteInfoException::new);
+        ShardingSpherePreconditions.checkState(1 == result.size(),
+                () -> new UnsupportedSQLOperationException(String.format("Route row of table `%s` to multiple data nodes", shardingTable.getLogicTable())));
+        return result.iterator().next();
+    }
+}
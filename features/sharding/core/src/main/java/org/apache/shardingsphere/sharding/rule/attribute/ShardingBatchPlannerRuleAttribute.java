@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.rule.attribute;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlanner;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlannerRuleAttribute;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.sharding.route.engine.batch.ShardingInsertBatchPlanner;
+
+import java.util.Optional;
+
+/**
+ * Sharding batch planner rule attribute.
+ */
+public final class ShardingBatchPlannerRuleAttribute implements BatchPlannerRuleAttribute {
+    
+    @Override
+    public Optional<BatchPlanner> findBatchPlanner(final ShardingSphereDatabase database, final SQLStatementContext sqlStatementContext,
+                                                   final HintValueContext hintValueContext, final ConfigurationProperties props) {
+        return ShardingInsertBatchPlanner.newInstance(database, sqlStatementContext, hintValueContext, props).map(BatchPlanner.class::cast);
+    }
+}
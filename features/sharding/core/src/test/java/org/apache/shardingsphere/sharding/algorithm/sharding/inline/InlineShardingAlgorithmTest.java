@@ -116,4 +116,16 @@ class InlineShardingAlgorithmTest {
         assertThat(inlineShardingAlgorithmWithSimplified.doSharding(availableTargetNames,
                 new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, new BigInteger("787694822390497280787694822390497280"))), is("t_order_0"));
     }
+    
+    @Test
+    void assertDoShardingWithCompiledExpression() {
+        InlineShardingAlgorithm compiledInlineShardingAlgorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE",
+                PropertiesBuilder.build(new Property("algorithm-expression", "<COMPILED>t_order_${order_id % 4}")));
+        List<String> availableTargetNames = Lists.newArrayList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(compiledInlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 6)), is("t_order_2"));
+        assertThat(compiledInlineShardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 787694822390497281L)), is("t_order_1"));
+        assertThat(compiledInlineShardingAlgorithm.doSharding(availableTargetNames,
+                new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, new BigInteger("787694822390497280787694822390497280"))), is("t_order_0"));
+    }
 }
@@ -142,6 +142,21 @@ class CachedShardingSQLRouterTest {
         Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, globalRuleMetaData, null, shardingCache, null, null);
         assertTrue(actual.isPresent());
         assertThat(actual.get(), is(expected));
+        verify(shardingCache.getRouteCache()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
+    }
+    
+    @Test
+    void assertCreateRouteContextWithQueryRoutedToNoDataNode() {
+        QueryContext queryContext = new QueryContext(sqlStatementContext, "select * from t", Collections.emptyList(), new HintValueContext());
+        when(shardingCache.getConfiguration()).thenReturn(new ShardingCacheConfiguration(100, null));
+        when(shardingCache.getRouteCacheableChecker()).thenReturn(mock(ShardingRouteCacheableChecker.class));
+        when(shardingCache.getRouteCacheableChecker().check(null, queryContext)).thenReturn(new ShardingRouteCacheableCheckResult(true, Collections.emptyList()));
+        when(shardingCache.getRouteCache()).thenReturn(mock(ShardingRouteCache.class));
+        RouteContext expected = new RouteContext();
+        OriginSQLRouter router = (unused, globalRuleMetaData, database, rule, props, connectionContext) -> expected;
+        Optional<RouteContext> actual = new CachedShardingSQLRouter().loadRouteContext(router, queryContext, mock(RuleMetaData.class), null, shardingCache, null, null);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get(), is(expected));
         verify(shardingCache.getRouteCache(), never()).put(any(ShardingRouteCacheKey.class), any(ShardingRouteCacheValue.class));
     }
 }
@@ -18,11 +18,16 @@
 package org.apache.shardingsphere.sharding.cache.route.cache;
 
 import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.sharding.api.config.cache.ShardingCacheOptionsConfiguration;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -36,4 +41,30 @@ class ShardingRouteCacheTest {
         cache.put(key, new ShardingRouteCacheValue(new RouteContext()));
         assertTrue(cache.get(key).isPresent());
     }
+    
+    @Test
+    void assertGetHitAndMissCount() {
+        ShardingRouteCache cache = new ShardingRouteCache(new ShardingCacheOptionsConfiguration(false, 1, 4));
+        ShardingRouteCacheKey key = new ShardingRouteCacheKey("select name from t where id in (?, ?)", Arrays.asList(1, 2));
+        cache.get(key);
+        cache.put(key, new ShardingRouteCacheValue(createRouteContext()));
+        cache.get(key);
+        cache.get(key);
+        assertThat(cache.getHitCount(), is(2L));
+        assertThat(cache.getMissCount(), is(1L));
+        assertThat(cache.getEvictionCount(), is(0L));
+    }
+    
+    @Test
+    void assertGetWeight() {
+        assertThat(new ShardingRouteCacheValue(new RouteContext()).getWeight(), is(1));
+        assertThat(new ShardingRouteCacheValue(createRouteContext()).getWeight(), is(3));
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_0", "ds_0"), Arrays.asList(new RouteMapper("t", "t_0"), new RouteMapper("t", "t_1"))));
+        result.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t", "t_0"))));
+        return result;
+    }
 }
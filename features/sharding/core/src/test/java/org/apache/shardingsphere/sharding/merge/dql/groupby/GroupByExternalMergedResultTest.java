@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLSelectStatement;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class GroupByExternalMergedResultTest {
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = createResultMerger().merge(Arrays.asList(createQueryResult(), createQueryResult(), createQueryResult()),
+                createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupByExternalMergedResult.class));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(0));
+        assertNull(actual.getValue(2, Object.class));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithSpilledGroups() throws SQLException {
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 10, 1, 2, 20}, new Object[]{1, 10, 2, 1, 10}, new Object[]{1, 30, 3, 1, 30});
+        QueryResult queryResult2 = createQueryResult(new Object[]{3, 10, 3, 3, 30}, new Object[]{1, 40, 4, 1, 40});
+        QueryResult queryResult3 = createQueryResult(new Object[]{1, 10, 1, 1, 10}, new Object[]{2, 50, 5, 2, 100});
+        MergedResult actual = createResultMerger().merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
+        assertThat(actual, instanceOf(GroupByExternalMergedResult.class));
+        assertRow(actual, 5, 2, 50);
+        assertRow(actual, 4, 1, 40);
+        assertRow(actual, 3, 4, 15);
+        assertRow(actual, 2, 1, 10);
+        assertRow(actual, 1, 3, 10);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertCloseAfterPartialRead() throws SQLException, IOException {
+        long spillFileCount = countSpillFiles();
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 10, 1, 2, 20}, new Object[]{1, 10, 2, 1, 10}, new Object[]{1, 30, 3, 1, 30});
+        QueryResult queryResult2 = createQueryResult(new Object[]{3, 10, 3, 3, 30}, new Object[]{1, 40, 4, 1, 40});
+        MergedResult actual = createResultMerger().merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
+        assertTrue(countSpillFiles() > spillFileCount);
+        assertRow(actual, 4, 1, 40);
+        actual.close();
+        assertThat(countSpillFiles(), is(spillFileCount));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNewInstanceFailedAfterSpilled() throws SQLException, IOException {
+        long spillFileCount = countSpillFiles();
+        QueryResult queryResult1 = createQueryResult(new Object[]{2, 10, 1, 2, 20}, new Object[]{1, 10, 2, 1, 10}, new Object[]{1, 30, 3, 1, 30});
+        QueryResult queryResult2 = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(queryResult2.next()).thenThrow(new SQLException("test"));
+        assertThrows(SQLException.class,
+                () -> createResultMerger().merge(Arrays.asList(queryResult1, queryResult2), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class)));
+        assertThat(countSpillFiles(), is(spillFileCount));
+    }
+    
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).count();
+        }
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count, final int avg) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(avg));
+        assertThat(actual.getValue(3, Object.class), is(id));
+    }
+    
+    private ShardingDQLResultMerger createResultMerger() {
+        return new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"),
+                new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.GROUP_BY_MERGE_MAX_IN_MEMORY_ROWS.getKey(), "1"))));
+    }
+    
+    private ShardingSphereDatabase createDatabase() {
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getName()).thenReturn("db_schema");
+        return result;
+    }
+    
+    private SelectStatementContext createSelectStatementContext() {
+        SelectStatement selectStatement = new MySQLSelectStatement();
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        selectStatement.setProjections(projectionsSegment);
+        selectStatement.setGroupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))));
+        selectStatement.setOrderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getSchema(DefaultDatabase.LOGIC_NAME)).thenReturn(mock(ShardingSphereSchema.class));
+        ShardingSphereMetaData metaData = new ShardingSphereMetaData(Collections.singletonMap(DefaultDatabase.LOGIC_NAME, database), mock(ResourceMetaData.class),
+                mock(RuleMetaData.class), mock(ConfigurationProperties.class));
+        return new SelectStatementContext(metaData, Collections.emptyList(), selectStatement, DefaultDatabase.LOGIC_NAME);
+    }
+    
+    private QueryResult createQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][(int) invocation.getArgument(0) - 1]);
+        return result;
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupBySpillFileTest {
+    
+    @Test
+    void assertWriteAndRead() {
+        GroupBySpillFile spillFile = new GroupBySpillFile(3);
+        spillFile.write(new MemoryQueryResultRow(new Object[]{1, "foo", new BigDecimal("1.5")}));
+        spillFile.write(new MemoryQueryResultRow(new Object[]{2, null, BigDecimal.ZERO}));
+        spillFile.finishWriting();
+        Optional<MemoryQueryResultRow> actual = spillFile.read();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getCell(1), is(1));
+        assertThat(actual.get().getCell(2), is("foo"));
+        assertThat(actual.get().getCell(3), is(new BigDecimal("1.5")));
+        actual = spillFile.read();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getCell(1), is(2));
+        assertNull(actual.get().getCell(2));
+        assertThat(actual.get().getCell(3), is(BigDecimal.ZERO));
+        assertFalse(spillFile.read().isPresent());
+    }
+}
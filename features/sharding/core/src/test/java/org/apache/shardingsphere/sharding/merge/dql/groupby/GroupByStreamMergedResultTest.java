@@ -53,11 +53,15 @@ import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -66,7 +70,7 @@ class GroupByStreamMergedResultTest {
     
     @Test
     void assertNextForResultSetsAllEmpty() throws SQLException {
-        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new ConfigurationProperties(new Properties()));
         MergedResult actual = resultMerger.merge(Arrays.asList(mockQueryResult(), mockQueryResult(), mockQueryResult()),
                 createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
         assertFalse(actual.next());
@@ -91,7 +95,7 @@ class GroupByStreamMergedResultTest {
         when(queryResult3.getValue(4, Object.class)).thenReturn(new Date(0L));
         when(queryResult3.getValue(5, Object.class)).thenReturn(2, 2, 3);
         when(queryResult3.getValue(6, Object.class)).thenReturn(20, 20, 30);
-        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new ConfigurationProperties(new Properties()));
         MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
         assertTrue(actual.next());
         assertThat(actual.getValue(1, Object.class), is(new BigDecimal(40)));
@@ -112,28 +116,10 @@ class GroupByStreamMergedResultTest {
     
     @Test
     void assertNextForMix() throws SQLException {
-        QueryResult queryResult1 = mockQueryResult();
-        when(queryResult1.next()).thenReturn(true, false);
-        when(queryResult1.getValue(1, Object.class)).thenReturn(20);
-        when(queryResult1.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult1.getValue(3, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(5, Object.class)).thenReturn(2);
-        when(queryResult1.getValue(6, Object.class)).thenReturn(20);
-        QueryResult queryResult2 = mockQueryResult();
-        when(queryResult2.next()).thenReturn(true, true, true, false);
-        when(queryResult2.getValue(1, Object.class)).thenReturn(20, 30, 40);
-        when(queryResult2.getValue(2, Object.class)).thenReturn(0);
-        when(queryResult2.getValue(3, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(5, Object.class)).thenReturn(2, 2, 3, 3, 3, 4);
-        when(queryResult2.getValue(6, Object.class)).thenReturn(20, 20, 30, 30, 30, 40);
-        QueryResult queryResult3 = mockQueryResult();
-        when(queryResult3.next()).thenReturn(true, true, false);
-        when(queryResult3.getValue(1, Object.class)).thenReturn(10, 30);
-        when(queryResult3.getValue(2, Object.class)).thenReturn(10);
-        when(queryResult3.getValue(3, Object.class)).thenReturn(1, 1, 1, 1, 3);
-        when(queryResult3.getValue(5, Object.class)).thenReturn(1, 1, 3);
-        when(queryResult3.getValue(6, Object.class)).thenReturn(10, 10, 30);
-        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+        QueryResult queryResult1 = mockQueryResult(new Object[]{20, 0, 2, null, 2, 20});
+        QueryResult queryResult2 = mockQueryResult(new Object[]{20, 0, 2, null, 2, 20}, new Object[]{30, 0, 3, null, 3, 30}, new Object[]{40, 0, 4, null, 4, 40});
+        QueryResult queryResult3 = mockQueryResult(new Object[]{10, 10, 1, null, 1, 10}, new Object[]{30, 10, 3, null, 3, 30});
+        ShardingDQLResultMerger resultMerger = new ShardingDQLResultMerger(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new ConfigurationProperties(new Properties()));
         MergedResult actual = resultMerger.merge(Arrays.asList(queryResult1, queryResult2, queryResult3), createSelectStatementContext(), createDatabase(), mock(ConnectionContext.class));
         assertTrue(actual.next());
         assertThat(actual.getValue(1, Object.class), is(new BigDecimal(10)));
@@ -192,6 +178,14 @@ class GroupByStreamMergedResultTest {
                 mock(ResourceMetaData.class), mock(RuleMetaData.class), Collections.singletonMap(DefaultDatabase.LOGIC_NAME, schema));
     }
     
+    private QueryResult mockQueryResult(final Object[]... rows) throws SQLException {
+        QueryResult result = mockQueryResult();
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < rows.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> rows[rowIndex.get()][invocation.<Integer>getArgument(0) - 1]);
+        return result;
+    }
+    
     private QueryResult mockQueryResult() throws SQLException {
         QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
         when(result.getMetaData().getColumnCount()).thenReturn(6);
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AggregationColumnIndexUtilsTest {
+    
+    @Test
+    void assertGetColumnIndexes() {
+        AggregationProjection countProjection = mockAggregationProjection(1);
+        List<AggregationProjection> derivedProjections = Arrays.asList(mockAggregationProjection(3), mockAggregationProjection(4));
+        AggregationProjection avgProjection = mockAggregationProjection(2);
+        when(avgProjection.getDerivedAggregationProjections()).thenReturn(derivedProjections);
+        int[][] actual = AggregationColumnIndexUtils.getColumnIndexes(Arrays.asList(countProjection, avgProjection));
+        assertThat(actual.length, is(2));
+        assertThat(actual[0], is(new int[]{1}));
+        assertThat(actual[1], is(new int[]{3, 4}));
+    }
+    
+    @Test
+    void assertGetColumnIndexesWithoutAggregationProjections() {
+        assertThat(AggregationColumnIndexUtils.getColumnIndexes(Collections.emptyList()).length, is(0));
+    }
+    
+    private AggregationProjection mockAggregationProjection(final int index) {
+        AggregationProjection result = mock(AggregationProjection.class);
+        when(result.getIndex()).thenReturn(index);
+        return result;
+    }
+}
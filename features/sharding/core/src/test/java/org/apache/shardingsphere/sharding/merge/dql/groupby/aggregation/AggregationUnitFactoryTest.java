@@ -17,11 +17,20 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.enums.AggregationType;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
+import java.sql.Types;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class AggregationUnitFactoryTest {
     
@@ -61,4 +70,51 @@ class AggregationUnitFactoryTest {
     void assertCreateBitXorAggregationUnit() {
         assertThat(AggregationUnitFactory.create(AggregationType.BIT_XOR, false), instanceOf(BitXorAggregationUnit.class));
     }
+    
+    @Test
+    void assertCreateLongAccumulationAggregationUnitForCount() throws SQLException {
+        AggregationProjection aggregationProjection = createAggregationProjection(AggregationType.COUNT, 1);
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.DECIMAL, 2)), instanceOf(LongAccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateLongAccumulationAggregationUnitForIntegralSum() throws SQLException {
+        AggregationProjection aggregationProjection = createAggregationProjection(AggregationType.SUM, 1);
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.BIGINT, 0)), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.DECIMAL, 0)), instanceOf(LongAccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.DECIMAL, 2)), instanceOf(AccumulationAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.DOUBLE, 0)), instanceOf(AccumulationAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateLongAverageAggregationUnitForIntegralAverage() throws SQLException {
+        AggregationProjection aggregationProjection = createAggregationProjection(AggregationType.AVG, 1);
+        aggregationProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.COUNT, 2));
+        aggregationProjection.getDerivedAggregationProjections().add(createAggregationProjection(AggregationType.SUM, 3));
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.INTEGER, 0)), instanceOf(LongAverageAggregationUnit.class));
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.FLOAT, 0)), instanceOf(AverageAggregationUnit.class));
+    }
+    
+    @Test
+    void assertCreateDistinctAggregationUnitWithMetaData() throws SQLException {
+        AggregationProjection aggregationProjection = new AggregationDistinctProjection(0, 0, AggregationType.COUNT, "COUNT(DISTINCT order_id)", null, "order_id", mock(DatabaseType.class));
+        aggregationProjection.setIndex(1);
+        assertThat(AggregationUnitFactory.create(aggregationProjection, createMetaData(Types.BIGINT, 0)), instanceOf(DistinctCountAggregationUnit.class));
+    }
+    
+    private AggregationProjection createAggregationProjection(final AggregationType type, final int index) {
+        AggregationProjection result = new AggregationProjection(type, "(order_id)", null, mock(DatabaseType.class));
+        result.setIndex(index);
+        return result;
+    }
+    
+    private QueryResultMetaData createMetaData(final int columnType, final int decimals) throws SQLException {
+        QueryResultMetaData result = mock(QueryResultMetaData.class);
+        when(result.getColumnCount()).thenReturn(3);
+        for (int i = 1; i <= 3; i++) {
+            when(result.getColumnType(i)).thenReturn(columnType);
+            when(result.getDecimals(i)).thenReturn(decimals);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LongAverageAggregationUnitTest {
+    
+    @Test
+    void assertAverageAggregation() {
+        LongAverageAggregationUnit aggregationUnit = new LongAverageAggregationUnit();
+        aggregationUnit.merge(null);
+        aggregationUnit.merge(Collections.singletonList(null));
+        aggregationUnit.merge(Arrays.asList(2, null));
+        assertNull(aggregationUnit.getResult());
+        aggregationUnit.merge(Arrays.asList(0, 0));
+        assertThat(aggregationUnit.getResult(), is(BigDecimal.ZERO));
+        aggregationUnit.merge(Arrays.asList(2L, 10));
+        aggregationUnit.merge(Arrays.asList(1, new BigDecimal("5")));
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("5.0000")));
+    }
+    
+    @Test
+    void assertAverageAggregationFromQueryResult() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(2L, 1L);
+        when(queryResult.getValue(2, Object.class)).thenReturn(3L, 4L);
+        LongAverageAggregationUnit aggregationUnit = new LongAverageAggregationUnit();
+        aggregationUnit.merge(queryResult, new int[]{1, 2});
+        aggregationUnit.merge(queryResult, new int[]{1, 2});
+        assertThat(aggregationUnit.getResult(), is(new BigDecimal("2.3333")));
+    }
+}
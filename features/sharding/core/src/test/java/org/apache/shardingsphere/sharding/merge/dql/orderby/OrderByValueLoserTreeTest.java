@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.database.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.sql.parser.sql.common.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.order.item.IndexOrderByItemSegment;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OrderByValueLoserTreeTest {
+    
+    @Test
+    void assertEmpty() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(Collections.emptyList());
+        assertTrue(actual.isEmpty());
+        assertNull(actual.peek());
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithSingleOrderByValue() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(new Integer[][]{{1, 2}}));
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(1));
+        assertTrue(actual.next());
+        assertThat(actual.peek().getQueryResult().getValue(1, Object.class), is(2));
+        assertFalse(actual.next());
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertNextWithMultipleOrderByValues() throws SQLException {
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(createOrderByValues(new Integer[][]{{3, 9}, {1, 4, 10}, {2}, {5, 6, 7}, {8}}));
+        List<Object> values = new ArrayList<>(10);
+        do {
+            values.add(actual.peek().getQueryResult().getValue(1, Object.class));
+        } while (actual.next());
+        assertThat(values, is(Arrays.<Object>asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10)));
+        assertTrue(actual.isEmpty());
+    }
+    
+    @Test
+    void assertNextWithEqualValues() throws SQLException {
+        List<OrderByValue> orderByValues = createOrderByValues(new Integer[][]{{1, 2}, {1}, {2}});
+        OrderByValueLoserTree actual = new OrderByValueLoserTree(orderByValues);
+        assertThat(actual.peek(), is(orderByValues.get(0)));
+        assertTrue(actual.next());
+        assertThat(actual.peek(), is(orderByValues.get(1)));
+        assertTrue(actual.next());
+        assertThat(actual.peek(), is(orderByValues.get(0)));
+        assertTrue(actual.next());
+        assertThat(actual.peek(), is(orderByValues.get(2)));
+        assertFalse(actual.next());
+    }
+    
+    private List<OrderByValue> createOrderByValues(final Integer[][] values) throws SQLException {
+        SelectStatementContext selectStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        Collection<OrderByItem> orderByItems = Collections.singletonList(createOrderByItem());
+        List<OrderByValue> result = new ArrayList<>(values.length);
+        for (Integer[] each : values) {
+            OrderByValue orderByValue = new OrderByValue(createQueryResult(each), orderByItems, selectStatementContext, mock(ShardingSphereSchema.class));
+            assertTrue(orderByValue.next());
+            result.add(orderByValue);
+        }
+        return result;
+    }
+    
+    private QueryResult createQueryResult(final Integer... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < values.length);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values[rowIndex.get()]);
+        return result;
+    }
+    
+    private OrderByItem createOrderByItem() {
+        OrderByItem result = new OrderByItem(new IndexOrderByItemSegment(0, 0, 1, OrderDirection.ASC, NullsOrderType.FIRST));
+        result.setIndex(1);
+        return result;
+    }
+}
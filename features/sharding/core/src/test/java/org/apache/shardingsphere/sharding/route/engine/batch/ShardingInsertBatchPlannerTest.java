@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.batch;
+
+import org.apache.shardingsphere.infra.binder.context.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.apache.shardingsphere.sharding.route.engine.fixture.ShardingRoutingEngineFixtureBuilder;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.ExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.dml.expr.simple.ParameterMarkerExpressionSegment;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ShardingInsertBatchPlannerTest {
+    
+    private static final String ACTUAL_SQL = "INSERT INTO t_order_0 (user_id, order_id, status) VALUES (?, ?, 'init')";
+    
+    @Test
+    void assertNewInstanceWithSelectStatement() {
+        assertThat(newInstance(mock(SelectStatementContext.class)).isPresent(), is(false));
+    }
+    
+    @Test
+    void assertNewInstanceWithNotShardingTable() {
+        assertThat(newInstance(mockInsertStatementContext("t_other", new ParameterMarkerExpressionSegment(0, 0, 0))).isPresent(), is(false));
+    }
+    
+    @Test
+    void assertNewInstanceWithMultipleInsertValues() {
+        InsertStatementContext insertStatementContext = mockInsertStatementContext("t_order", new ParameterMarkerExpressionSegment(0, 0, 0));
+        when(insertStatementContext.getInsertValueContexts()).thenReturn(Arrays.asList(mock(InsertValueContext.class), mock(InsertValueContext.class)));
+        assertThat(newInstance(insertStatementContext).isPresent(), is(false));
+    }
+    
+    @Test
+    void assertNewInstanceWithShardingValueOfExpression() {
+        assertThat(newInstance(mockInsertStatementContext("t_order", mock(ExpressionSegment.class))).isPresent(), is(false));
+    }
+    
+    @Test
+    void assertPlanWithoutTemplate() {
+        Optional<ShardingInsertBatchPlanner> actual = newInstance(mockInsertStatementContext("t_order", new ParameterMarkerExpressionSegment(0, 0, 0)));
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().plan(Arrays.asList(1, 2L)).isPresent(), is(false));
+    }
+    
+    @Test
+    void assertPlanWithTemplate() {
+        Optional<ShardingInsertBatchPlanner> actual = newInstance(mockInsertStatementContext("t_order", new ParameterMarkerExpressionSegment(0, 0, 0)));
+        assertThat(actual.isPresent(), is(true));
+        actual.get().keepTemplate(Arrays.asList(1, 2L), createExecutionContext(Arrays.asList(1, 2L), "t_order_0"));
+        List<Object> params = Arrays.asList(3, 4L);
+        Optional<ExecutionUnit> executionUnit = actual.get().plan(params);
+        assertThat(executionUnit.isPresent(), is(true));
+        assertThat(executionUnit.get().getDataSourceName(), is("ds_1"));
+        assertThat(executionUnit.get().getSqlUnit().getSql(), is(ACTUAL_SQL));
+        assertThat(executionUnit.get().getSqlUnit().getParameters(), is(params));
+        assertThat(actual.get().plan(Arrays.asList(2, 3L)).isPresent(), is(false));
+    }
+    
+    @Test
+    void assertKeepTemplateWithDifferentRouteResult() {
+        Optional<ShardingInsertBatchPlanner> actual = newInstance(mockInsertStatementContext("t_order", new ParameterMarkerExpressionSegment(0, 0, 0)));
+        assertThat(actual.isPresent(), is(true));
+        actual.get().keepTemplate(Arrays.asList(1, 2L), createExecutionContext(Arrays.asList(1, 2L), "t_order_1"));
+        assertThat(actual.get().plan(Arrays.asList(3, 4L)).isPresent(), is(false));
+    }
+    
+    @Test
+    void assertKeepTemplateWithRewrittenParameters() {
+        Optional<ShardingInsertBatchPlanner> actual = newInstance(mockInsertStatementContext("t_order", new ParameterMarkerExpressionSegment(0, 0, 0)));
+        assertThat(actual.isPresent(), is(true));
+        actual.get().keepTemplate(Arrays.asList(1, 2L), createExecutionContext(Arrays.asList(1, 2L, "encrypted"), "t_order_0"));
+        assertThat(actual.get().plan(Arrays.asList(3, 4L)).isPresent(), is(false));
+    }
+    
+    private Optional<ShardingInsertBatchPlanner> newInstance(final SQLStatementContext sqlStatementContext) {
+        RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(ShardingRoutingEngineFixtureBuilder.createBasedShardingRule()));
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class);
+        when(database.getRuleMetaData()).thenReturn(ruleMetaData);
+        return ShardingInsertBatchPlanner.newInstance(database, sqlStatementContext, new HintValueContext(), new ConfigurationProperties(new Properties()));
+    }
+    
+    private InsertStatementContext mockInsertStatementContext(final String tableName, final ExpressionSegment userIdExpression) {
+        InsertStatementContext result = mock(InsertStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getGeneratedKeyContext()).thenReturn(Optional.empty());
+        when(result.getInsertSelectContext()).thenReturn(null);
+        when(result.getTablesContext().getTableNames()).thenReturn(Collections.singleton(tableName));
+        when(result.getSqlStatement().getTable().getTableName().getIdentifier().getValue()).thenReturn(tableName);
+        when(result.getColumnNames()).thenReturn(Arrays.asList("user_id", "order_id", "status"));
+        InsertValueContext insertValueContext = mock(InsertValueContext.class);
+        when(insertValueContext.getValueExpressions()).thenReturn(Arrays.asList(userIdExpression, new ParameterMarkerExpressionSegment(0, 0, 1), new LiteralExpressionSegment(0, 0, "init")));
+        when(result.getInsertValueContexts()).thenReturn(Collections.singletonList(insertValueContext));
+        return result;
+    }
+    
+    private ExecutionContext createExecutionContext(final List<Object> rewrittenParams, final String actualTableName) {
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singleton(new RouteMapper("t_order", actualTableName))));
+        ExecutionUnit executionUnit = new ExecutionUnit("ds_1", new SQLUnit(ACTUAL_SQL, rewrittenParams, Collections.singletonList(new RouteMapper("t_order", actualTableName))));
+        return new ExecutionContext(mock(QueryContext.class), Collections.singleton(executionUnit), routeContext);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.route.engine.row;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.sharding.exception.data.NullShardingValueException;
+import org.apache.shardingsphere.sharding.exception.syntax.UnsupportedShardingOperationException;
+import org.apache.shardingsphere.sharding.route.engine.fixture.ShardingRoutingEngineFixtureBuilder;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ShardingRowRouterTest {
+    
+    @Test
+    void assertGetShardingColumns() {
+        ShardingRowRouter actual = new ShardingRowRouter(ShardingRoutingEngineFixtureBuilder.createBasedShardingRule(), "t_order", new ConfigurationProperties(new Properties()));
+        assertThat(actual.getShardingColumns().size(), is(2));
+        assertThat(actual.getShardingColumns().containsAll(Arrays.asList("USER_ID", "order_id")), is(true));
+    }
+    
+    @Test
+    void assertRoute() {
+        ShardingRowRouter actual = new ShardingRowRouter(ShardingRoutingEngineFixtureBuilder.createBasedShardingRule(), "t_order", new ConfigurationProperties(new Properties()));
+        assertThat(actual.route(createShardingValues(1, 2L)), is(new DataNode("ds_1", "t_order_0")));
+        assertThat(actual.route(createShardingValues(2, 3L)), is(new DataNode("ds_0", "t_order_1")));
+    }
+    
+    @Test
+    void assertRouteWithNullShardingValue() {
+        ShardingRowRouter actual = new ShardingRowRouter(ShardingRoutingEngineFixtureBuilder.createBasedShardingRule(), "t_order", new ConfigurationProperties(new Properties()));
+        assertThrows(NullShardingValueException.class, () -> actual.route(createShardingValues(1, null)));
+    }
+    
+    @Test
+    void assertNewInstanceWithHintShardingStrategy() {
+        assertThrows(UnsupportedShardingOperationException.class,
+                () -> new ShardingRowRouter(ShardingRoutingEngineFixtureBuilder.createMixedShardingRule(), "t_hint_ds_test", new ConfigurationProperties(new Properties())));
+    }
+    
+    private Map<String, Comparable<?>> createShardingValues(final Integer userId, final Long orderId) {
+        Map<String, Comparable<?>> result = new CaseInsensitiveMap<>(2, 1F);
+        result.put("user_id", userId);
+        result.put("order_id", orderId);
+        return result;
+    }
+}
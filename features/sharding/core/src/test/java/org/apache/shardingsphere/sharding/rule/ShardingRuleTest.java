@@ -30,6 +30,7 @@ import org.apache.shardingsphere.infra.binder.context.statement.dml.UpdateStatem
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlannerRuleAttribute;
 import org.apache.shardingsphere.infra.instance.InstanceContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
@@ -209,6 +210,11 @@ class ShardingRuleTest {
         assertFalse(createMaximumShardingRule().getAttributes().getAttribute(DataNodeRuleAttribute.class).findLogicTableByActualTable("table_3").isPresent());
     }
     
+    @Test
+    void assertFindBatchPlannerRuleAttribute() {
+        assertTrue(createMaximumShardingRule().getAttributes().findAttribute(BatchPlannerRuleAttribute.class).isPresent());
+    }
+    
     @Test
     void assertGetTableRuleWithShardingTable() {
         ShardingTable actual = createMaximumShardingRule().getShardingTable("Logic_Table");
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.instance.InstanceContextAware;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Batch snowflake key generate algorithm.
+ * 
+ * <p>Keys have the same layout as {@link SnowflakeKeyGenerateAlgorithm}.
+ * Last milliseconds and sequence are packed into one atomic long, so a whole range of sequences is reserved by one compare and set without locking.</p>
+ * 
+ * <pre>
+ *     Packed state is 64 bit.
+ *     52 bits milliseconds offset from {@link SnowflakeKeyGenerateAlgorithm#EPOCH}.
+ *     12 bits last reserved sequence in the milliseconds.
+ * </pre>
+ */
+public final class BatchSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, InstanceContextAware {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1 << SEQUENCE_BITS) - 1L;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLIS = 10;
+    
+    private static final int DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    private final AtomicReference<InstanceContext> instanceContext = new AtomicReference<>();
+    
+    private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
+    
+    private final AtomicLong state = new AtomicLong(-1L << SEQUENCE_BITS);
+    
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxTolerateTimeDifferenceMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK, () -> new AlgorithmInitializationException(this, "Illegal max vibration offset."));
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMillis(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLIS).toString());
+        ShardingSpherePreconditions.checkState(result >= 0, () -> new AlgorithmInitializationException(this, "Illegal max tolerate time difference milliseconds."));
+        return result;
+    }
+    
+    @Override
+    public void setInstanceContext(final InstanceContext instanceContext) {
+        this.instanceContext.set(instanceContext);
+        if (null != instanceContext) {
+            instanceContext.generateWorkerId(props);
+        }
+    }
+    
+    @Override
+    public Collection<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        List<Long> result = new ArrayList<>(keyGenerateCount);
+        long workerIdBits = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        while (result.size() < keyGenerateCount) {
+            reserve(keyGenerateCount - result.size(), workerIdBits, result);
+        }
+        return result;
+    }
+    
+    private void reserve(final int keyGenerateCount, final long workerIdBits, final Collection<Long> keys) {
+        long lastState = state.get();
+        long lastMillis = lastState >> SEQUENCE_BITS;
+        long currentMillis = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+        if (currentMillis < lastMillis) {
+            waitTolerateTimeDifference(lastMillis, currentMillis);
+            return;
+        }
+        long firstSequence;
+        if (currentMillis == lastMillis) {
+            if (SEQUENCE_MASK == (lastState & SEQUENCE_MASK)) {
+                waitUntilNextTime(currentMillis);
+                return;
+            }
+            firstSequence = (lastState & SEQUENCE_MASK) + 1L;
+        } else {
+            firstSequence = vibrateSequenceOffset();
+        }
+        long lastSequence = Math.min(SEQUENCE_MASK, firstSequence + keyGenerateCount - 1L);
+        if (!state.compareAndSet(lastState, currentMillis << SEQUENCE_BITS | lastSequence)) {
+            return;
+        }
+        long timestampBits = currentMillis << TIMESTAMP_LEFT_SHIFT_BITS;
+        for (long each = firstSequence; each <= lastSequence; each++) {
+            keys.add(timestampBits | workerIdBits | each);
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitTolerateTimeDifference(final long lastMillis, final long currentMillis) {
+        long timeDifferenceMillis = lastMillis - currentMillis;
+        ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis,
+                () -> new AlgorithmExecuteException(this, "Clock is moving backwards, last time is %d milliseconds, current time is %d milliseconds.",
+                        lastMillis + SnowflakeKeyGenerateAlgorithm.EPOCH, currentMillis + SnowflakeKeyGenerateAlgorithm.EPOCH));
+        Thread.sleep(timeDifferenceMillis);
+    }
+    
+    private void waitUntilNextTime(final long lastMillis) {
+        long currentMillis = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+        while (currentMillis <= lastMillis) {
+            currentMillis = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+        }
+    }
+    
+    private long vibrateSequenceOffset() {
+        return sequenceOffset.updateAndGet(current -> current >= maxVibrationOffset ? 0 : current + 1);
+    }
+    
+    private int getWorkerId() {
+        return null == instanceContext.get() ? DEFAULT_WORKER_ID : instanceContext.get().getWorkerId();
+    }
+    
+    @Override
+    public String getType() {
+        return "BATCH_SNOWFLAKE";
+    }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.core.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.algorithm.keygen.snowflake.fixture.FixedTimeService;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+class BatchSnowflakeKeyGenerateAlgorithmTest {
+    
+    @AfterEach
+    void tearDown() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        Collection<Future<Collection<? extends Comparable<?>>>> futures = new LinkedList<>();
+        int taskNumber = threadNumber * 4;
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * 1000, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * 1000));
+    }
+    
+    @Test
+    void assertVibrateSequenceOffsetWithMultipleThreads() throws ExecutionException, InterruptedException, TimeoutException {
+        AtomicLong currentMillis = new AtomicLong(SnowflakeKeyGenerateAlgorithm.EPOCH);
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService() {
+            
+            @Override
+            public long getCurrentMillis() {
+                return currentMillis.incrementAndGet();
+            }
+        });
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE", PropertiesBuilder.build(new Property("max-vibration-offset", "3")));
+        Collection<Future<Collection<Long>>> futures = new LinkedList<>();
+        for (int i = 0; i < threadNumber; i++) {
+            futures.add(executor.submit(() -> {
+                Collection<Long> result = new LinkedList<>();
+                for (int j = 0; j < 1000; j++) {
+                    algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1).forEach(each -> result.add((Long) each));
+                }
+                return result;
+            }));
+        }
+        for (Future<Collection<Long>> each : futures) {
+            for (long key : each.get(10L, TimeUnit.SECONDS)) {
+                assertThat(key & 4095L, lessThanOrEqualTo(3L));
+            }
+        }
+        executor.shutdown();
+        int actualSequenceOffset = getSequenceOffset(algorithm);
+        assertThat(actualSequenceOffset, greaterThanOrEqualTo(0));
+        assertThat(actualSequenceOffset, lessThanOrEqualTo(3));
+    }
+    
+    @Test
+    void assertGenerateKeysInOneMillisecond() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5)), is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysWithVibrationInDifferentMilliseconds() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.<Comparable<?>>asList(0L, 1L)));
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.<Comparable<?>>asList(4194305L, 4194306L)));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMillisecond() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(2));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        setState(algorithm, 0L, 4093L);
+        List<Comparable<?>> expected = Arrays.asList(4094L, 4095L, 4194304L, 4194305L, 4194306L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 5)), is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysWithClockCallBack() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE");
+        setState(algorithm, 2L, 0L);
+        List<Comparable<?>> expected = Arrays.asList(8388609L, 8388610L, 8388611L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 3)), is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysWithClockCallBackBeyondTolerateTime() {
+        BatchSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE",
+                PropertiesBuilder.build(new Property("max-tolerate-time-difference-milliseconds", "0")));
+        setState(algorithm, 2L, 0L);
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 3));
+    }
+    
+    @Test
+    void assertSetMaxVibrationOffsetFailureWhenOutOfRange() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCH_SNOWFLAKE", PropertiesBuilder.build(new Property("max-vibration-offset", "4096"))));
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private int getSequenceOffset(final KeyGenerateAlgorithm algorithm) {
+        return ((AtomicInteger) Plugins.getMemberAccessor().get(BatchSnowflakeKeyGenerateAlgorithm.class.getDeclaredField("sequenceOffset"), algorithm)).get();
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setState(final KeyGenerateAlgorithm algorithm, final long millis, final long sequence) {
+        Plugins.getMemberAccessor().set(BatchSnowflakeKeyGenerateAlgorithm.class.getDeclaredField("state"), algorithm, new AtomicLong(millis << 12L | sequence));
+    }
+}
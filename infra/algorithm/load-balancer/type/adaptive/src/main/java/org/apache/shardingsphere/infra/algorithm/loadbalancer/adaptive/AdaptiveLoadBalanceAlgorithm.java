@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import lombok.Setter;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Adaptive load balance algorithm.
+ * 
+ * <p>Targets are chosen by in-flight execution count and EWMA latency observed from SQL execution hooks, so slow targets shed traffic until they recover.
+ * Statistics belong to the database which the algorithm is configured in, and are evicted when the algorithm is closed.</p>
+ */
+public final class AdaptiveLoadBalanceAlgorithm implements LoadBalanceAlgorithm, DatabaseNameAware, AutoCloseable {
+    
+    private static final String STRATEGY_KEY = "strategy";
+    
+    private AdaptiveLoadBalanceStrategy strategy;
+    
+    @Setter
+    private String databaseName;
+    
+    @Override
+    public void init(final Properties props) {
+        String value = props.getProperty(STRATEGY_KEY, AdaptiveLoadBalanceStrategy.POWER_OF_TWO_CHOICES.name()).trim().toUpperCase();
+        try {
+            strategy = AdaptiveLoadBalanceStrategy.valueOf(value);
+        } catch (final IllegalArgumentException ex) {
+            throw new AlgorithmInitializationException(this, "Strategy `%s` is invalid, supported strategies are %s.", value, Arrays.toString(AdaptiveLoadBalanceStrategy.values()));
+        }
+    }
+    
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        if (1 == availableTargetNames.size()) {
+            return availableTargetNames.get(0);
+        }
+        if (null == databaseName) {
+            return availableTargetNames.get(ThreadLocalRandom.current().nextInt(availableTargetNames.size()));
+        }
+        return AdaptiveLoadBalanceStrategy.LEAST_OUTSTANDING == strategy ? getLeastOutstandingTargetName(availableTargetNames) : getPowerOfTwoChoicesTargetName(availableTargetNames);
+    }
+    
+    private String getPowerOfTwoChoicesTargetName(final List<String> availableTargetNames) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(availableTargetNames.size());
+        int secondIndex = (firstIndex + 1 + random.nextInt(availableTargetNames.size() - 1)) % availableTargetNames.size();
+        String first = availableTargetNames.get(firstIndex);
+        String second = availableTargetNames.get(secondIndex);
+        long currentNanos = System.nanoTime();
+        TargetLoadStatisticsRegistry registry = TargetLoadStatisticsRegistry.getInstance();
+        return registry.track(databaseName, second).getScore(currentNanos) < registry.track(databaseName, first).getScore(currentNanos) ? second : first;
+    }
+    
+    private String getLeastOutstandingTargetName(final List<String> availableTargetNames) {
+        int offset = ThreadLocalRandom.current().nextInt(availableTargetNames.size());
+        String result = null;
+        int minInFlightCount = Integer.MAX_VALUE;
+        for (int i = 0; i < availableTargetNames.size(); i++) {
+            String each = availableTargetNames.get((offset + i) % availableTargetNames.size());
+            int inFlightCount = TargetLoadStatisticsRegistry.getInstance().track(databaseName, each).getInFlightCount();
+            if (inFlightCount < minInFlightCount) {
+                result = each;
+                minInFlightCount = inFlightCount;
+            }
+        }
+        return result;
+    }
+    
+    @Override
+    public void close() {
+        if (null != databaseName) {
+            TargetLoadStatisticsRegistry.getInstance().evict(databaseName);
+        }
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptive load balance SQL execution hook, feeds latency and in-flight count of tracked targets.
+ * 
+ * <p>The hook is stateless and shared by all executions, start and finish of an execution are paired by thread.</p>
+ */
+@SingletonSPI
+public final class AdaptiveLoadBalanceSQLExecutionHook implements SQLExecutionHook {
+    
+    private static final ThreadLocal<TrackedExecution> TRACKED_EXECUTION = new ThreadLocal<>();
+    
+    @Override
+    public void start(final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        TRACKED_EXECUTION.remove();
+    }
+    
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        Optional<TargetLoadStatistics> statistics = TargetLoadStatisticsRegistry.getInstance().find(databaseName, dataSourceName);
+        if (statistics.isPresent()) {
+            statistics.get().start();
+            TRACKED_EXECUTION.set(new TrackedExecution(statistics.get(), System.nanoTime()));
+        } else {
+            TRACKED_EXECUTION.remove();
+        }
+    }
+    
+    @Override
+    public void finishSuccess() {
+        finish();
+    }
+    
+    @Override
+    public void finishFailure(final Exception cause) {
+        finish();
+    }
+    
+    private void finish() {
+        TrackedExecution trackedExecution = TRACKED_EXECUTION.get();
+        if (null != trackedExecution) {
+            TRACKED_EXECUTION.remove();
+            trackedExecution.getStatistics().finish(System.nanoTime() - trackedExecution.getStartNanos());
+        }
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class TrackedExecution {
+        
+        private final TargetLoadStatistics statistics;
+        
+        private final long startNanos;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Target load statistics.
+ * 
+ * <p>Latency is tracked as a peak-sensitive EWMA: a slower sample takes effect immediately, while faster samples and idle time decay it over {@link #DECAY_NANOS},
+ * so a target which stopped receiving traffic is probed again once its penalty has faded.</p>
+ */
+public final class TargetLoadStatistics {
+    
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10L);
+    
+    private final AtomicInteger inFlightCount = new AtomicInteger();
+    
+    private volatile double latencyNanos;
+    
+    private volatile long lastUpdateNanos = System.nanoTime();
+    
+    /**
+     * Mark execution started.
+     */
+    public void start() {
+        inFlightCount.incrementAndGet();
+    }
+    
+    /**
+     * Mark execution finished.
+     *
+     * @param elapsedNanos elapsed nanos of execution
+     */
+    public void finish(final long elapsedNanos) {
+        inFlightCount.decrementAndGet();
+        recordLatency(elapsedNanos, System.nanoTime());
+    }
+    
+    synchronized void recordLatency(final long sampleNanos, final long currentNanos) {
+        double weight = getDecayWeight(currentNanos);
+        latencyNanos = sampleNanos > latencyNanos ? sampleNanos : latencyNanos * weight + sampleNanos * (1D - weight);
+        lastUpdateNanos = currentNanos;
+    }
+    
+    /**
+     * Get in-flight execution count.
+     *
+     * @return in-flight execution count
+     */
+    public int getInFlightCount() {
+        return inFlightCount.get();
+    }
+    
+    /**
+     * Get decayed latency nanos.
+     *
+     * @param currentNanos current nanos
+     * @return decayed latency nanos
+     */
+    public double getLatencyNanos(final long currentNanos) {
+        return latencyNanos * getDecayWeight(currentNanos);
+    }
+    
+    /**
+     * Get load score, lower is better.
+     *
+     * @param currentNanos current nanos
+     * @return load score
+     */
+    public double getScore(final long currentNanos) {
+        return (getLatencyNanos(currentNanos) + 1D) * (getInFlightCount() + 1);
+    }
+    
+    private double getDecayWeight(final long currentNanos) {
+        return Math.exp(-Math.max(0L, currentNanos - lastUpdateNanos) / DECAY_NANOS);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Target load statistics registry.
+ * 
+ * <p>Only targets balanced by adaptive load balance algorithms are recorded, so other executions pay a single lookup.
+ * Statistics are keyed by database name and storage unit name, and are evicted when the owning rule is closed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TargetLoadStatisticsRegistry {
+    
+    private static final TargetLoadStatisticsRegistry INSTANCE = new TargetLoadStatisticsRegistry();
+    
+    private final Map<String, Map<String, TargetLoadStatistics>> statistics = new ConcurrentHashMap<>();
+    
+    /**
+     * Get target load statistics registry.
+     *
+     * @return target load statistics registry
+     */
+    public static TargetLoadStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Track target.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     * @return target load statistics
+     */
+    public TargetLoadStatistics track(final String databaseName, final String storageUnitName) {
+        Map<String, TargetLoadStatistics> databaseStatistics = statistics.get(databaseName);
+        if (null == databaseStatistics) {
+            databaseStatistics = statistics.computeIfAbsent(databaseName, key -> new ConcurrentHashMap<>());
+        }
+        TargetLoadStatistics result = databaseStatistics.get(storageUnitName);
+        return null == result ? databaseStatistics.computeIfAbsent(storageUnitName, key -> new TargetLoadStatistics()) : result;
+    }
+    
+    /**
+     * Find target load statistics.
+     *
+     * @param databaseName database name
+     * @param storageUnitName storage unit name
+     * @return found target load statistics, empty if target is not tracked
+     */
+    public Optional<TargetLoadStatistics> find(final String databaseName, final String storageUnitName) {
+        if (null == databaseName) {
+            return Optional.empty();
+        }
+        Map<String, TargetLoadStatistics> databaseStatistics = statistics.get(databaseName);
+        return null == databaseStatistics ? Optional.empty() : Optional.ofNullable(databaseStatistics.get(storageUnitName));
+    }
+    
+    /**
+     * Evict all statistics of database.
+     *
+     * @param databaseName database name
+     */
+    public void evict(final String databaseName) {
+        statistics.remove(databaseName);
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statistics.clear();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.DatabaseNameAware;
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.core.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveLoadBalanceAlgorithmTest {
+    
+    private final List<String> availableTargetNames = Arrays.asList("test_read_ds_1", "test_read_ds_2");
+    
+    @AfterEach
+    void tearDown() {
+        TargetLoadStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    void assertInitWithInvalidStrategy() {
+        assertThrows(AlgorithmInitializationException.class, () -> TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", PropertiesBuilder.build(new Property("strategy", "foo"))));
+    }
+    
+    @Test
+    void assertGetSingleAvailableTarget() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("test_read_ds_1")), is("test_read_ds_1"));
+    }
+    
+    @Test
+    void assertGetTargetNameWithoutDatabaseName() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", new Properties());
+        assertTrue(availableTargetNames.contains(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames)));
+        assertFalse(TargetLoadStatisticsRegistry.getInstance().find("foo_db", "test_read_ds_1").isPresent());
+    }
+    
+    @Test
+    void assertGetTargetNameWithPowerOfTwoChoices() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        TargetLoadStatisticsRegistry.getInstance().track("foo_db", "test_read_ds_1").recordLatency(TimeUnit.SECONDS.toNanos(1L), System.nanoTime());
+        TargetLoadStatisticsRegistry.getInstance().track("foo_db", "test_read_ds_2").recordLatency(TimeUnit.MILLISECONDS.toNanos(1L), System.nanoTime());
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    void assertGetTargetNameWithLeastOutstanding() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(PropertiesBuilder.build(new Property("strategy", "least_outstanding")));
+        TargetLoadStatisticsRegistry.getInstance().track("foo_db", "test_read_ds_1").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("test_read_ds_2"));
+        }
+    }
+    
+    @Test
+    void assertStatisticsIsolatedByDatabaseName() {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(PropertiesBuilder.build(new Property("strategy", "least_outstanding")));
+        TargetLoadStatisticsRegistry.getInstance().track("bar_db", "test_read_ds_1").start();
+        TargetLoadStatisticsRegistry.getInstance().track("foo_db", "test_read_ds_2").start();
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("test_read_ds_1"));
+        }
+    }
+    
+    @Test
+    void assertClose() throws Exception {
+        LoadBalanceAlgorithm loadBalanceAlgorithm = createLoadBalanceAlgorithm(new Properties());
+        loadBalanceAlgorithm.getTargetName("ds", availableTargetNames);
+        TargetLoadStatisticsRegistry.getInstance().track("bar_db", "test_read_ds_1");
+        ((AutoCloseable) loadBalanceAlgorithm).close();
+        assertFalse(TargetLoadStatisticsRegistry.getInstance().find("foo_db", "test_read_ds_1").isPresent());
+        assertFalse(TargetLoadStatisticsRegistry.getInstance().find("foo_db", "test_read_ds_2").isPresent());
+        assertTrue(TargetLoadStatisticsRegistry.getInstance().find("bar_db", "test_read_ds_1").isPresent());
+    }
+    
+    private LoadBalanceAlgorithm createLoadBalanceAlgorithm(final Properties props) {
+        LoadBalanceAlgorithm result = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "ADAPTIVE", props);
+        ((DatabaseNameAware) result).setDatabaseName("foo_db");
+        return result;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.apache.shardingsphere.infra.database.core.connector.ConnectionProperties;
+import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.spi.ShardingSphereServiceLoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class AdaptiveLoadBalanceSQLExecutionHookTest {
+    
+    private final AdaptiveLoadBalanceSQLExecutionHook hook = new AdaptiveLoadBalanceSQLExecutionHook();
+    
+    @AfterEach
+    void tearDown() {
+        TargetLoadStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    void assertFinishSuccessWithTrackedTarget() throws InterruptedException {
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.getInstance().track("foo_db", "ds_0");
+        hook.start("foo_db", "ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(statistics.getInFlightCount(), is(1));
+        Thread.sleep(1L);
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+        assertThat(statistics.getLatencyNanos(System.nanoTime()), greaterThan(0D));
+    }
+    
+    @Test
+    void assertFinishFailureWithTrackedTarget() {
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.getInstance().track("foo_db", "ds_0");
+        hook.start("foo_db", "ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishFailure(new RuntimeException(""));
+        hook.finishFailure(new RuntimeException(""));
+        assertThat(statistics.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertStartWithTargetOfOtherDatabase() {
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.getInstance().track("foo_db", "ds_0");
+        hook.start("bar_db", "ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(statistics.getInFlightCount(), is(0));
+        hook.finishSuccess();
+        assertFalse(TargetLoadStatisticsRegistry.getInstance().find("bar_db", "ds_0").isPresent());
+    }
+    
+    @Test
+    void assertStartWithoutDatabaseName() {
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.getInstance().track("foo_db", "ds_0");
+        hook.start("ds_0", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishSuccess();
+        assertThat(statistics.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertGetSingletonServiceInstance() {
+        assertThat(getAdaptiveHook(), sameInstance(getAdaptiveHook()));
+    }
+    
+    private SQLExecutionHook getAdaptiveHook() {
+        return ShardingSphereServiceLoader.getServiceInstances(SQLExecutionHook.class).stream().filter(AdaptiveLoadBalanceSQLExecutionHook.class::isInstance).findFirst().orElse(null);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.adaptive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThan;
+
+class TargetLoadStatisticsTest {
+    
+    @Test
+    void assertStartAndFinish() {
+        TargetLoadStatistics statistics = new TargetLoadStatistics();
+        statistics.start();
+        assertThat(statistics.getInFlightCount(), is(1));
+        statistics.finish(100L);
+        assertThat(statistics.getInFlightCount(), is(0));
+    }
+    
+    @Test
+    void assertRecordSlowerLatencyTakesEffectImmediately() {
+        TargetLoadStatistics statistics = new TargetLoadStatistics();
+        long currentNanos = System.nanoTime();
+        statistics.recordLatency(100L, currentNanos);
+        statistics.recordLatency(1000L, currentNanos);
+        assertThat(statistics.getLatencyNanos(currentNanos), closeTo(1000D, 0.001D));
+    }
+    
+    @Test
+    void assertLatencyDecaysOverTime() {
+        TargetLoadStatistics statistics = new TargetLoadStatistics();
+        long currentNanos = System.nanoTime();
+        statistics.recordLatency(1000L, currentNanos);
+        assertThat(statistics.getLatencyNanos(currentNanos + TimeUnit.SECONDS.toNanos(10L)), closeTo(1000D / Math.E, 0.001D));
+        statistics.recordLatency(100L, currentNanos + TimeUnit.SECONDS.toNanos(10L));
+        assertThat(statistics.getLatencyNanos(currentNanos + TimeUnit.SECONDS.toNanos(10L)), lessThan(1000D));
+    }
+    
+    @Test
+    void assertGetScore() {
+        TargetLoadStatistics statistics = new TargetLoadStatistics();
+        long currentNanos = System.nanoTime();
+        statistics.recordLatency(99L, currentNanos);
+        statistics.start();
+        assertThat(statistics.getScore(currentNanos), closeTo(200D, 0.001D));
+    }
+}
@@ -54,11 +54,28 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The thread mode of worker group to execute SQL.
+     */
+    KERNEL_EXECUTOR_MODE("kernel-executor-mode", KernelExecutorMode.PLATFORM_THREAD.name(), KernelExecutorMode.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Whether choose connection mode and connections size of each query adaptively by recorded result row count and latency of its SQL.
+     * Adaptive choice never opens more connections than max connections size per query.
+     */
+    ADAPTIVE_CONNECTION_MODE_ENABLED("adaptive-connection-mode-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
+    /**
+     * Max in memory group rows for group by merging with different group by and order by items.
+     * Rows of exceeded groups will be spilled to local temporary files. Less than or equal to 0 means no limitation.
+     */
+    GROUP_BY_MERGE_MAX_IN_MEMORY_ROWS("group-by-merge-max-in-memory-rows", String.valueOf(0), int.class, false),
+    
     /**
      * Whether validate table metadata consistency when application startup or updated.
      */
@@ -70,7 +87,7 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     PROXY_FRONTEND_DATABASE_PROTOCOL_TYPE("proxy-frontend-database-protocol-type", null, DatabaseType.class, false),
     
     /**
-     * Flush threshold for every record from databases for ShardingSphere-Proxy.
+     * Max count of records from databases encoded into one buffer for ShardingSphere-Proxy.
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
@@ -80,11 +97,22 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether extract literals of text protocol DML statements as parameters for ShardingSphere-Proxy,
+     * so that statements only differing in literals share one parsed SQL statement in cache.
+     */
+    PROXY_SQL_TEMPLATE_ENABLED("proxy-sql-template-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
     PROXY_FRONTEND_EXECUTOR_SIZE("proxy-frontend-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * The thread mode of proxy frontend to execute commands of connections.
+     */
+    PROXY_FRONTEND_EXECUTOR_MODE("proxy-frontend-executor-mode", KernelExecutorMode.PLATFORM_THREAD.name(), KernelExecutorMode.class, true),
+    
     /**
      * Less than or equal to 0 means no limitation.
      */
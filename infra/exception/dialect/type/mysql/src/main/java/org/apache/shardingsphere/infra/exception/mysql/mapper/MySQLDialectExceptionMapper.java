@@ -37,7 +37,9 @@ import org.apache.shardingsphere.infra.exception.mysql.exception.ErrorLocalVaria
 import org.apache.shardingsphere.infra.exception.mysql.exception.HandshakeException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.IncorrectGlobalLocalVariableException;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.sql.DialectSQLParsingException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.TooFewRecordsException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.TooManyPlaceholdersException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.TooManyRecordsException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCharsetException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCollationException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownSystemVariableException;
@@ -122,6 +124,12 @@ public final class MySQLDialectExceptionMapper implements SQLDialectExceptionMap
             IncorrectGlobalLocalVariableException ex = (IncorrectGlobalLocalVariableException) sqlDialectException;
             return toSQLException(MySQLVendorError.ER_INCORRECT_GLOBAL_LOCAL_VAR, ex.getVariableName(), ex.getScope());
         }
+        if (sqlDialectException instanceof TooFewRecordsException) {
+            return toSQLException(MySQLVendorError.ER_WARN_TOO_FEW_RECORDS, ((TooFewRecordsException) sqlDialectException).getRowNumber());
+        }
+        if (sqlDialectException instanceof TooManyRecordsException) {
+            return toSQLException(MySQLVendorError.ER_WARN_TOO_MANY_RECORDS, ((TooManyRecordsException) sqlDialectException).getRowNumber());
+        }
         return new UnknownSQLException(sqlDialectException).toSQLException();
     }
     
@@ -35,6 +35,8 @@ import org.apache.shardingsphere.infra.exception.mysql.exception.ErrorLocalVaria
 import org.apache.shardingsphere.infra.exception.mysql.exception.HandshakeException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.IncorrectGlobalLocalVariableException;
 import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.sql.DialectSQLParsingException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.TooFewRecordsException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.TooManyRecordsException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCharsetException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCollationException;
 import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownSystemVariableException;
@@ -86,7 +88,9 @@ class MySQLDialectExceptionMapperTest {
                     Arguments.of(UnknownSystemVariableException.class, MySQLVendorError.ER_UNKNOWN_SYSTEM_VARIABLE),
                     Arguments.of(ErrorLocalVariableException.class, MySQLVendorError.ER_LOCAL_VARIABLE),
                     Arguments.of(ErrorGlobalVariableException.class, MySQLVendorError.ER_GLOBAL_VARIABLE),
-                    Arguments.of(IncorrectGlobalLocalVariableException.class, MySQLVendorError.ER_INCORRECT_GLOBAL_LOCAL_VAR));
+                    Arguments.of(IncorrectGlobalLocalVariableException.class, MySQLVendorError.ER_INCORRECT_GLOBAL_LOCAL_VAR),
+                    Arguments.of(TooFewRecordsException.class, MySQLVendorError.ER_WARN_TOO_FEW_RECORDS),
+                    Arguments.of(TooManyRecordsException.class, MySQLVendorError.ER_WARN_TOO_MANY_RECORDS));
         }
     }
 }
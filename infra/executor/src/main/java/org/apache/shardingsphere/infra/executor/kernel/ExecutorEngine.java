@@ -19,6 +19,7 @@ package org.apache.shardingsphere.infra.executor.kernel;
 
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -26,12 +27,14 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.CompletionService;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.Future;
 
 /**
@@ -43,8 +46,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final KernelExecutorMode executorMode) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, executorMode);
     }
     
     /**
@@ -54,7 +57,18 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, KernelExecutorMode.PLATFORM_THREAD);
+    }
+    
+    /**
+     * Create executor engine with executor size and executor mode.
+     *
+     * @param executorSize executor size
+     * @param executorMode executor mode
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final KernelExecutorMode executorMode) {
+        return new ExecutorEngine(executorSize, executorMode);
     }
     
     /**
@@ -78,10 +92,59 @@ public final class ExecutorEngine implements AutoCloseable {
                 : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
     }
     
+    /**
+     * Execute with streaming results.
+     * 
+     * <p>Different with {@link #execute(ExecutionGroupContext, ExecutorCallback, ExecutorCallback, boolean)}, this method returns without waiting for other execution groups
+     * after first execution group finished in parallel mode. Results of other execution groups are appended in completion order when the returned list is iterated,
+     * and the exception of them is thrown when iterating. The returned list should be closed if it is not iterated to the end.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param serial whether using multi thread execute or not
+     * @param finishedCallback callback invoked once after all execution groups finished or the returned list closed
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute result
+     * @throws SQLException throw if execute failure
+     */
+    public <I, O> List<O> executeStreaming(final ExecutionGroupContext<I> executionGroupContext, final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback,
+                                           final boolean serial, final Runnable finishedCallback) throws SQLException {
+        if (serial || executionGroupContext.getInputGroups().size() <= 1) {
+            try {
+                return execute(executionGroupContext, firstCallback, callback, serial);
+            } finally {
+                finishedCallback.run();
+            }
+        }
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        Iterator<ExecutionGroup<I>> executionGroups = executionGroupContext.getInputGroups().iterator();
+        ExecutionGroup<I> firstInputs = executionGroups.next();
+        CompletionService<Collection<O>> completionService = new ExecutorCompletionService<>(executorServiceManager.getExecutorService());
+        int pendingGroupCount = 0;
+        while (executionGroups.hasNext()) {
+            ExecutionGroup<I> each = executionGroups.next();
+            completionService.submit(() -> callback.execute(each.getInputs(), false, processId));
+            pendingGroupCount++;
+        }
+        Collection<O> firstResults;
+        try {
+            firstResults = syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            try (StreamingGroupResults<O> ignored = new StreamingGroupResults<>(Collections.emptyList(), completionService, pendingGroupCount, finishedCallback)) {
+                throw ex;
+            }
+        }
+        return new StreamingGroupResults<>(firstResults, completionService, pendingGroupCount, finishedCallback);
+    }
+    
     private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
+        List<O> result = new ArrayList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
             result.addAll(syncExecute(executionGroups.next(), processId, callback));
         }
@@ -100,7 +163,7 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
-        Collection<Future<Collection<O>>> result = new LinkedList<>();
+        Collection<Future<Collection<O>>> result = new ArrayList<>();
         while (executionGroups.hasNext()) {
             result.add(asyncExecute(executionGroups.next(), processId, callback));
         }
@@ -112,7 +175,8 @@ public final class ExecutorEngine implements AutoCloseable {
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
-        List<O> result = new LinkedList<>(firstResults);
+        List<O> result = new ArrayList<>(firstResults.size() * (restFutures.size() + 1));
+        result.addAll(firstResults);
         for (Future<Collection<O>> each : restFutures) {
             try {
                 result.addAll(each.get());
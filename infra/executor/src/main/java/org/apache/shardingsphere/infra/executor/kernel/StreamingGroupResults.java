@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Streaming group results.
+ * 
+ * <p>Results of first group are available immediately, results of other groups are loaded in completion order only when they are iterated,
+ * so consumer can handle results of fast groups before slow groups finished.
+ * Invoking {@code size()} waits for all groups.</p>
+ * 
+ * <p>Finished callback is invoked once after the last group loaded or the results closed.
+ * Consumer which stops iterating early should close the results, which waits for the remaining groups and reports their failures,
+ * or discard the results after cancelling the remaining groups.</p>
+ *
+ * @param <O> type of result
+ */
+public final class StreamingGroupResults<O> extends AbstractList<O> implements AutoCloseable {
+    
+    private final List<O> loadedResults;
+    
+    private final CompletionService<Collection<O>> completionService;
+    
+    private final Runnable finishedCallback;
+    
+    private int pendingGroupCount;
+    
+    private boolean finished;
+    
+    StreamingGroupResults(final Collection<O> firstResults, final CompletionService<Collection<O>> completionService, final int pendingGroupCount, final Runnable finishedCallback) {
+        loadedResults = new ArrayList<>(firstResults.size() * (pendingGroupCount + 1));
+        loadedResults.addAll(firstResults);
+        this.completionService = completionService;
+        this.pendingGroupCount = pendingGroupCount;
+        this.finishedCallback = finishedCallback;
+        if (0 == pendingGroupCount) {
+            finish();
+        }
+    }
+    
+    @Override
+    public O get(final int index) {
+        loadUntil(index + 1);
+        return loadedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        loadUntil(Integer.MAX_VALUE);
+        return loadedResults.size();
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return !iterator().hasNext();
+    }
+    
+    @Override
+    public Iterator<O> iterator() {
+        return new Iterator<O>() {
+            
+            private int cursor;
+            
+            @Override
+            public boolean hasNext() {
+                loadUntil(cursor + 1);
+                return cursor < loadedResults.size();
+            }
+            
+            @Override
+            public O next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return loadedResults.get(cursor++);
+            }
+        };
+    }
+    
+    private void loadUntil(final int expectedSize) {
+        while (loadedResults.size() < expectedSize && 0 < pendingGroupCount) {
+            loadNextGroup();
+        }
+    }
+    
+    @SneakyThrows(SQLException.class)
+    private void loadNextGroup() {
+        try {
+            loadedResults.addAll(takeNextGroupResults());
+        } catch (final InterruptedException ex) {
+            pendingGroupCount = 0;
+            finish();
+            Thread.currentThread().interrupt();
+        } catch (final ExecutionException ex) {
+            SQLExecutorExceptionHandler.handleException(getCause(ex));
+        }
+    }
+    
+    private Collection<O> takeNextGroupResults() throws InterruptedException, ExecutionException {
+        try {
+            return completionService.take().get();
+        } finally {
+            if (0 == --pendingGroupCount) {
+                finish();
+            }
+        }
+    }
+    
+    private Exception getCause(final ExecutionException ex) {
+        return ex.getCause() instanceof Exception ? (Exception) ex.getCause() : ex;
+    }
+    
+    private void finish() {
+        if (!finished) {
+            finished = true;
+            finishedCallback.run();
+        }
+    }
+    
+    /**
+     * Close results, wait for remaining groups and report their failures.
+     *
+     * @throws SQLException SQL exception which chains failures of remaining groups
+     */
+    @Override
+    public void close() throws SQLException {
+        Collection<SQLException> failures = waitRemainingGroups();
+        if (failures.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException("Failed to execute remaining execution groups.");
+        failures.forEach(ex::setNextException);
+        throw ex;
+    }
+    
+    /**
+     * Discard results, wait for remaining groups and ignore their failures.
+     * 
+     * <p>It is used after statements of remaining groups cancelled, failures of them are expected then.</p>
+     */
+    public void discard() {
+        waitRemainingGroups();
+    }
+    
+    private Collection<SQLException> waitRemainingGroups() {
+        Collection<SQLException> result = new LinkedList<>();
+        try {
+            while (0 < pendingGroupCount) {
+                try {
+                    takeNextGroupResults();
+                } catch (final ExecutionException ex) {
+                    Exception cause = getCause(ex);
+                    result.add(cause instanceof SQLException ? (SQLException) cause : new UnknownSQLException(cause).toSQLException());
+                }
+            }
+        } catch (final InterruptedException ex) {
+            pendingGroupCount = 0;
+            Thread.currentThread().interrupt();
+        } finally {
+            finish();
+        }
+        return result;
+    }
+}
@@ -19,10 +19,13 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 
 import com.alibaba.ttl.threadpool.TtlExecutors;
 import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,7 +45,16 @@ public final class ExecutorServiceManager {
     }
     
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, KernelExecutorMode.PLATFORM_THREAD);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final KernelExecutorMode executorMode) {
+        this(executorSize, DEFAULT_NAME_FORMAT, executorMode);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final KernelExecutorMode executorMode) {
+        executorService = TtlExecutors.getTtlExecutorService(
+                KernelExecutorMode.VIRTUAL_THREAD == executorMode ? getVirtualThreadExecutorService(nameFormat) : getExecutorService(executorSize, nameFormat));
     }
     
     private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
@@ -50,6 +62,11 @@ public final class ExecutorServiceManager {
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
     
+    private ExecutorService getVirtualThreadExecutorService(final String nameFormat) {
+        // Idle threads terminate immediately, so each task runs on a new virtual thread.
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), ExecutorThreadFactoryBuilder.buildVirtual(nameFormat));
+    }
+    
     /**
      * Close executor service.
      */
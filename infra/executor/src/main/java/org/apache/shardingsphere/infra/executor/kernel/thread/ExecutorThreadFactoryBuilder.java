@@ -20,13 +20,16 @@ package org.apache.shardingsphere.infra.executor.kernel.thread;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.concurrent.ThreadFactory;
 
 /**
  * Executor thread factory builder.
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
+@Slf4j
 public final class ExecutorThreadFactoryBuilder {
     
     private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
@@ -40,4 +43,21 @@ public final class ExecutorThreadFactoryBuilder {
     public static ThreadFactory build(final String nameFormat) {
         return new ThreadFactoryBuilder().setDaemon(true).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
     }
+    
+    /**
+     * Build virtual thread factory with thread name format, fall back to platform thread factory if virtual thread is not supported by JVM.
+     *
+     * @param nameFormat thread name format
+     * @return thread factory
+     */
+    public static ThreadFactory buildVirtual(final String nameFormat) {
+        try {
+            Object virtualThreadBuilder = Thread.class.getMethod("ofVirtual").invoke(null);
+            ThreadFactory virtualThreadFactory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(virtualThreadBuilder);
+            return new ThreadFactoryBuilder().setThreadFactory(virtualThreadFactory).setNameFormat(NAME_FORMAT_PREFIX + nameFormat).build();
+        } catch (final NoSuchMethodException | ClassNotFoundException | IllegalAccessException | InvocationTargetException ex) {
+            log.warn("Virtual thread is not supported by current JVM, use platform thread instead.");
+            return build(nameFormat);
+        }
+    }
 }
@@ -69,4 +69,25 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute with streaming results.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param finishedCallback callback invoked once after all execution groups finished or the returned list closed
+     * @param <T> class type of return value
+     * @return execute result, results of execution groups except the first one are loaded when iterating
+     * @throws SQLException SQL exception
+     */
+    public <T> List<T> executeStreaming(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                        final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback, final Runnable finishedCallback) throws SQLException {
+        try {
+            return executorEngine.executeStreaming(executionGroupContext, firstCallback, callback, connectionContext.getTransactionContext().isInDistributedTransaction(), finishedCallback);
+        } catch (final SQLException ex) {
+            SQLExecutorExceptionHandler.handleException(ex);
+            return Collections.emptyList();
+        }
+    }
 }
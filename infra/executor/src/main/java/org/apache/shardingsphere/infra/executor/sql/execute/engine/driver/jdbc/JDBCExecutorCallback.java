@@ -25,8 +25,12 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionUnitStatistics;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.ExecutionUnitStatisticsRegistry;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
@@ -48,6 +52,8 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     private final DatabaseType protocolType;
     
+    private final String databaseName;
+    
     private final ResourceMetaData resourceMetaData;
     
     private final SQLStatement sqlStatement;
@@ -81,24 +87,36 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
-            sqlExecutionHook.start(jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            sqlExecutionHook.start(databaseName, jdbcExecutionUnit.getExecutionUnit().getDataSourceName(), sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            Optional<ExecutionUnitStatistics> statistics = ExecutionUnitStatisticsRegistry.getInstance().find(sqlUnit);
+            long startNanos = statistics.isPresent() ? System.nanoTime() : 0L;
             T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            statistics.ifPresent(optional -> recordStatistics(optional, result, System.nanoTime() - startNanos));
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution(jdbcExecutionUnit, processId);
             return result;
         } catch (final SQLException ex) {
+            sqlExecutionHook.finishFailure(ex);
             if (!storageType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
-            sqlExecutionHook.finishFailure(ex);
             SQLExecutorExceptionHandler.handleException(ex);
             return null;
         }
     }
     
+    private void recordStatistics(final ExecutionUnitStatistics statistics, final T result, final long latencyNanos) {
+        statistics.recordLatency(latencyNanos);
+        if (result instanceof AbstractMemoryQueryResult) {
+            statistics.recordRowCount(((AbstractMemoryQueryResult) result).getRowCount());
+        } else if (result instanceof JDBCStreamQueryResult) {
+            ((JDBCStreamQueryResult) result).setExhaustedListener(statistics::recordRowCount);
+        }
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
@@ -19,14 +19,10 @@ package org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.d
 
 import org.apache.shardingsphere.infra.database.core.resultset.ResultSetMapper;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
-import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumnBatch;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
 
 /**
  * Query result data row loader.
@@ -44,18 +40,18 @@ public final class QueryResultDataRowLoader {
      * 
      * @param columnCount column count
      * @param resultSet result set
-     * @return query result data row
+     * @return query result data rows in column batch
      * @throws SQLException SQL exception
      */
-    public Collection<MemoryQueryResultDataRow> load(final int columnCount, final ResultSet resultSet) throws SQLException {
-        Collection<MemoryQueryResultDataRow> result = new LinkedList<>();
+    public MemoryQueryResultColumnBatch load(final int columnCount, final ResultSet resultSet) throws SQLException {
+        MemoryQueryResultColumnBatch result = new MemoryQueryResultColumnBatch(columnCount);
+        Object[] rowData = new Object[columnCount];
         while (resultSet.next()) {
-            List<Object> rowData = new ArrayList<>(columnCount);
             for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
                 Object rowValue = resultSetMapper.load(resultSet, columnIndex);
-                rowData.add(resultSet.wasNull() ? null : rowValue);
+                rowData[columnIndex - 1] = resultSet.wasNull() ? null : rowValue;
             }
-            result.add(new MemoryQueryResultDataRow(rowData));
+            result.addRow(rowData);
         }
         return result;
     }
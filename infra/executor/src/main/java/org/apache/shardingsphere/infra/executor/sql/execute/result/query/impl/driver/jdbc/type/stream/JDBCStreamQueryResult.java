@@ -35,6 +35,7 @@ import java.sql.SQLException;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.function.LongConsumer;
 
 /**
  * JDBC query result for stream loading.
@@ -44,14 +45,35 @@ public final class JDBCStreamQueryResult extends AbstractStreamQueryResult {
     @Getter
     private final ResultSet resultSet;
     
+    private long fetchedRowCount;
+    
+    private LongConsumer exhaustedListener;
+    
     public JDBCStreamQueryResult(final ResultSet resultSet) throws SQLException {
         super(new JDBCQueryResultMetaData(resultSet.getMetaData()));
         this.resultSet = resultSet;
     }
     
+    /**
+     * Set exhausted listener, which is invoked with fetched row count once the result set is exhausted.
+     *
+     * @param exhaustedListener exhausted listener
+     */
+    public void setExhaustedListener(final LongConsumer exhaustedListener) {
+        this.exhaustedListener = exhaustedListener;
+    }
+    
     @Override
     public boolean next() throws SQLException {
-        return resultSet.next();
+        if (resultSet.next()) {
+            fetchedRowCount++;
+            return true;
+        }
+        if (null != exhaustedListener) {
+            exhaustedListener.accept(fetchedRowCount);
+            exhaustedListener = null;
+        }
+        return false;
     }
     
     @Override
@@ -21,6 +21,7 @@ import lombok.Getter;
 import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column.MemoryQueryResultColumnBatch;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.row.MemoryQueryResultDataRow;
 
 import java.io.BufferedReader;
@@ -34,7 +35,6 @@ import java.io.Reader;
 import java.sql.SQLException;
 import java.util.Calendar;
 import java.util.Collection;
-import java.util.Iterator;
 
 /**
  * Abstract memory query result.
@@ -44,10 +44,9 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     @Getter
     private final QueryResultMetaData metaData;
     
-    private final Iterator<MemoryQueryResultDataRow> rows;
+    private final MemoryQueryResultColumnBatch rows;
     
-    @Getter
-    private MemoryQueryResultDataRow currentRow;
+    private int currentRowIndex = -1;
     
     @Getter
     private long rowCount;
@@ -55,39 +54,62 @@ public abstract class AbstractMemoryQueryResult implements QueryResult {
     private boolean wasNull;
     
     protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final Collection<MemoryQueryResultDataRow> rows) {
+        this(metaData, toColumnBatch(rows));
+    }
+    
+    protected AbstractMemoryQueryResult(final QueryResultMetaData metaData, final MemoryQueryResultColumnBatch rows) {
         this.metaData = metaData;
-        this.rows = rows.iterator();
-        rowCount = rows.size();
+        this.rows = rows;
+        rowCount = rows.getRowCount();
+    }
+    
+    private static MemoryQueryResultColumnBatch toColumnBatch(final Collection<MemoryQueryResultDataRow> rows) {
+        int columnCount = rows.isEmpty() ? 0 : rows.iterator().next().getValue().size();
+        MemoryQueryResultColumnBatch result = new MemoryQueryResultColumnBatch(columnCount);
+        for (MemoryQueryResultDataRow each : rows) {
+            result.addRow(each.getValue().toArray());
+        }
+        return result;
     }
     
     @Override
     public final boolean next() {
-        if (rows.hasNext()) {
-            currentRow = rows.next();
+        if (currentRowIndex < rows.getRowCount()) {
+            currentRowIndex++;
+        }
+        if (currentRowIndex < rows.getRowCount()) {
             rowCount--;
             return true;
         }
-        currentRow = null;
         return false;
     }
     
+    /**
+     * Judge whether current row is available.
+     *
+     * @return current row is available or not
+     */
+    public final boolean isCurrentRowAvailable() {
+        return currentRowIndex >= 0 && currentRowIndex < rows.getRowCount();
+    }
+    
     @Override
     public final Object getValue(final int columnIndex, final Class<?> type) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = rows.getValue(currentRowIndex, columnIndex - 1);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final Object getCalendarValue(final int columnIndex, final Class<?> type, final Calendar calendar) {
-        Object result = currentRow.getValue().get(columnIndex - 1);
+        Object result = rows.getValue(currentRowIndex, columnIndex - 1);
         wasNull = null == result;
         return result;
     }
     
     @Override
     public final InputStream getInputStream(final int columnIndex, final String type) {
-        Object value = currentRow.getValue().get(columnIndex - 1);
+        Object value = rows.getValue(currentRowIndex, columnIndex - 1);
         wasNull = null == value;
         return getInputStream(value);
     }
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Bytes memory query result column, which saves string or bytes values into one shared byte arena.
+ * 
+ * <p>Strings which can not be encoded to UTF-8 losslessly are rejected, so that they fall back to object column.
+ * The last read value is cached, so reading the same row repeatedly does not decode it again.</p>
+ */
+public final class BytesMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private final boolean isString;
+    
+    private final BitSet nullFlags = new BitSet();
+    
+    private byte[] arena = new byte[256];
+    
+    private int[] offsets = new int[17];
+    
+    private int size;
+    
+    private int cachedRowIndex = -1;
+    
+    private Object cachedValue;
+    
+    public BytesMemoryQueryResultColumn(final Class<?> valueClass) {
+        isString = String.class == valueClass;
+    }
+    
+    /**
+     * Judge whether value is supported.
+     *
+     * @param value value
+     * @return supported or not
+     */
+    public static boolean isSupported(final Object value) {
+        return value instanceof String || value instanceof byte[];
+    }
+    
+    @Override
+    public boolean add(final Object value) {
+        if (null != value && (isString ? !(value instanceof String) || !isWellFormed((String) value) : !(value instanceof byte[]))) {
+            return false;
+        }
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length << 1);
+        }
+        int start = offsets[size];
+        if (null == value) {
+            nullFlags.set(size);
+            offsets[size + 1] = start;
+        } else {
+            byte[] bytes = isString ? ((String) value).getBytes(StandardCharsets.UTF_8) : (byte[]) value;
+            if (start + bytes.length > arena.length) {
+                arena = Arrays.copyOf(arena, Math.max(arena.length << 1, start + bytes.length));
+            }
+            System.arraycopy(bytes, 0, arena, start, bytes.length);
+            offsets[size + 1] = start + bytes.length;
+        }
+        size++;
+        return true;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        if (nullFlags.get(rowIndex)) {
+            return null;
+        }
+        if (rowIndex != cachedRowIndex) {
+            int start = offsets[rowIndex];
+            int end = offsets[rowIndex + 1];
+            cachedValue = isString ? new String(arena, start, end - start, StandardCharsets.UTF_8) : Arrays.copyOfRange(arena, start, end);
+            cachedRowIndex = rowIndex;
+        }
+        return cachedValue;
+    }
+    
+    private static boolean isWellFormed(final String value) {
+        int length = value.length();
+        int index = 0;
+        while (index < length) {
+            char each = value.charAt(index);
+            if (Character.isHighSurrogate(each)) {
+                if (index + 1 == length || !Character.isLowSurrogate(value.charAt(index + 1))) {
+                    return false;
+                }
+                index += 2;
+            } else if (Character.isLowSurrogate(each)) {
+                return false;
+            } else {
+                index++;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+}
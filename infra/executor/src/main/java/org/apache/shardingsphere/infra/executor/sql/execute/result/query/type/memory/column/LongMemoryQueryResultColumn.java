@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Long memory query result column, which saves integral values into primitive long array.
+ */
+public final class LongMemoryQueryResultColumn implements MemoryQueryResultColumn {
+    
+    private final Class<?> valueClass;
+    
+    private final BitSet nullFlags = new BitSet();
+    
+    private long[] values = new long[16];
+    
+    private int size;
+    
+    public LongMemoryQueryResultColumn(final Class<?> valueClass) {
+        this.valueClass = valueClass;
+    }
+    
+    /**
+     * Judge whether value is supported.
+     *
+     * @param value value
+     * @return supported or not
+     */
+    public static boolean isSupported(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    @Override
+    public boolean add(final Object value) {
+        if (null != value && valueClass != value.getClass()) {
+            return false;
+        }
+        if (size == values.length) {
+            values = Arrays.copyOf(values, size << 1);
+        }
+        if (null == value) {
+            nullFlags.set(size);
+        } else {
+            values[size] = ((Number) value).longValue();
+        }
+        size++;
+        return true;
+    }
+    
+    @Override
+    public Object get(final int rowIndex) {
+        if (nullFlags.get(rowIndex)) {
+            return null;
+        }
+        long result = values[rowIndex];
+        if (Integer.class == valueClass) {
+            return (int) result;
+        }
+        if (Short.class == valueClass) {
+            return (short) result;
+        }
+        if (Byte.class == valueClass) {
+            return (byte) result;
+        }
+        return result;
+    }
+    
+    @Override
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import lombok.Getter;
+
+/**
+ * Memory query result column batch, which saves rows column by column.
+ * 
+ * <p>Integral and floating point values are saved into primitive arrays, string and bytes values are saved into shared byte arena,
+ * null values are marked by bitmap, other values fall back to object array.</p>
+ */
+public final class MemoryQueryResultColumnBatch {
+    
+    private final MemoryQueryResultColumn[] columns;
+    
+    @Getter
+    private int rowCount;
+    
+    public MemoryQueryResultColumnBatch(final int columnCount) {
+        columns = new MemoryQueryResultColumn[columnCount];
+    }
+    
+    /**
+     * Get column count.
+     *
+     * @return column count
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+    
+    /**
+     * Add row.
+     *
+     * @param rowValues row values, length should be same with column count
+     */
+    public void addRow(final Object[] rowValues) {
+        for (int i = 0; i < columns.length; i++) {
+            addValue(i, rowValues[i]);
+        }
+        rowCount++;
+    }
+    
+    private void addValue(final int columnIndex, final Object value) {
+        MemoryQueryResultColumn column = columns[columnIndex];
+        if (null == column) {
+            if (null == value) {
+                return;
+            }
+            column = createColumn(value);
+            for (int i = 0; i < rowCount; i++) {
+                column.add(null);
+            }
+            columns[columnIndex] = column;
+        }
+        if (!column.add(value)) {
+            column = new ObjectMemoryQueryResultColumn(column);
+            column.add(value);
+            columns[columnIndex] = column;
+        }
+    }
+    
+    private MemoryQueryResultColumn createColumn(final Object value) {
+        if (LongMemoryQueryResultColumn.isSupported(value)) {
+            return new LongMemoryQueryResultColumn(value.getClass());
+        }
+        if (DoubleMemoryQueryResultColumn.isSupported(value)) {
+            return new DoubleMemoryQueryResultColumn(value.getClass());
+        }
+        if (BytesMemoryQueryResultColumn.isSupported(value)) {
+            return new BytesMemoryQueryResultColumn(value.getClass());
+        }
+        return new ObjectMemoryQueryResultColumn();
+    }
+    
+    /**
+     * Get value.
+     *
+     * @param rowIndex row index, start from 0
+     * @param columnIndex column index, start from 0
+     * @return value
+     */
+    public Object getValue(final int rowIndex, final int columnIndex) {
+        MemoryQueryResultColumn column = columns[columnIndex];
+        return null == column ? null : column.get(rowIndex);
+    }
+}
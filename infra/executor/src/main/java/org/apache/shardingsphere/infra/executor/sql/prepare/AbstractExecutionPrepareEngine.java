@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.infra.executor.sql.prepare;
 
 import com.google.common.collect.Lists;
+import lombok.AccessLevel;
+import lombok.Getter;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -43,6 +45,7 @@ import java.util.Map.Entry;
  */
 public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrepareEngine<T> {
     
+    @Getter(AccessLevel.PROTECTED)
     private final int maxConnectionsSizePerQuery;
     
     @SuppressWarnings("rawtypes")
@@ -65,15 +68,20 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         Collection<ExecutionGroup<T>> result = new LinkedList<>();
         for (Entry<String, List<ExecutionUnit>> entry : aggregateExecutionUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
-            List<List<ExecutionUnit>> executionUnitGroups = group(entry.getValue());
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
+            int connectionSize = getConnectionSize(dataSourceName, entry.getValue());
+            List<List<ExecutionUnit>> executionUnitGroups = group(entry.getValue(), connectionSize);
+            ConnectionMode connectionMode = connectionSize < entry.getValue().size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
             result.addAll(group(dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), executionUnitGroups, connectionMode));
         }
         return decorate(routeContext, result, reportContext);
     }
     
-    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    protected int getConnectionSize(final String dataSourceName, final List<ExecutionUnit> sqlUnits) {
+        return Math.min(maxConnectionsSizePerQuery, sqlUnits.size());
+    }
+    
+    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits, final int connectionSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptive connection size calculator.
+ * 
+ * <p>Execution units which historically return few rows quickly are packed onto fewer connections,
+ * the others keep using as many connections as allowed to stream their results.
+ * Execution units which ever returned too many rows are never packed, because results of packed execution units are held in memory.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class AdaptiveConnectionSizeCalculator {
+    
+    private static final double MAX_ROW_COUNT = 1000L;
+    
+    private static final double TARGET_LATENCY_NANOS_PER_CONNECTION = 10_000_000D;
+    
+    /**
+     * Calculate connection size for execution units of one data source.
+     *
+     * @param executionUnits execution units of one data source
+     * @param maxConnectionsSizePerQuery max connections size per query
+     * @return connection size, empty if statistics are insufficient or results are too large to be held in memory
+     */
+    public static Optional<Integer> calculate(final List<ExecutionUnit> executionUnits, final int maxConnectionsSizePerQuery) {
+        double totalLatencyNanos = 0D;
+        boolean packable = true;
+        for (ExecutionUnit each : executionUnits) {
+            ExecutionUnitStatistics statistics = ExecutionUnitStatisticsRegistry.getInstance().track(each.getSqlUnit());
+            if (!statistics.isSampled() || statistics.getPeakRowCount() > MAX_ROW_COUNT) {
+                packable = false;
+                continue;
+            }
+            totalLatencyNanos += statistics.getAverageLatencyNanos();
+        }
+        if (!packable) {
+            return Optional.empty();
+        }
+        int result = (int) Math.ceil(totalLatencyNanos / TARGET_LATENCY_NANOS_PER_CONNECTION);
+        return Optional.of(Math.max(1, Math.min(result, Math.min(executionUnits.size(), maxConnectionsSizePerQuery))));
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+/**
+ * Execution unit statistics.
+ * 
+ * <p>Keeps exponentially weighted moving averages of returned row count and execution latency for one SQL,
+ * and the peak row count, since parameters of one prepared SQL may return results with quite different sizes.</p>
+ */
+public final class ExecutionUnitStatistics {
+    
+    private static final double SMOOTHING_FACTOR = 0.2D;
+    
+    private volatile double averageRowCount = -1D;
+    
+    private volatile double averageLatencyNanos = -1D;
+    
+    private volatile long peakRowCount = -1L;
+    
+    /**
+     * Record row count.
+     *
+     * @param rowCount row count
+     */
+    public synchronized void recordRowCount(final long rowCount) {
+        averageRowCount = smooth(averageRowCount, rowCount);
+        peakRowCount = Math.max(peakRowCount, rowCount);
+    }
+    
+    /**
+     * Record latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    public synchronized void recordLatency(final long latencyNanos) {
+        averageLatencyNanos = smooth(averageLatencyNanos, latencyNanos);
+    }
+    
+    private double smooth(final double average, final long sample) {
+        return average < 0D ? sample : average + SMOOTHING_FACTOR * (sample - average);
+    }
+    
+    /**
+     * Judge whether both row count and latency are sampled.
+     *
+     * @return sampled or not
+     */
+    public boolean isSampled() {
+        return averageRowCount >= 0D && averageLatencyNanos >= 0D;
+    }
+    
+    /**
+     * Get average row count.
+     *
+     * @return average row count, negative if not sampled
+     */
+    public double getAverageRowCount() {
+        return averageRowCount;
+    }
+    
+    /**
+     * Get peak row count.
+     *
+     * @return peak row count, negative if not sampled
+     */
+    public long getPeakRowCount() {
+        return peakRowCount;
+    }
+    
+    /**
+     * Get average latency in nanoseconds.
+     *
+     * @return average latency in nanoseconds, negative if not sampled
+     */
+    public double getAverageLatencyNanos() {
+        return averageLatencyNanos;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Execution unit statistics registry.
+ * 
+ * <p>Statistics are keyed by SQL of SQL unit, so prepared SQLs share one statistics for all parameters, while SQLs with different literals are recorded separately,
+ * the count of statistics is bounded and least recently used ones are evicted.
+ * Only SQL units tracked by adaptive execution prepare engines are recorded, so executors pay a single lookup when adaptive connection mode is disabled.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionUnitStatisticsRegistry {
+    
+    private static final int MAXIMUM_SIZE = 4096;
+    
+    private static final ExecutionUnitStatisticsRegistry INSTANCE = new ExecutionUnitStatisticsRegistry();
+    
+    private final Cache<String, ExecutionUnitStatistics> statistics = CacheBuilder.newBuilder().maximumSize(MAXIMUM_SIZE).build();
+    
+    private final Cache<SQLUnit, ExecutionUnitStatistics> trackedSQLUnits = CacheBuilder.newBuilder().weakKeys().maximumSize(MAXIMUM_SIZE).build();
+    
+    /**
+     * Get execution unit statistics registry.
+     *
+     * @return execution unit statistics registry
+     */
+    public static ExecutionUnitStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Track SQL unit.
+     *
+     * @param sqlUnit SQL unit
+     * @return execution unit statistics of SQL
+     */
+    @SneakyThrows(ExecutionException.class)
+    public ExecutionUnitStatistics track(final SQLUnit sqlUnit) {
+        ExecutionUnitStatistics result = statistics.get(sqlUnit.getSql(), ExecutionUnitStatistics::new);
+        trackedSQLUnits.put(sqlUnit, result);
+        return result;
+    }
+    
+    /**
+     * Find execution unit statistics.
+     *
+     * @param sqlUnit SQL unit
+     * @return found execution unit statistics, empty if SQL unit is not tracked
+     */
+    public Optional<ExecutionUnitStatistics> find(final SQLUnit sqlUnit) {
+        return Optional.ofNullable(trackedSQLUnits.getIfPresent(sqlUnit));
+    }
+    
+    /**
+     * Get statistics size.
+     *
+     * @return statistics size
+     */
+    public long size() {
+        return statistics.size();
+    }
+    
+    /**
+     * Clear all statistics.
+     */
+    public void clear() {
+        statistics.invalidateAll();
+        trackedSQLUnits.invalidateAll();
+    }
+}
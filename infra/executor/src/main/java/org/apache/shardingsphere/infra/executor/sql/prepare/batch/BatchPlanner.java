@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.batch;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Batch planner.
+ * 
+ * <p>Plan execution units of batched parameter sets without the full kernel process.</p>
+ */
+public interface BatchPlanner {
+    
+    /**
+     * Plan execution unit of parameter set.
+     *
+     * @param params parameters
+     * @return planned execution unit, empty if the parameter set should be routed and rewritten by the full kernel process
+     */
+    Optional<ExecutionUnit> plan(List<Object> params);
+    
+    /**
+     * Keep execution unit of parameter set generated by the full kernel process as template.
+     *
+     * @param params parameters
+     * @param executionContext execution context generated by the full kernel process
+     */
+    void keepTemplate(List<Object> params, ExecutionContext executionContext);
+}
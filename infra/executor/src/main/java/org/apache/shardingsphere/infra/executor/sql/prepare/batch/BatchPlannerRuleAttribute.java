@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.batch;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttribute;
+
+import java.util.Optional;
+
+/**
+ * Batch planner rule attribute.
+ */
+public interface BatchPlannerRuleAttribute extends RuleAttribute {
+    
+    /**
+     * Find batch planner.
+     *
+     * @param database database
+     * @param sqlStatementContext SQL statement context
+     * @param hintValueContext hint value context
+     * @param props configuration properties
+     * @return found batch planner, empty if SQL statement can not be planned without the full kernel process
+     */
+    Optional<BatchPlanner> findBatchPlanner(ShardingSphereDatabase database, SQLStatementContext sqlStatementContext, HintValueContext hintValueContext, ConfigurationProperties props);
+}
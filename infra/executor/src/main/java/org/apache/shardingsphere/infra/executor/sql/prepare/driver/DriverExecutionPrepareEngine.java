@@ -23,6 +23,7 @@ import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.executor.sql.prepare.adaptive.AdaptiveConnectionSizeCalculator;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -56,15 +57,24 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     private final Map<String, StorageUnit> storageUnits;
     
+    private final boolean adaptiveConnectionModeEnabled;
+    
     public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final Map<String, StorageUnit> storageUnits) {
+        this(type, maxConnectionsSizePerQuery, false, databaseConnectionManager, statementManager, option, rules, storageUnits);
+    }
+    
+    public DriverExecutionPrepareEngine(final String type, final int maxConnectionsSizePerQuery, final boolean adaptiveConnectionModeEnabled,
+                                        final DatabaseConnectionManager<C> databaseConnectionManager, final ExecutorStatementManager<C, ?, ?> statementManager,
+                                        final StorageResourceOption option, final Collection<ShardingSphereRule> rules, final Map<String, StorageUnit> storageUnits) {
         super(maxConnectionsSizePerQuery, rules);
         this.databaseConnectionManager = databaseConnectionManager;
         this.statementManager = statementManager;
         this.option = option;
         sqlExecutionUnitBuilder = getCachedSqlExecutionUnitBuilder(type);
         this.storageUnits = storageUnits;
+        this.adaptiveConnectionModeEnabled = adaptiveConnectionModeEnabled;
     }
     
     /**
@@ -82,6 +92,14 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    @Override
+    protected int getConnectionSize(final String dataSourceName, final List<ExecutionUnit> sqlUnits) {
+        int result = super.getConnectionSize(dataSourceName, sqlUnits);
+        return adaptiveConnectionModeEnabled
+                ? AdaptiveConnectionSizeCalculator.calculate(sqlUnits, getMaxConnectionsSizePerQuery()).orElse(result)
+                : result;
+    }
+    
     @Override
     protected List<ExecutionGroup<T>> group(final String dataSourceName, final int connectionOffset, final List<List<ExecutionUnit>> executionUnitGroups,
                                             final ConnectionMode connectionMode) throws SQLException {
@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
@@ -30,6 +31,7 @@ import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -88,4 +90,31 @@ class ExecutorEngineTest {
         latch.await();
         assertThat(actual.size(), is(4));
     }
+    
+    @Test
+    void assertParallelExecuteStreaming() throws SQLException, InterruptedException {
+        AtomicInteger finishedCount = new AtomicInteger();
+        List<String> actual = executorEngine.executeStreaming(executionGroupContext, firstCallback, callback, false, finishedCount::incrementAndGet);
+        assertThat(actual.size(), is(4));
+        latch.await();
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertSerialExecuteStreaming() throws SQLException, InterruptedException {
+        AtomicInteger finishedCount = new AtomicInteger();
+        List<String> actual = executorEngine.executeStreaming(executionGroupContext, firstCallback, callback, true, finishedCount::incrementAndGet);
+        latch.await();
+        assertThat(actual.size(), is(4));
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertParallelExecuteWithVirtualThreadMode() throws SQLException, InterruptedException {
+        try (ExecutorEngine virtualThreadExecutorEngine = ExecutorEngine.createExecutorEngine(0, KernelExecutorMode.VIRTUAL_THREAD)) {
+            List<String> actual = virtualThreadExecutorEngine.execute(executionGroupContext, firstCallback, callback, false);
+            latch.await();
+            assertThat(actual.size(), is(4));
+        }
+    }
 }
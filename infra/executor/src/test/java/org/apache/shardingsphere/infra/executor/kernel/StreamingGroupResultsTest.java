@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StreamingGroupResultsTest {
+    
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+    
+    private final AtomicInteger finishedCount = new AtomicInteger();
+    
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+    
+    @Test
+    void assertIterateInCompletionOrder() {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            slowGroupLatch.await();
+            return Collections.singletonList("slow");
+        });
+        completionService.submit(() -> Arrays.asList("fast_1", "fast_2"));
+        StreamingGroupResults<String> actual = new StreamingGroupResults<>(Collections.singletonList("first"), completionService, 2, finishedCount::incrementAndGet);
+        Iterator<String> iterator = actual.iterator();
+        assertThat(iterator.next(), is("first"));
+        assertThat(iterator.next(), is("fast_1"));
+        assertThat(iterator.next(), is("fast_2"));
+        slowGroupLatch.countDown();
+        assertThat(iterator.next(), is("slow"));
+        assertFalse(iterator.hasNext());
+        assertThat(finishedCount.get(), is(1));
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(3), is("slow"));
+    }
+    
+    @Test
+    void assertGetWithoutWaitingForAllGroups() {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            slowGroupLatch.await();
+            return Collections.singletonList("slow");
+        });
+        StreamingGroupResults<String> actual = new StreamingGroupResults<>(Collections.singletonList("first"), completionService, 1, finishedCount::incrementAndGet);
+        assertThat(actual.get(0), is("first"));
+        assertFalse(actual.isEmpty());
+        assertThat(finishedCount.get(), is(0));
+        slowGroupLatch.countDown();
+        assertThat(actual.size(), is(2));
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertIterateWithSQLException() {
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            throw new SQLException("foo");
+        });
+        Iterator<String> iterator = new StreamingGroupResults<>(Collections.singletonList("first"), completionService, 1, finishedCount::incrementAndGet).iterator();
+        assertThat(iterator.next(), is("first"));
+        assertThrows(SQLException.class, iterator::hasNext);
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertCloseWithRemainingGroups() throws SQLException {
+        CountDownLatch slowGroupLatch = new CountDownLatch(1);
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            slowGroupLatch.await();
+            return Collections.singletonList("slow");
+        });
+        StreamingGroupResults<String> actual = new StreamingGroupResults<>(Collections.singletonList("first"), completionService, 1, finishedCount::incrementAndGet);
+        assertThat(actual.get(0), is("first"));
+        slowGroupLatch.countDown();
+        actual.close();
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertCloseWithRemainingGroupFailures() {
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            throw new SQLException("foo");
+        });
+        completionService.submit(() -> {
+            throw new IllegalStateException("bar");
+        });
+        StreamingGroupResults<String> actual = new StreamingGroupResults<>(Collections.singletonList("first"), completionService, 2, finishedCount::incrementAndGet);
+        assertThat(actual.get(0), is("first"));
+        SQLException ex = assertThrows(SQLException.class, actual::close);
+        assertNotNull(ex.getNextException());
+        assertNotNull(ex.getNextException().getNextException());
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertDiscardWithRemainingGroupFailures() {
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> {
+            throw new SQLException("foo");
+        });
+        StreamingGroupResults<String> actual = new StreamingGroupResults<>(Collections.singletonList("first"), completionService, 1, finishedCount::incrementAndGet);
+        assertThat(actual.get(0), is("first"));
+        actual.discard();
+        assertThat(finishedCount.get(), is(1));
+    }
+    
+    @Test
+    void assertIterateWithEmptyFirstResults() {
+        CompletionService<Collection<String>> completionService = new ExecutorCompletionService<>(executorService);
+        completionService.submit(() -> Collections.singletonList("foo"));
+        StreamingGroupResults<String> actual = new StreamingGroupResults<>(Collections.emptyList(), completionService, 1, finishedCount::incrementAndGet);
+        assertTrue(actual.iterator().hasNext());
+        assertThat(actual.iterator().next(), is("foo"));
+    }
+}
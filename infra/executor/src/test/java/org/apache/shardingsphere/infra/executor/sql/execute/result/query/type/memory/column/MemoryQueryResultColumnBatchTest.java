@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.column;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class MemoryQueryResultColumnBatchTest {
+    
+    @Test
+    void assertGetPrimitiveValues() {
+        MemoryQueryResultColumnBatch actual = new MemoryQueryResultColumnBatch(4);
+        actual.addRow(new Object[]{1, 10L, 1.5D, 2.5F});
+        actual.addRow(new Object[]{null, 20L, null, 3.5F});
+        assertThat(actual.getRowCount(), is(2));
+        assertThat(actual.getValue(0, 0), is(1));
+        assertThat(actual.getValue(0, 1), is(10L));
+        assertThat(actual.getValue(0, 2), is(1.5D));
+        assertThat(actual.getValue(0, 3), is(2.5F));
+        assertNull(actual.getValue(1, 0));
+        assertThat(actual.getValue(1, 1), is(20L));
+        assertNull(actual.getValue(1, 2));
+        assertThat(actual.getValue(1, 3), is(3.5F));
+    }
+    
+    @Test
+    void assertGetStringAndBytesValues() {
+        MemoryQueryResultColumnBatch actual = new MemoryQueryResultColumnBatch(2);
+        actual.addRow(new Object[]{"foo", new byte[]{1, 2}});
+        actual.addRow(new Object[]{null, null});
+        actual.addRow(new Object[]{"中文", new byte[0]});
+        assertThat(actual.getValue(0, 0), is("foo"));
+        assertThat(actual.getValue(0, 1), is(new byte[]{1, 2}));
+        assertNull(actual.getValue(1, 0));
+        assertNull(actual.getValue(1, 1));
+        assertThat(actual.getValue(2, 0), is("中文"));
+        assertThat(actual.getValue(2, 1), is(new byte[0]));
+    }
+    
+    @Test
+    void assertGetSameStringValueRepeatedly() {
+        MemoryQueryResultColumnBatch actual = new MemoryQueryResultColumnBatch(1);
+        actual.addRow(new Object[]{"foo"});
+        actual.addRow(new Object[]{"bar"});
+        assertThat(actual.getValue(1, 0), sameInstance(actual.getValue(1, 0)));
+        assertThat(actual.getValue(0, 0), is("foo"));
+        assertThat(actual.getValue(1, 0), is("bar"));
+    }
+    
+    @Test
+    void assertGetMalformedStringValue() {
+        MemoryQueryResultColumnBatch actual = new MemoryQueryResultColumnBatch(1);
+        actual.addRow(new Object[]{"foo"});
+        actual.addRow(new Object[]{"bar\uD800"});
+        actual.addRow(new Object[]{"\uD83D\uDE00"});
+        assertThat(actual.getValue(0, 0), is("foo"));
+        assertThat(actual.getValue(1, 0), is("bar\uD800"));
+        assertThat(actual.getValue(2, 0), is("\uD83D\uDE00"));
+    }
+    
+    @Test
+    void assertGetValueWithLeadingNulls() {
+        MemoryQueryResultColumnBatch actual = new MemoryQueryResultColumnBatch(2);
+        actual.addRow(new Object[]{null, null});
+        actual.addRow(new Object[]{null, 1L});
+        assertNull(actual.getValue(0, 0));
+        assertNull(actual.getValue(1, 0));
+        assertNull(actual.getValue(0, 1));
+        assertThat(actual.getValue(1, 1), is(1L));
+    }
+    
+    @Test
+    void assertGetValueAfterPromoteToObjectColumn() {
+        MemoryQueryResultColumnBatch actual = new MemoryQueryResultColumnBatch(1);
+        actual.addRow(new Object[]{1});
+        actual.addRow(new Object[]{null});
+        actual.addRow(new Object[]{2L});
+        actual.addRow(new Object[]{new BigDecimal("1.1")});
+        assertThat(actual.getValue(0, 0), instanceOf(Integer.class));
+        assertThat(actual.getValue(0, 0), is(1));
+        assertNull(actual.getValue(1, 0));
+        assertThat(actual.getValue(2, 0), is(2L));
+        assertThat(actual.getValue(3, 0), is(new BigDecimal("1.1")));
+    }
+    
+    @Test
+    void assertAddManyRows() {
+        MemoryQueryResultColumnBatch actual = new MemoryQueryResultColumnBatch(2);
+        for (int i = 0; i < 1000; i++) {
+            actual.addRow(new Object[]{i, "value_" + i});
+        }
+        assertThat(actual.getRowCount(), is(1000));
+        assertThat(actual.getValue(999, 0), is(999));
+        assertThat(actual.getValue(999, 1), is("value_999"));
+        assertThat(actual.getValue(500, 1), is("value_500"));
+    }
+}
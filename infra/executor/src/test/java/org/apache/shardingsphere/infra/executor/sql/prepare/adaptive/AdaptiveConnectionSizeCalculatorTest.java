@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.adaptive;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdaptiveConnectionSizeCalculatorTest {
+    
+    @AfterEach
+    void tearDown() {
+        ExecutionUnitStatisticsRegistry.getInstance().clear();
+    }
+    
+    @Test
+    void assertCalculateWithoutStatistics() {
+        List<ExecutionUnit> executionUnits = createExecutionUnits(4);
+        assertFalse(AdaptiveConnectionSizeCalculator.calculate(executionUnits, 4).isPresent());
+        assertTrue(ExecutionUnitStatisticsRegistry.getInstance().find(executionUnits.get(0).getSqlUnit()).isPresent());
+        assertFalse(ExecutionUnitStatisticsRegistry.getInstance().find(new SQLUnit("SELECT * FROM t_order_0", Collections.emptyList())).isPresent());
+    }
+    
+    @Test
+    void assertCalculateWithSmallAndFastResults() {
+        List<ExecutionUnit> executionUnits = createExecutionUnits(4);
+        record(executionUnits, 10L, 1000000L);
+        assertThat(AdaptiveConnectionSizeCalculator.calculate(executionUnits, 4), is(Optional.of(1)));
+    }
+    
+    @Test
+    void assertCalculateWithSmallAndSlowResults() {
+        List<ExecutionUnit> executionUnits = createExecutionUnits(4);
+        record(executionUnits, 10L, 5000000L);
+        assertThat(AdaptiveConnectionSizeCalculator.calculate(executionUnits, 4), is(Optional.of(2)));
+    }
+    
+    @Test
+    void assertCalculateNotExceedMaxConnectionsSizePerQuery() {
+        List<ExecutionUnit> executionUnits = createExecutionUnits(4);
+        record(executionUnits, 10L, 100000000L);
+        assertThat(AdaptiveConnectionSizeCalculator.calculate(executionUnits, 3), is(Optional.of(3)));
+    }
+    
+    @Test
+    void assertCalculateWithLargeResults() {
+        List<ExecutionUnit> executionUnits = createExecutionUnits(4);
+        record(executionUnits, 100000L, 1000000L);
+        assertFalse(AdaptiveConnectionSizeCalculator.calculate(executionUnits, 4).isPresent());
+    }
+    
+    @Test
+    void assertRecordWithMovingAverage() {
+        ExecutionUnitStatistics statistics = ExecutionUnitStatisticsRegistry.getInstance().track(new SQLUnit("SELECT 1", Collections.emptyList()));
+        assertFalse(statistics.isSampled());
+        statistics.recordRowCount(10L);
+        statistics.recordRowCount(20L);
+        statistics.recordLatency(100L);
+        assertTrue(statistics.isSampled());
+        assertThat(statistics.getAverageRowCount(), is(12D));
+        assertThat(statistics.getPeakRowCount(), is(20L));
+        assertThat(statistics.getAverageLatencyNanos(), is(100D));
+    }
+    
+    @Test
+    void assertCalculateAfterLargeResultReturnedOnce() {
+        List<ExecutionUnit> executionUnits = createExecutionUnits(4);
+        record(executionUnits, 100000L, 1000000L);
+        for (int i = 0; i < 100; i++) {
+            record(executionUnits, 10L, 1000000L);
+        }
+        assertFalse(AdaptiveConnectionSizeCalculator.calculate(executionUnits, 4).isPresent());
+    }
+    
+    @Test
+    void assertTrackPreparedSQLWithSameStatistics() {
+        ExecutionUnitStatistics expected = ExecutionUnitStatisticsRegistry.getInstance().track(new SQLUnit("SELECT * FROM t_order_0 WHERE order_id = ?", Collections.singletonList(1)));
+        SQLUnit sqlUnit = new SQLUnit("SELECT * FROM t_order_0 WHERE order_id = ?", Collections.singletonList(2));
+        assertThat(ExecutionUnitStatisticsRegistry.getInstance().track(sqlUnit), is(expected));
+        assertThat(ExecutionUnitStatisticsRegistry.getInstance().find(sqlUnit), is(Optional.of(expected)));
+        assertThat(ExecutionUnitStatisticsRegistry.getInstance().size(), is(1L));
+    }
+    
+    @Test
+    void assertTrackSQLsDifferingInLiteralsWithDifferentStatistics() {
+        ExecutionUnitStatistics statistics = ExecutionUnitStatisticsRegistry.getInstance().track(new SQLUnit("SELECT * FROM t_order_0 WHERE order_id = 1", Collections.emptyList()));
+        assertThat(ExecutionUnitStatisticsRegistry.getInstance().track(new SQLUnit("SELECT * FROM t_order_0 WHERE order_id = 2", Collections.emptyList())), not(statistics));
+        assertThat(ExecutionUnitStatisticsRegistry.getInstance().size(), is(2L));
+    }
+    
+    private List<ExecutionUnit> createExecutionUnits(final int size) {
+        ExecutionUnit[] result = new ExecutionUnit[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = new ExecutionUnit("ds_0", new SQLUnit("SELECT * FROM t_order_" + i, Collections.emptyList()));
+        }
+        return Arrays.asList(result);
+    }
+    
+    private void record(final List<ExecutionUnit> executionUnits, final long rowCount, final long latencyNanos) {
+        for (ExecutionUnit each : executionUnits) {
+            ExecutionUnitStatistics statistics = ExecutionUnitStatisticsRegistry.getInstance().track(each.getSqlUnit());
+            statistics.recordRowCount(rowCount);
+            statistics.recordLatency(latencyNanos);
+        }
+    }
+}
@@ -0,0 +1,450 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Compiled inline expression.
+ * 
+ * <p>Compiles the common subset of Groovy inline expressions once: literal text with placeholders made of integer and long literals, arguments,
+ * {@code +}, {@code -}, {@code *}, {@code %}, parentheses, {@code hashCode()}, {@code Math.abs()} and string concatenation.
+ * Evaluation is thread-safe and follows Groovy semantics of the subset, values out of the subset are left to Groovy.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledInlineExpression {
+    
+    private final String[] texts;
+    
+    private final ExpressionNode[] nodes;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $} placeholders
+     * @return compiled inline expression, empty if inline expression is out of the compiled subset
+     */
+    static Optional<CompiledInlineExpression> compile(final String inlineExpression) {
+        List<String> texts = new ArrayList<>();
+        List<ExpressionNode> nodes = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        int index = 0;
+        while (index < inlineExpression.length()) {
+            char each = inlineExpression.charAt(index);
+            if ('$' == each) {
+                int endIndex = findPlaceholderEnd(inlineExpression, index);
+                if (-1 == endIndex) {
+                    return Optional.empty();
+                }
+                Optional<ExpressionNode> node = new ExpressionCompiler(inlineExpression.substring(index + 2, endIndex)).compile();
+                if (!node.isPresent()) {
+                    return Optional.empty();
+                }
+                texts.add(text.toString());
+                text.setLength(0);
+                nodes.add(node.get());
+                index = endIndex + 1;
+                continue;
+            }
+            if ('"' == each || '\\' == each) {
+                return Optional.empty();
+            }
+            text.append(each);
+            index++;
+        }
+        texts.add(text.toString());
+        return Optional.of(new CompiledInlineExpression(texts.toArray(new String[0]), nodes.toArray(new ExpressionNode[0])));
+    }
+    
+    /**
+     * Find end index of placeholder.
+     *
+     * @param inlineExpression inline expression
+     * @param beginIndex begin index of {@code $}
+     * @return index of closing bracket, -1 if not a plain placeholder
+     */
+    static int findPlaceholderEnd(final String inlineExpression, final int beginIndex) {
+        if (beginIndex + 1 >= inlineExpression.length() || '{' != inlineExpression.charAt(beginIndex + 1)) {
+            return -1;
+        }
+        char quote = 0;
+        for (int i = beginIndex + 2; i < inlineExpression.length(); i++) {
+            char each = inlineExpression.charAt(i);
+            if (0 != quote) {
+                quote = quote == each ? 0 : quote;
+            } else if ('\'' == each || '"' == each) {
+                quote = each;
+            } else if ('{' == each) {
+                return -1;
+            } else if ('}' == each) {
+                return i;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Evaluate with arguments.
+     *
+     * @param args arguments
+     * @return evaluated value, empty if values of arguments are out of the compiled subset
+     */
+    Optional<String> evaluate(final Map<String, Comparable<?>> args) {
+        StringBuilder result = new StringBuilder(texts[0]);
+        for (int i = 0; i < nodes.length; i++) {
+            Object value = nodes[i].evaluate(args);
+            if (!(value instanceof String || value instanceof Integer || value instanceof Long)) {
+                return Optional.empty();
+            }
+            result.append(value).append(texts[i + 1]);
+        }
+        return Optional.of(result.toString());
+    }
+    
+    private interface ExpressionNode {
+        
+        /**
+         * Evaluate.
+         *
+         * @param args arguments
+         * @return evaluated value, null if values of arguments are out of the compiled subset
+         */
+        Object evaluate(Map<String, Comparable<?>> args);
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ConstantNode implements ExpressionNode {
+        
+        private final Object value;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ArgumentNode implements ExpressionNode {
+        
+        private final String name;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object result = args.get(name);
+            return result instanceof Short || result instanceof Byte ? Integer.valueOf(((Number) result).intValue()) : result;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements ExpressionNode {
+        
+        private final ExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = operand.evaluate(args);
+            return null == value ? null : value.hashCode();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements ExpressionNode {
+        
+        private final ExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = operand.evaluate(args);
+            if (value instanceof Integer) {
+                return Math.abs((Integer) value);
+            }
+            return value instanceof Long ? Math.abs((Long) value) : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements ExpressionNode {
+        
+        private final ExpressionNode operand;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object value = operand.evaluate(args);
+            if (value instanceof Integer) {
+                return -(Integer) value;
+            }
+            return value instanceof Long ? -(Long) value : null;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements ExpressionNode {
+        
+        private final char operator;
+        
+        private final ExpressionNode left;
+        
+        private final ExpressionNode right;
+        
+        @Override
+        public Object evaluate(final Map<String, Comparable<?>> args) {
+            Object leftValue = left.evaluate(args);
+            Object rightValue = right.evaluate(args);
+            if (!isSupportedValue(leftValue) || !isSupportedValue(rightValue)) {
+                return null;
+            }
+            if (leftValue instanceof String || rightValue instanceof String) {
+                return '+' == operator ? leftValue.toString() + rightValue : null;
+            }
+            if (leftValue instanceof Long || rightValue instanceof Long) {
+                return calculate(((Number) leftValue).longValue(), ((Number) rightValue).longValue());
+            }
+            return calculate((int) (Integer) leftValue, (int) (Integer) rightValue);
+        }
+        
+        private boolean isSupportedValue(final Object value) {
+            return value instanceof String || value instanceof Integer || value instanceof Long;
+        }
+        
+        private Object calculate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0L == rightValue ? null : leftValue % rightValue;
+            }
+        }
+        
+        private Object calculate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return 0 == rightValue ? null : leftValue % rightValue;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class ExpressionCompiler {
+        
+        private static final String HASH_CODE = ".hashCode()";
+        
+        private static final String MATH_ABS = "Math.abs(";
+        
+        private final String expression;
+        
+        private int position;
+        
+        private Optional<ExpressionNode> compile() {
+            ExpressionNode result = compileAdditive();
+            skipWhitespace();
+            return null != result && position == expression.length() ? Optional.of(result) : Optional.empty();
+        }
+        
+        private ExpressionNode compileAdditive() {
+            ExpressionNode result = compileMultiplicative();
+            while (null != result) {
+                char operator = peekOperator('+', '-');
+                if (0 == operator) {
+                    break;
+                }
+                ExpressionNode right = compileMultiplicative();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return result;
+        }
+        
+        private ExpressionNode compileMultiplicative() {
+            ExpressionNode result = compileUnary();
+            while (null != result) {
+                char operator = peekOperator('*', '%');
+                if (0 == operator) {
+                    break;
+                }
+                ExpressionNode right = compileUnary();
+                result = null == right ? null : new BinaryNode(operator, result, right);
+            }
+            return result;
+        }
+        
+        private char peekOperator(final char... operators) {
+            skipWhitespace();
+            if (position + 1 >= expression.length()) {
+                return 0;
+            }
+            char current = expression.charAt(position);
+            char next = expression.charAt(position + 1);
+            for (char each : operators) {
+                if (each == current && '=' != next && '*' != next && current != next) {
+                    position++;
+                    return each;
+                }
+            }
+            return 0;
+        }
+        
+        private ExpressionNode compileUnary() {
+            skipWhitespace();
+            if (position < expression.length() && '-' == expression.charAt(position)) {
+                position++;
+                if (position < expression.length() && '-' == expression.charAt(position)) {
+                    return null;
+                }
+                ExpressionNode operand = compileUnary();
+                return null == operand ? null : new NegateNode(operand);
+            }
+            return compilePostfix();
+        }
+        
+        private ExpressionNode compilePostfix() {
+            ExpressionNode result = compilePrimary();
+            skipWhitespace();
+            while (null != result && expression.startsWith(HASH_CODE, position)) {
+                position += HASH_CODE.length();
+                result = new HashCodeNode(result);
+                skipWhitespace();
+            }
+            return result;
+        }
+        
+        private ExpressionNode compilePrimary() {
+            skipWhitespace();
+            if (position >= expression.length()) {
+                return null;
+            }
+            char current = expression.charAt(position);
+            if ('(' == current) {
+                position++;
+                ExpressionNode result = compileAdditive();
+                skipWhitespace();
+                if (null == result || position >= expression.length() || ')' != expression.charAt(position)) {
+                    return null;
+                }
+                position++;
+                return result;
+            }
+            if (Character.isDigit(current)) {
+                return compileNumber();
+            }
+            if ('\'' == current || '"' == current) {
+                return compileString(current);
+            }
+            if (expression.startsWith(MATH_ABS, position)) {
+                position += MATH_ABS.length();
+                ExpressionNode operand = compileAdditive();
+                skipWhitespace();
+                if (null == operand || position >= expression.length() || ')' != expression.charAt(position)) {
+                    return null;
+                }
+                position++;
+                return new AbsNode(operand);
+            }
+            return Character.isJavaIdentifierStart(current) && '$' != current ? compileArgument() : null;
+        }
+        
+        private ExpressionNode compileNumber() {
+            int beginIndex = position;
+            while (position < expression.length() && Character.isDigit(expression.charAt(position))) {
+                position++;
+            }
+            String digits = expression.substring(beginIndex, position);
+            if (digits.length() > 1 && '0' == digits.charAt(0) || digits.length() > 18) {
+                return null;
+            }
+            if (position < expression.length() && ('L' == expression.charAt(position) || 'l' == expression.charAt(position))) {
+                position++;
+                return isIdentifierPart(position) ? null : new ConstantNode(Long.parseLong(digits));
+            }
+            if (isIdentifierPart(position) || position < expression.length() && '.' == expression.charAt(position)) {
+                return null;
+            }
+            long value = Long.parseLong(digits);
+            return new ConstantNode(value <= Integer.MAX_VALUE ? (Object) (int) value : (Object) value);
+        }
+        
+        private ExpressionNode compileString(final char quote) {
+            int endIndex = expression.indexOf(quote, position + 1);
+            if (-1 == endIndex) {
+                return null;
+            }
+            String value = expression.substring(position + 1, endIndex);
+            if (value.indexOf('\\') >= 0 || value.indexOf('$') >= 0) {
+                return null;
+            }
+            position = endIndex + 1;
+            return new ConstantNode(value);
+        }
+        
+        private ExpressionNode compileArgument() {
+            int beginIndex = position;
+            while (isIdentifierPart(position)) {
+                position++;
+            }
+            String name = expression.substring(beginIndex, position);
+            skipWhitespace();
+            if (isKeyword(name) || position < expression.length() && ('(' == expression.charAt(position) || '[' == expression.charAt(position)
+                    || '.' == expression.charAt(position) && !expression.startsWith(HASH_CODE, position))) {
+                return null;
+            }
+            return new ArgumentNode(name);
+        }
+        
+        private boolean isKeyword(final String name) {
+            switch (name) {
+                case "it":
+                case "null":
+                case "true":
+                case "false":
+                case "this":
+                case "super":
+                case "new":
+                case "as":
+                case "in":
+                case "instanceof":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+        
+        private boolean isIdentifierPart(final int index) {
+            return index < expression.length() && Character.isJavaIdentifierPart(expression.charAt(index)) && '$' != expression.charAt(index);
+        }
+        
+        private void skipWhitespace() {
+            while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+                position++;
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import com.google.common.collect.Sets;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.util.groovy.GroovyUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiled inline expression expander.
+ * 
+ * <p>Expands the common subset of Groovy inline expressions without Groovy: literal text with placeholders of integer ranges such as {@code ${0..3}},
+ * lists of integer or string literals such as {@code ${['a', 'b']}}, and single literals.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class CompiledInlineExpressionExpander {
+    
+    private static final String INTEGER_PATTERN = "-?(?:0|[1-9]\\d{0,8})";
+    
+    private static final Pattern INTEGER = Pattern.compile(INTEGER_PATTERN);
+    
+    private static final Pattern RANGE = Pattern.compile("(" + INTEGER_PATTERN + ")\\s*\\.\\.\\s*(" + INTEGER_PATTERN + ")");
+    
+    /**
+     * Split and expand inline expression.
+     *
+     * @param inlineExpression inline expression with {@code $} placeholders
+     * @return expanded values, empty if inline expression is out of the compiled subset
+     */
+    static Optional<List<String>> expand(final String inlineExpression) {
+        List<String> result = new ArrayList<>();
+        for (String each : GroovyUtils.split(inlineExpression)) {
+            Optional<List<String>> segments = expandSegment(each);
+            if (!segments.isPresent()) {
+                return Optional.empty();
+            }
+            result.addAll(segments.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<List<String>> expandSegment(final String segment) {
+        List<String> texts = new ArrayList<>();
+        List<Set<String>> values = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        int index = 0;
+        while (index < segment.length()) {
+            char each = segment.charAt(index);
+            if ('$' == each) {
+                int endIndex = CompiledInlineExpression.findPlaceholderEnd(segment, index);
+                Optional<Set<String>> placeholderValues = -1 == endIndex ? Optional.empty() : getPlaceholderValues(segment.substring(index + 2, endIndex).trim());
+                if (!placeholderValues.isPresent()) {
+                    return Optional.empty();
+                }
+                texts.add(text.toString());
+                text.setLength(0);
+                values.add(placeholderValues.get());
+                index = endIndex + 1;
+                continue;
+            }
+            if ('"' == each || '\\' == each) {
+                return Optional.empty();
+            }
+            text.append(each);
+            index++;
+        }
+        texts.add(text.toString());
+        if (values.isEmpty()) {
+            return Optional.of(Collections.singletonList(texts.get(0)));
+        }
+        Set<List<String>> cartesianValues = Sets.cartesianProduct(values);
+        List<String> result = new ArrayList<>(cartesianValues.size());
+        for (List<String> each : cartesianValues) {
+            result.add(assemble(texts, each));
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<Set<String>> getPlaceholderValues(final String placeholder) {
+        Matcher rangeMatcher = RANGE.matcher(placeholder);
+        if (rangeMatcher.matches()) {
+            return Optional.of(getRangeValues(Integer.parseInt(rangeMatcher.group(1)), Integer.parseInt(rangeMatcher.group(2))));
+        }
+        if (placeholder.startsWith("[") && placeholder.endsWith("]")) {
+            return getListValues(placeholder.substring(1, placeholder.length() - 1).trim());
+        }
+        return getLiteralValue(placeholder).map(Collections::singleton);
+    }
+    
+    private static Set<String> getRangeValues(final int from, final int to) {
+        Set<String> result = new LinkedHashSet<>(Math.abs(to - from) + 1, 1F);
+        int step = from <= to ? 1 : -1;
+        for (int i = from; i != to + step; i += step) {
+            result.add(String.valueOf(i));
+        }
+        return result;
+    }
+    
+    private static Optional<Set<String>> getListValues(final String items) {
+        Set<String> result = new LinkedHashSet<>();
+        if (items.isEmpty()) {
+            return Optional.of(result);
+        }
+        for (String each : items.split(",", -1)) {
+            Optional<String> value = getLiteralValue(each.trim());
+            if (!value.isPresent()) {
+                return Optional.empty();
+            }
+            result.add(value.get());
+        }
+        return Optional.of(result);
+    }
+    
+    private static Optional<String> getLiteralValue(final String literal) {
+        if (INTEGER.matcher(literal).matches()) {
+            return Optional.of(String.valueOf(Integer.parseInt(literal)));
+        }
+        if (literal.length() < 2) {
+            return Optional.empty();
+        }
+        char quote = literal.charAt(0);
+        if ('\'' != quote && '"' != quote || quote != literal.charAt(literal.length() - 1)) {
+            return Optional.empty();
+        }
+        String result = literal.substring(1, literal.length() - 1);
+        return result.indexOf(quote) >= 0 || result.indexOf('\\') >= 0 || result.indexOf('$') >= 0 || result.indexOf(',') >= 0 ? Optional.empty() : Optional.of(result);
+    }
+    
+    private static String assemble(final List<String> texts, final List<String> values) {
+        StringBuilder result = new StringBuilder(texts.get(0));
+        for (int i = 0; i < values.size(); i++) {
+            result.append(values.get(i)).append(texts.get(i + 1));
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import com.google.common.base.Strings;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Compiled inline expression parser.
+ * 
+ * <p>Compiles the common subset of Groovy inline expressions once when initializing, and falls back to Groovy for the others.
+ * Placeholder handled expression keeps the type name, so that sharding algorithms evaluate with the compiled expression too.</p>
+ */
+public final class CompiledInlineExpressionParser implements InlineExpressionParser {
+    
+    private final GroovyInlineExpressionParser groovyInlineExpressionParser = new GroovyInlineExpressionParser();
+    
+    private String inlineExpression;
+    
+    private CompiledInlineExpression compiledInlineExpression;
+    
+    @Override
+    public void init(final Properties props) {
+        groovyInlineExpressionParser.init(props);
+        inlineExpression = props.getProperty(INLINE_EXPRESSION_KEY);
+        compiledInlineExpression = Strings.isNullOrEmpty(inlineExpression) ? null : CompiledInlineExpression.compile(handlePlaceHolder(inlineExpression)).orElse(null);
+    }
+    
+    @Override
+    public String handlePlaceHolder() {
+        return "<" + getType() + ">" + handlePlaceHolder(inlineExpression);
+    }
+    
+    private String handlePlaceHolder(final String inlineExpression) {
+        return inlineExpression.contains("$->{") ? inlineExpression.replaceAll("\\$->\\{", "\\$\\{") : inlineExpression;
+    }
+    
+    @Override
+    public List<String> splitAndEvaluate() {
+        if (Strings.isNullOrEmpty(inlineExpression)) {
+            return Collections.emptyList();
+        }
+        return CompiledInlineExpressionExpander.expand(handlePlaceHolder(inlineExpression)).orElseGet(groovyInlineExpressionParser::splitAndEvaluate);
+    }
+    
+    @Override
+    public String evaluateWithArgs(final Map<String, Comparable<?>> map) {
+        if (null != compiledInlineExpression) {
+            Optional<String> result = compiledInlineExpression.evaluate(map);
+            if (result.isPresent()) {
+                return result.get();
+            }
+        }
+        return groovyInlineExpressionParser.evaluateWithArgs(map);
+    }
+    
+    @Override
+    public String getType() {
+        return "COMPILED";
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompiledInlineExpressionParserTest {
+    
+    @Test
+    void assertSplitAndEvaluateForNull() {
+        assertThat(TypedSPILoader.getService(InlineExpressionParser.class, "COMPILED", new Properties()).splitAndEvaluate(), is(Collections.<String>emptyList()));
+    }
+    
+    @Test
+    void assertSplitAndEvaluateForRangeAndList() {
+        List<String> actual = createParser("t_${['new', 'old']}_order_$->{1..2}, t_config, t_item_${2..0}").splitAndEvaluate();
+        assertThat(actual, is(Arrays.asList("t_new_order_1", "t_new_order_2", "t_old_order_1", "t_old_order_2", "t_config", "t_item_2", "t_item_1", "t_item_0")));
+    }
+    
+    @Test
+    void assertSplitAndEvaluateWithGroovyFallback() {
+        assertThat(createParser("t_order_${null}").splitAndEvaluate(), is(Collections.singletonList("t_order_")));
+        assertThat(createParser("t_order_${(0..1).collect { it * 2 }}").splitAndEvaluate(), is(Arrays.asList("t_order_0", "t_order_2")));
+    }
+    
+    @Test
+    void assertSplitAndEvaluateSameAsGroovy() {
+        for (String each : Arrays.asList("ds_${0..1}.t_order_${0..3}", "t_${[0, 1, 2]},t_item_${[0, 2]}", "t_${-1..1}", "t_${'xx'}", "t_${[]}", "t_config")) {
+            assertThat(each, createParser(each).splitAndEvaluate(), is(createGroovyParser(each).splitAndEvaluate()));
+        }
+    }
+    
+    @Test
+    void assertHandlePlaceHolder() {
+        assertThat(createParser("t_order_$->{order_id % 2}").handlePlaceHolder(), is("<COMPILED>t_order_${order_id % 2}"));
+    }
+    
+    @Test
+    void assertEvaluateWithArgs() {
+        assertThat(createParser("t_order_${order_id % 2}").evaluateWithArgs(Collections.singletonMap("order_id", 3)), is("t_order_1"));
+        assertThat(createParser("ds_${user_id % 2 + 1}").evaluateWithArgs(Collections.singletonMap("user_id", 4L)), is("ds_1"));
+        assertThat(createParser("t_order_${Math.abs(order_id.hashCode()) % 4}").evaluateWithArgs(Collections.singletonMap("order_id", "foo")), is("t_order_2"));
+    }
+    
+    @Test
+    void assertEvaluateWithArgsSameAsGroovy() {
+        List<String> expressions = Arrays.asList("t_${id % 4}", "t_${-id % 3}", "t_${(id + 7) * 3 % 5}", "t_${id - 1}", "t_${id.hashCode() % 8}", "t_${Math.abs(id.hashCode() % 8)}",
+                "${'t_' + id % 2}", "t_${id}_${id * 2L}", "t_${id * id}", "t_${2147483647 + id}", "t_${id % 2}_${id.toString().length()}");
+        List<Comparable<?>> values = Arrays.asList(0, 5, -7, 123456789L, -9876543210L, (short) 9, Integer.MAX_VALUE, new BigDecimal("10"));
+        for (String eachExpression : expressions) {
+            for (Comparable<?> eachValue : values) {
+                Map<String, Comparable<?>> args = new LinkedHashMap<>();
+                args.put("id", eachValue);
+                String message = eachExpression + " with " + eachValue;
+                assertThat(message, createParser(eachExpression).evaluateWithArgs(args), is(createGroovyParser(eachExpression).evaluateWithArgs(args)));
+            }
+        }
+    }
+    
+    @Test
+    void assertEvaluateWithArgsWithStringValueSameAsGroovy() {
+        Map<String, Comparable<?>> args = Collections.singletonMap("id", "foo_id");
+        for (String each : Arrays.asList("t_${id}", "t_${id.hashCode() % 4}", "t_${id + 1}", "t_${1 + id}", "t_${'x' + id}")) {
+            assertThat(each, createParser(each).evaluateWithArgs(args), is(createGroovyParser(each).evaluateWithArgs(args)));
+        }
+    }
+    
+    @Test
+    void assertCompile() {
+        for (String each : Arrays.asList("t_order_${order_id % 2}", "ds_${user_id % 2 + 1}", "t_${Math.abs(id.hashCode()) % 4}", "${'t_' + id}", "t_${-id * 3L}")) {
+            assertTrue(CompiledInlineExpression.compile(each).isPresent(), each);
+        }
+        for (String each : Arrays.asList("t_${id / 2}", "t_${id.toString()}", "t_${id++}", "t_$id", "t_${id ** 2}", "t_${it}", "t_${[1, 2].size()}", "\"t_${id}\"")) {
+            assertFalse(CompiledInlineExpression.compile(each).isPresent(), each);
+        }
+    }
+    
+    private InlineExpressionParser createParser(final String inlineExpression) {
+        return TypedSPILoader.getService(InlineExpressionParser.class, "COMPILED", PropertiesBuilder.build(new Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, inlineExpression)));
+    }
+    
+    private InlineExpressionParser createGroovyParser(final String inlineExpression) {
+        return TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", PropertiesBuilder.build(new Property(InlineExpressionParser.INLINE_EXPRESSION_KEY, inlineExpression)));
+    }
+}
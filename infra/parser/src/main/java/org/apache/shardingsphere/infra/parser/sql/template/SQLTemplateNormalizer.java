@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.template;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.sql.common.value.literal.impl.NumberLiteralValue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * SQL template normalizer.
+ * 
+ * <p>Replace literals compared by operators, bounded by BETWEEN, listed in IN predicates or inserted by VALUES with parameter markers,
+ * so that SQLs only differing in those literals share one SQL template. Literals are scanned by a lightweight lexer without parsing,
+ * and SQLs with parameter markers, multiple statements or executable comments are not normalized.</p>
+ * 
+ * <p>String literals are only extracted for MySQL family, other databases may not compare untyped parameters with columns as they compare string literals.</p>
+ */
+public final class SQLTemplateNormalizer {
+    
+    private static final Collection<String> DML_KEYWORDS = new HashSet<>(Arrays.asList("SELECT", "INSERT", "UPDATE", "DELETE"));
+    
+    private static final Collection<String> LIST_KEYWORDS = new HashSet<>(Arrays.asList("IN", "VALUES", "VALUE"));
+    
+    private static final Collection<String> COMPARISON_OPERATORS = new HashSet<>(Arrays.asList("=", "<", ">", "<=", ">=", "<>", "!="));
+    
+    private static final Collection<String> TWO_CHAR_OPERATORS = new HashSet<>(Arrays.asList("<=", ">=", "<>", "!=", "||", "::", "<<", ">>", "->", ":="));
+    
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\d+(\\.\\d+)?");
+    
+    private final boolean mySQLFamily;
+    
+    public SQLTemplateNormalizer(final DatabaseType databaseType) {
+        mySQLFamily = "MySQL".equals(databaseType.getTrunkDatabaseType().orElse(databaseType).getType());
+    }
+    
+    /**
+     * Normalize SQL to SQL template.
+     *
+     * @param sql SQL to be normalized
+     * @return SQL template, empty if SQL is not DML statement or no literal could be extracted
+     */
+    public Optional<SQLTemplate> normalize(final String sql) {
+        Optional<List<Token>> tokens = tokenize(sql);
+        if (!tokens.isPresent() || tokens.get().isEmpty() || !tokens.get().get(0).isKeyword(DML_KEYWORDS)) {
+            return Optional.empty();
+        }
+        StringBuilder templateSQL = new StringBuilder(sql.length());
+        List<Object> params = new ArrayList<>();
+        Deque<Boolean> listContexts = new LinkedList<>();
+        boolean valuesRowClosed = false;
+        int copiedIndex = 0;
+        for (int i = 0; i < tokens.get().size(); i++) {
+            Token token = tokens.get().get(i);
+            Token previous = 0 == i ? null : tokens.get().get(i - 1);
+            if (token.isSymbol("(")) {
+                listContexts.push(null != previous && (previous.isKeyword(LIST_KEYWORDS) || valuesRowClosed && previous.isSymbol(",")));
+                valuesRowClosed = false;
+                continue;
+            }
+            if (token.isSymbol(")")) {
+                if (listContexts.isEmpty()) {
+                    return Optional.empty();
+                }
+                valuesRowClosed = listContexts.pop();
+                continue;
+            }
+            if (!token.isSymbol(",")) {
+                valuesRowClosed = false;
+            }
+            Token next = i + 1 == tokens.get().size() ? null : tokens.get().get(i + 1);
+            Optional<Object> value = getExtractableValue(token);
+            if (value.isPresent() && (isListed(listContexts, previous, next) || isCompared(tokens.get(), i, next))) {
+                templateSQL.append(sql, copiedIndex, token.startIndex).append('?');
+                copiedIndex = token.stopIndex;
+                params.add(value.get());
+            }
+        }
+        if (params.isEmpty()) {
+            return Optional.empty();
+        }
+        templateSQL.append(sql, copiedIndex, sql.length());
+        return Optional.of(new SQLTemplate(templateSQL.toString(), params));
+    }
+    
+    private Optional<Object> getExtractableValue(final Token token) {
+        if (TokenType.NUMBER == token.type) {
+            return Optional.of(new NumberLiteralValue(token.text).getValue());
+        }
+        if (TokenType.STRING == token.type && mySQLFamily) {
+            String body = token.text.substring(1, token.text.length() - 1);
+            return body.indexOf('\\') < 0 ? Optional.of(body.replace("''", "'")) : Optional.empty();
+        }
+        return Optional.empty();
+    }
+    
+    private boolean isListed(final Deque<Boolean> listContexts, final Token previous, final Token next) {
+        return !listContexts.isEmpty() && listContexts.peek() && null != next && (previous.isSymbol("(") || previous.isSymbol(",")) && (next.isSymbol(")") || next.isSymbol(","));
+    }
+    
+    private boolean isCompared(final List<Token> tokens, final int index, final Token next) {
+        if (index < 1 || null != next && !next.isSymbol(")") && !next.isSymbol(",") && (TokenType.WORD != next.type || next.isKeyword("COLLATE"))) {
+            return false;
+        }
+        Token previous = tokens.get(index - 1);
+        return TokenType.SYMBOL == previous.type && COMPARISON_OPERATORS.contains(previous.text) || previous.isKeyword("BETWEEN")
+                || index >= 3 && previous.isKeyword("AND") && getExtractableValue(tokens.get(index - 2)).isPresent() && tokens.get(index - 3).isKeyword("BETWEEN");
+    }
+    
+    private Optional<List<Token>> tokenize(final String sql) {
+        List<Token> result = new LinkedList<>();
+        int length = sql.length();
+        int index = 0;
+        while (index < length) {
+            char each = sql.charAt(index);
+            if (Character.isWhitespace(each)) {
+                index++;
+            } else if (sql.startsWith("--", index) || mySQLFamily && '#' == each) {
+                int lineEnd = sql.indexOf('\n', index);
+                index = lineEnd < 0 ? length : lineEnd + 1;
+            } else if (sql.startsWith("/*", index)) {
+                int commentEnd = sql.indexOf("*/", index + 2);
+                if (sql.startsWith("/*!", index) || commentEnd < 0) {
+                    return Optional.empty();
+                }
+                index = commentEnd + 2;
+            } else if ('?' == each || '$' == each || ';' == each) {
+                return Optional.empty();
+            } else if ('\'' == each || '"' == each || '`' == each || isWordPart(each)) {
+                index = '\'' == each || '"' == each || '`' == each ? scanQuoted(sql, index, index, result) : scanWord(sql, index, result);
+                if (index < 0) {
+                    return Optional.empty();
+                }
+            } else {
+                int symbolEnd = index + 2 <= length && TWO_CHAR_OPERATORS.contains(sql.substring(index, index + 2)) ? index + 2 : index + 1;
+                result.add(new Token(TokenType.SYMBOL, sql.substring(index, symbolEnd), index, symbolEnd));
+                index = symbolEnd;
+            }
+        }
+        return Optional.of(new ArrayList<>(result));
+    }
+    
+    private int scanQuoted(final String sql, final int startIndex, final int quoteStartIndex, final List<Token> tokens) {
+        int result = findQuoteEnd(sql, quoteStartIndex);
+        if (result >= 0) {
+            boolean isString = startIndex == quoteStartIndex && '\'' == sql.charAt(startIndex);
+            tokens.add(new Token(isString ? TokenType.STRING : TokenType.QUOTED, sql.substring(startIndex, result), startIndex, result));
+        }
+        return result;
+    }
+    
+    private int scanWord(final String sql, final int startIndex, final List<Token> tokens) {
+        int result = findWordEnd(sql, startIndex);
+        if (result < sql.length() && '\'' == sql.charAt(result)) {
+            return scanQuoted(sql, startIndex, result, tokens);
+        }
+        boolean startsWithDigit = Character.isDigit(sql.charAt(startIndex));
+        if (startsWithDigit && result + 1 < sql.length() && '.' == sql.charAt(result) && Character.isDigit(sql.charAt(result + 1))) {
+            result = findWordEnd(sql, result + 1);
+        }
+        String text = sql.substring(startIndex, result);
+        TokenType type = NUMBER_PATTERN.matcher(text).matches() ? TokenType.NUMBER : startsWithDigit ? TokenType.QUOTED : TokenType.WORD;
+        tokens.add(new Token(type, text, startIndex, result));
+        return result;
+    }
+    
+    private boolean isWordPart(final char ch) {
+        return Character.isLetterOrDigit(ch) || '_' == ch;
+    }
+    
+    private int findWordEnd(final String sql, final int startIndex) {
+        int result = startIndex;
+        while (result < sql.length() && isWordPart(sql.charAt(result))) {
+            result++;
+        }
+        return result;
+    }
+    
+    private int findQuoteEnd(final String sql, final int startIndex) {
+        char quote = sql.charAt(startIndex);
+        int index = startIndex + 1;
+        while (index < sql.length()) {
+            char each = sql.charAt(index);
+            if (mySQLFamily && '\\' == each && '`' != quote) {
+                index += 2;
+            } else if (quote == each) {
+                if (index + 1 < sql.length() && quote == sql.charAt(index + 1)) {
+                    index += 2;
+                } else {
+                    return index + 1;
+                }
+            } else {
+                index++;
+            }
+        }
+        return -1;
+    }
+    
+    private enum TokenType {
+        
+        WORD, NUMBER, STRING, QUOTED, SYMBOL
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Token {
+        
+        private final TokenType type;
+        
+        private final String text;
+        
+        private final int startIndex;
+        
+        private final int stopIndex;
+        
+        private boolean isSymbol(final String symbol) {
+            return TokenType.SYMBOL == type && symbol.equals(text);
+        }
+        
+        private boolean isKeyword(final String keyword) {
+            return TokenType.WORD == type && keyword.equalsIgnoreCase(text);
+        }
+        
+        private boolean isKeyword(final Collection<String> keywords) {
+            return TokenType.WORD == type && keywords.contains(text.toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.parser.sql.template;
+
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLTemplateNormalizerTest {
+    
+    private final SQLTemplateNormalizer normalizer = new SQLTemplateNormalizer(TypedSPILoader.getService(DatabaseType.class, "MySQL"));
+    
+    @Test
+    void assertNormalizeWithComparedLiterals() {
+        Optional<SQLTemplate> actual = normalizer.normalize("SELECT * FROM t_order WHERE user_id = 10 AND status <> 'it''s' AND order_id >= 9999999999");
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE user_id = ? AND status <> ? AND order_id >= ?"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(10, "it's", 9999999999L)));
+    }
+    
+    @Test
+    void assertNormalizeWithListedLiterals() {
+        Optional<SQLTemplate> actual = normalizer.normalize("SELECT * FROM t_order WHERE order_id IN (1, 2) AND user_id BETWEEN 10 AND 20 ORDER BY 1 LIMIT 5");
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id IN (?, ?) AND user_id BETWEEN ? AND ? ORDER BY 1 LIMIT 5"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, 10, 20)));
+    }
+    
+    @Test
+    void assertNormalizeWithInsertValues() {
+        Optional<SQLTemplate> actual = normalizer.normalize("INSERT INTO t_order (order_id, user_id, status) VALUES (1, 2, 'init'), (3, 4.5, NOW())");
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getSql(), is("INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?), (?, ?, NOW())"));
+        assertThat(actual.get().getParameters(), is(Arrays.<Object>asList(1, 2, "init", 3, new BigDecimal("4.5"))));
+    }
+    
+    @Test
+    void assertNormalizeWithNotExtractableLiterals() {
+        assertThat(normalizer.normalize("SELECT 1 FROM t_order WHERE a = -1 AND b = 1 + 2 AND c = 0x1F AND d = 'a\\'b' AND e = _utf8mb4'x' AND f = 1e3 GROUP BY 1").isPresent(), is(false));
+    }
+    
+    @Test
+    void assertNormalizeWithUnsupportedSQL() {
+        assertThat(normalizer.normalize("SELECT * FROM t_order WHERE order_id = ?").isPresent(), is(false));
+        assertThat(normalizer.normalize("UPDATE t_order SET status = 'a' WHERE order_id = 1; DELETE FROM t_order WHERE order_id = 2").isPresent(), is(false));
+        assertThat(normalizer.normalize("SET autocommit = 1").isPresent(), is(false));
+        assertThat(normalizer.normalize("SELECT /*!40001 SQL_NO_CACHE */ * FROM t_order WHERE order_id = 1").isPresent(), is(false));
+    }
+    
+    @Test
+    void assertNormalizeWithComments() {
+        Optional<SQLTemplate> actual = normalizer.normalize("SELECT /* order_id = 1 */ * FROM `t_order` WHERE order_id = 2 # order_id = 3");
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getSql(), is("SELECT /* order_id = 1 */ * FROM `t_order` WHERE order_id = ? # order_id = 3"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(2)));
+    }
+    
+    @Test
+    void assertNormalizeWithoutStringLiterals() {
+        DatabaseType databaseType = mock(DatabaseType.class);
+        when(databaseType.getType()).thenReturn("PostgreSQL");
+        Optional<SQLTemplate> actual = new SQLTemplateNormalizer(databaseType).normalize("SELECT * FROM t_order WHERE order_id = 1 AND status = 'init'");
+        assertThat(actual.isPresent(), is(true));
+        assertThat(actual.get().getSql(), is("SELECT * FROM t_order WHERE order_id = ? AND status = 'init'"));
+        assertThat(actual.get().getParameters(), is(Collections.<Object>singletonList(1)));
+    }
+}
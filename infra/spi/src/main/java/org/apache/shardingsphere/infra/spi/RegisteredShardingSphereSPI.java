@@ -64,7 +64,7 @@ class RegisteredShardingSphereSPI<T> {
     private Collection<T> createNewServiceInstances() {
         Collection<T> result = new LinkedList<>();
         for (Object each : services) {
-            result.add((T) each.getClass().getDeclaredConstructor().newInstance());
+            result.add(each.getClass().isAnnotationPresent(SingletonSPI.class) ? (T) each : (T) each.getClass().getDeclaredConstructor().newInstance());
         }
         return result;
     }
@@ -24,6 +24,8 @@ import java.lang.annotation.Target;
 
 /**
  * Annotation of singleton SPI.
+ * 
+ * <p>All implementations are singletons if SPI interface is annotated, otherwise only annotated implementations are singletons.</p>
  */
 @Target(ElementType.TYPE)
 @Retention(RetentionPolicy.RUNTIME)
@@ -19,7 +19,9 @@ package org.apache.shardingsphere.infra.spi;
 
 import org.apache.shardingsphere.infra.spi.fixture.multiton.MultitonSPIFixture;
 import org.apache.shardingsphere.infra.spi.fixture.multiton.impl.MultitonSPIFixtureImpl;
+import org.apache.shardingsphere.infra.spi.fixture.singleton.SingletonImplementationSPIFixture;
 import org.apache.shardingsphere.infra.spi.fixture.singleton.SingletonSPIFixture;
+import org.apache.shardingsphere.infra.spi.fixture.singleton.impl.SingletonImplementationSPIFixtureImpl;
 import org.apache.shardingsphere.infra.spi.fixture.singleton.impl.SingletonSPIFixtureImpl;
 import org.apache.shardingsphere.infra.spi.fixture.empty.EmptySPIFixture;
 import org.junit.jupiter.api.Test;
@@ -59,6 +61,15 @@ class ShardingSphereServiceLoaderTest {
         assertThat(actualInstance, is(ShardingSphereServiceLoader.getServiceInstances(SingletonSPIFixture.class).iterator().next()));
     }
     
+    @Test
+    void assertGetServiceInstancesWithSingletonSPIImplementation() {
+        Collection<SingletonImplementationSPIFixture> actual = ShardingSphereServiceLoader.getServiceInstances(SingletonImplementationSPIFixture.class);
+        assertThat(actual.size(), is(1));
+        SingletonImplementationSPIFixture actualInstance = actual.iterator().next();
+        assertThat(actualInstance, instanceOf(SingletonImplementationSPIFixtureImpl.class));
+        assertThat(actualInstance, is(ShardingSphereServiceLoader.getServiceInstances(SingletonImplementationSPIFixture.class).iterator().next()));
+    }
+    
     @Test
     void assertGetServiceInstancesWithMultitonSPI() {
         Collection<MultitonSPIFixture> actual = ShardingSphereServiceLoader.getServiceInstances(MultitonSPIFixture.class);
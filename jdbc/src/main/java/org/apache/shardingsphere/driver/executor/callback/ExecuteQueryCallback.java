@@ -36,8 +36,8 @@ import java.util.Optional;
  */
 public abstract class ExecuteQueryCallback extends JDBCExecutorCallback<QueryResult> {
     
-    protected ExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    protected ExecuteQueryCallback(final DatabaseType protocolType, final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        super(protocolType, databaseName, resourceMetaData, sqlStatement, isExceptionThrown);
     }
     
     @Override
@@ -31,8 +31,8 @@ import java.sql.Statement;
  */
 public final class StatementExecuteQueryCallback extends ExecuteQueryCallback {
     
-    public StatementExecuteQueryCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-        super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+    public StatementExecuteQueryCallback(final DatabaseType protocolType, final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+        super(protocolType, databaseName, resourceMetaData, sqlStatement, isExceptionThrown);
     }
     
     @Override
@@ -90,6 +90,8 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     
     protected abstract StatementManager getStatementManager();
     
+    protected abstract void closeCurrentResultSet() throws SQLException;
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public final void setPoolable(final boolean poolable) throws SQLException {
@@ -220,6 +222,7 @@ public abstract class AbstractStatementAdapter extends AbstractUnsupportedOperat
     public final void close() throws SQLException {
         closed = true;
         try {
+            closeCurrentResultSet();
             forceExecuteTemplate.execute((Collection) getRoutedStatements(), Statement::close);
             if (null != getExecutor()) {
                 getExecutor().close();
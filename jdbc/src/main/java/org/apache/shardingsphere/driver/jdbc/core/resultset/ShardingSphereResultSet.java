@@ -88,6 +88,11 @@ public final class ShardingSphereResultSet extends AbstractResultSetAdapter {
         return mergeResultSet.wasNull();
     }
     
+    @Override
+    protected void closeMergedResult() throws SQLException {
+        mergeResultSet.close();
+    }
+    
     @Override
     public boolean getBoolean(final int columnIndex) throws SQLException {
         return (boolean) ResultSetUtils.convertValue(mergeResultSet.getValue(columnIndex, boolean.class), boolean.class);
@@ -62,6 +62,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.result.ExecuteResult
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.impl.driver.jdbc.type.stream.JDBCStreamQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.update.UpdateResult;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlanner;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlannerRuleAttribute;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
@@ -168,6 +170,8 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private ResultSet currentBatchGeneratedKeysResultSet;
     
+    private BatchPlanner batchPlanner;
+    
     public ShardingSpherePreparedStatement(final ShardingSphereConnection connection, final String sql) throws SQLException {
         this(connection, sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY, ResultSet.HOLD_CURSORS_OVER_COMMIT, false, null);
     }
@@ -319,13 +323,13 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = createExecutionGroupContext(executionContext);
         cacheStatements(executionGroupContext.getInputGroups());
         return executor.getRegularExecutor().executeQuery(executionGroupContext, executionContext.getQueryContext(),
-                new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
+                new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(), databaseName,
                         metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), sqlStatement,
                         SQLExecutorExceptionHandler.isExceptionThrown()));
     }
     
     private ResultSet executeFederationQuery(final QueryContext queryContext) {
-        PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
+        PreparedStatementExecuteQueryCallback callback = new PreparedStatementExecuteQueryCallback(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(), databaseName,
                 metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), sqlStatement, SQLExecutorExceptionHandler.isExceptionThrown());
         SQLFederationContext context = new SQLFederationContext(false, queryContext, metaDataContexts.getMetaData(), connection.getProcessId());
         return executor.getSqlFederationEngine().executeQuery(createDriverExecutionPrepareEngine(), callback, context);
@@ -333,8 +337,9 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> createDriverExecutionPrepareEngine() {
         int maxConnectionsSizePerQuery = metaDataContexts.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY);
-        return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, connection.getDatabaseConnectionManager(), statementManager,
-                statementOption, metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(),
+        boolean adaptiveConnectionModeEnabled = metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.ADAPTIVE_CONNECTION_MODE_ENABLED);
+        return new DriverExecutionPrepareEngine<>(JDBCDriverType.PREPARED_STATEMENT, maxConnectionsSizePerQuery, adaptiveConnectionModeEnabled,
+                connection.getDatabaseConnectionManager(), statementManager, statementOption, metaDataContexts.getMetaData().getDatabase(databaseName).getRuleMetaData().getRules(),
                 metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData().getStorageUnits());
     }
     
@@ -387,7 +392,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private JDBCExecutorCallback<Integer> createExecuteUpdateCallback() {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
-        return new JDBCExecutorCallback<Integer>(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
+        return new JDBCExecutorCallback<Integer>(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(), databaseName,
                 metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), sqlStatement, isExceptionThrown) {
             
             @Override
@@ -505,7 +510,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     
     private JDBCExecutorCallback<Boolean> createExecuteCallback() {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
-        return new JDBCExecutorCallback<Boolean>(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(),
+        return new JDBCExecutorCallback<Boolean>(metaDataContexts.getMetaData().getDatabase(databaseName).getProtocolType(), databaseName,
                 metaDataContexts.getMetaData().getDatabase(databaseName).getResourceMetaData(), sqlStatement, isExceptionThrown) {
             
             @Override
@@ -663,9 +668,17 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     @Override
     public void addBatch() {
         try {
+            Optional<ExecutionUnit> plannedExecutionUnit = null == batchPlanner ? Optional.empty() : batchPlanner.plan(new ArrayList<>(getParameters()));
+            if (plannedExecutionUnit.isPresent()) {
+                batchPreparedStatementExecutor.addBatchForExecutionUnits(Collections.singletonList(plannedExecutionUnit.get()));
+                return;
+            }
             QueryContext queryContext = createQueryContext();
             trafficInstanceId = getInstanceIdAndSet(queryContext).orElse(null);
             executionContext = null == trafficInstanceId ? createExecutionContext(queryContext) : createExecutionContext(queryContext, trafficInstanceId);
+            if (null == trafficInstanceId) {
+                keepBatchTemplate(queryContext.getParameters());
+            }
             batchPreparedStatementExecutor.addBatchForExecutionUnits(executionContext.getExecutionUnits());
         } finally {
             currentResultSet = null;
@@ -673,6 +686,21 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
         }
     }
     
+    private void keepBatchTemplate(final List<Object> params) {
+        if (null == batchPlanner && trafficRule.getStrategyRules().isEmpty()) {
+            batchPlanner = findBatchPlanner(metaDataContexts.getMetaData().getDatabase(databaseName)).orElse(null);
+        }
+        if (null != batchPlanner) {
+            batchPlanner.keepTemplate(params, executionContext);
+        }
+    }
+    
+    private Optional<BatchPlanner> findBatchPlanner(final ShardingSphereDatabase database) {
+        return database.getRuleMetaData().getAttributes(BatchPlannerRuleAttribute.class).stream()
+                .map(each -> each.findBatchPlanner(database, sqlStatementContext, hintValueContext, metaDataContexts.getMetaData().getProps()))
+                .filter(Optional::isPresent).map(Optional::get).findFirst();
+    }
+    
     @Override
     public int[] executeBatch() throws SQLException {
         if (null == executionContext) {
@@ -733,6 +761,7 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public void clearBatch() {
         currentResultSet = null;
         batchPreparedStatementExecutor.clear();
+        batchPlanner = null;
         clearParameters();
     }
     
@@ -767,4 +796,12 @@ public final class ShardingSpherePreparedStatement extends AbstractPreparedState
     public Collection<PreparedStatement> getRoutedStatements() {
         return statements;
     }
+    
+    @Override
+    protected void closeCurrentResultSet() throws SQLException {
+        if (null != currentResultSet) {
+            currentResultSet.close();
+            currentResultSet = null;
+        }
+    }
 }
@@ -67,6 +67,15 @@ class StatementAdapterTest {
         verify(statement).close();
     }
     
+    @Test
+    void assertCloseWithCurrentResultSet() throws SQLException, ReflectiveOperationException {
+        ShardingSphereStatement actual = mockShardingSphereStatement(mock(Statement.class));
+        ResultSet resultSet = mock(ResultSet.class);
+        Plugins.getMemberAccessor().set(ShardingSphereStatement.class.getDeclaredField("currentResultSet"), actual, resultSet);
+        actual.close();
+        verify(resultSet).close();
+    }
+    
     @Test
     void assertSetPoolable() throws SQLException {
         Statement statement = mock(Statement.class);
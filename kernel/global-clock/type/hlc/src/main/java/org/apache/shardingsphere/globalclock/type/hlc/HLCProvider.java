@@ -23,4 +23,13 @@ import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
  * Hybrid logical clock provider.
  */
 public interface HLCProvider extends GlobalClockProvider {
+    
+    /**
+     * Update clock with timestamp received from other compute node.
+     * 
+     * <p>Timestamp whose physical part is too far ahead of local physical time may be rejected.</p>
+     * 
+     * @param timestamp received timestamp
+     */
+    void update(long timestamp);
 }
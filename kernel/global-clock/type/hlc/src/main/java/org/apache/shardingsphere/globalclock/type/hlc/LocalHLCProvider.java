@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local hybrid logical clock provider.
+ * 
+ * <p>Timestamp keeps physical milliseconds in high bits and logical counter in low {@value #LOGICAL_BITS} bits, both are advanced by CAS on one atomic long without any coordination.
+ * Logical counter overflows into physical part, which only makes clock run slightly ahead and never breaks monotonicity.</p>
+ * 
+ * <p>Timestamp received from other compute node is rejected if its physical part is ahead of local physical time more than {@code max-offset-milliseconds},
+ * to prevent one node with skewed clock pushing clock of whole cluster forward.</p>
+ */
+@Slf4j
+public final class LocalHLCProvider implements HLCProvider {
+    
+    private static final int LOGICAL_BITS = 16;
+    
+    private static final String MAX_OFFSET_MILLISECONDS_KEY = "max-offset-milliseconds";
+    
+    private static final long DEFAULT_MAX_OFFSET_MILLISECONDS = 500L;
+    
+    private final AtomicLong clock = new AtomicLong();
+    
+    private long maxOffsetMilliseconds = DEFAULT_MAX_OFFSET_MILLISECONDS;
+    
+    @Override
+    public void init(final Properties props) {
+        maxOffsetMilliseconds = Long.parseLong(props.getProperty(MAX_OFFSET_MILLISECONDS_KEY, String.valueOf(DEFAULT_MAX_OFFSET_MILLISECONDS)));
+    }
+    
+    @Override
+    public long getCurrentTimestamp() {
+        return clock.accumulateAndGet(getPhysicalTimestamp(), Math::max);
+    }
+    
+    @Override
+    public long getNextTimestamp() {
+        return clock.accumulateAndGet(getPhysicalTimestamp(), (current, physical) -> Math.max(current + 1L, physical));
+    }
+    
+    @Override
+    public void update(final long timestamp) {
+        long offsetMilliseconds = (timestamp >> LOGICAL_BITS) - System.currentTimeMillis();
+        if (offsetMilliseconds > maxOffsetMilliseconds) {
+            log.warn("Reject timestamp `{}` from other compute node, its physical time is ahead of local physical time by {} milliseconds, which exceeds max offset {} milliseconds.",
+                    timestamp, offsetMilliseconds, maxOffsetMilliseconds);
+            return;
+        }
+        clock.accumulateAndGet(timestamp, Math::max);
+    }
+    
+    private long getPhysicalTimestamp() {
+        return System.currentTimeMillis() << LOGICAL_BITS;
+    }
+    
+    @Override
+    public String getType() {
+        return "HLC.local";
+    }
+}
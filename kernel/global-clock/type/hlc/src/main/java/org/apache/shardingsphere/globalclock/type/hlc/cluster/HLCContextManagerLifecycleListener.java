@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.cluster;
+
+import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.manager.listener.ContextManagerLifecycleListener;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Hybrid logical clock context manager lifecycle listener.
+ */
+public final class HLCContextManagerLifecycleListener implements ContextManagerLifecycleListener {
+    
+    private static final Map<String, HLCGlobalClockRuleChangedSubscriber> SUBSCRIBERS = new ConcurrentHashMap<>();
+    
+    @Override
+    public void onInitialized(final String databaseName, final ContextManager contextManager) {
+        if (contextManager.getInstanceContext().isCluster()) {
+            SUBSCRIBERS.computeIfAbsent(getKey(databaseName), key -> new HLCGlobalClockRuleChangedSubscriber(contextManager));
+        }
+    }
+    
+    @Override
+    public void onDestroyed(final String databaseName, final InstanceType instanceType) {
+        HLCGlobalClockRuleChangedSubscriber subscriber = SUBSCRIBERS.remove(getKey(databaseName));
+        if (null != subscriber) {
+            subscriber.close();
+        }
+    }
+    
+    private String getKey(final String databaseName) {
+        return Objects.toString(databaseName, "");
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.cluster;
+
+import com.google.common.eventbus.Subscribe;
+import org.apache.shardingsphere.globalclock.api.config.GlobalClockRuleConfiguration;
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+import org.apache.shardingsphere.globalclock.core.rule.GlobalClockRule;
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.mode.event.config.global.AlterGlobalRuleConfigurationEvent;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.Optional;
+
+/**
+ * Hybrid logical clock global clock rule changed subscriber.
+ * 
+ * <p>Timestamp synchronizer is started when global clock rule is enabled with hybrid logical clock provider, and is stopped when it is not any more.</p>
+ */
+public final class HLCGlobalClockRuleChangedSubscriber implements AutoCloseable {
+    
+    private final ContextManager contextManager;
+    
+    private HLCProvider provider;
+    
+    private HLCTimestampSynchronizer synchronizer;
+    
+    private boolean closed;
+    
+    public HLCGlobalClockRuleChangedSubscriber(final ContextManager contextManager) {
+        this.contextManager = contextManager;
+        contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(GlobalClockRule.class).ifPresent(optional -> refresh(optional.getConfiguration()));
+        contextManager.getInstanceContext().getEventBusContext().register(this);
+    }
+    
+    /**
+     * Renew for global rule configuration.
+     *
+     * @param event global rule alter event
+     */
+    @Subscribe
+    public synchronized void renew(final AlterGlobalRuleConfigurationEvent event) {
+        RuleConfiguration ruleConfig = contextManager.getMetaDataContexts().getPersistService().getGlobalRuleService().load(event.getRuleSimpleName());
+        if (ruleConfig instanceof GlobalClockRuleConfiguration) {
+            refresh((GlobalClockRuleConfiguration) ruleConfig);
+        }
+    }
+    
+    private synchronized void refresh(final GlobalClockRuleConfiguration ruleConfig) {
+        if (closed) {
+            return;
+        }
+        HLCProvider newProvider = findHLCProvider(ruleConfig).orElse(null);
+        if (newProvider == provider) {
+            return;
+        }
+        stopSynchronizer();
+        if (null != newProvider) {
+            startSynchronizer(newProvider);
+        }
+    }
+    
+    private Optional<HLCProvider> findHLCProvider(final GlobalClockRuleConfiguration ruleConfig) {
+        if (!ruleConfig.isEnabled()) {
+            return Optional.empty();
+        }
+        GlobalClockProvider result = TypedSPILoader.getService(GlobalClockProvider.class, String.join(".", ruleConfig.getType(), ruleConfig.getProvider()), ruleConfig.getProps());
+        return result instanceof HLCProvider ? Optional.of((HLCProvider) result) : Optional.empty();
+    }
+    
+    private void startSynchronizer(final HLCProvider provider) {
+        ClusterPersistRepository repository = (ClusterPersistRepository) contextManager.getMetaDataContexts().getPersistService().getRepository();
+        synchronizer = new HLCTimestampSynchronizer(repository, provider, contextManager.getInstanceContext().getInstance().getMetaData().getId());
+        synchronizer.start();
+        this.provider = provider;
+    }
+    
+    private void stopSynchronizer() {
+        if (null != synchronizer) {
+            synchronizer.close();
+            synchronizer = null;
+        }
+        provider = null;
+    }
+    
+    @Override
+    public synchronized void close() {
+        closed = true;
+        stopSynchronizer();
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.cluster;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Hybrid logical clock node.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class HLCNode {
+    
+    private static final String ROOT_NODE = "global_clock";
+    
+    private static final String HLC_NODE = "hlc";
+    
+    /**
+     * Get hybrid logical clock root path.
+     *
+     * @return hybrid logical clock root path
+     */
+    public static String getRootPath() {
+        return String.join("/", "", ROOT_NODE, HLC_NODE);
+    }
+    
+    /**
+     * Get hybrid logical clock instance path.
+     *
+     * @param instanceId instance ID
+     * @return hybrid logical clock instance path
+     */
+    public static String getInstancePath(final String instanceId) {
+        return String.join("/", getRootPath(), instanceId);
+    }
+}
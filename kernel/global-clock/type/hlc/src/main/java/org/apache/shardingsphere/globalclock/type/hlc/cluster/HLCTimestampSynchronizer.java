@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hybrid logical clock timestamp synchronizer.
+ * 
+ * <p>Each compute node publishes its clock to cluster repository periodically, and merges clocks published by other compute nodes when they changed.
+ * Timestamp generation never waits for synchronization, so snapshot of one compute node may miss commits of other compute nodes within clock offset and publish interval.
+ * Published timestamp is ephemeral, it is published again as ephemeral once it has been removed, such as by session expiry of cluster repository.</p>
+ */
+@Slf4j
+public final class HLCTimestampSynchronizer implements AutoCloseable {
+    
+    private static final long PUBLISH_INTERVAL_MILLISECONDS = 1000L;
+    
+    private final ClusterPersistRepository repository;
+    
+    private final HLCProvider provider;
+    
+    private final String instancePath;
+    
+    private final ScheduledExecutorService executor;
+    
+    private volatile boolean published;
+    
+    public HLCTimestampSynchronizer(final ClusterPersistRepository repository, final HLCProvider provider, final String instanceId) {
+        this.repository = repository;
+        this.provider = provider;
+        instancePath = HLCNode.getInstancePath(instanceId);
+        executor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("GlobalClock-HLC-%d"));
+    }
+    
+    /**
+     * Start synchronizing.
+     */
+    public void start() {
+        repository.watch(HLCNode.getRootPath(), this::merge);
+        executor.scheduleWithFixedDelay(this::publish, 0L, PUBLISH_INTERVAL_MILLISECONDS, TimeUnit.MILLISECONDS);
+    }
+    
+    /**
+     * Publish current timestamp.
+     */
+    public void publish() {
+        try {
+            String timestamp = String.valueOf(provider.getCurrentTimestamp());
+            if (published) {
+                repository.persist(instancePath, timestamp);
+            } else {
+                repository.persistEphemeral(instancePath, timestamp);
+                published = true;
+            }
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Publish hybrid logical clock timestamp failed.", ex);
+        }
+    }
+    
+    /**
+     * Merge timestamp published by other compute node.
+     * 
+     * @param event data changed event
+     */
+    public void merge(final DataChangedEvent event) {
+        if (executor.isShutdown()) {
+            return;
+        }
+        if (Type.DELETED == event.getType() && instancePath.equals(event.getKey())) {
+            published = false;
+            return;
+        }
+        if (!isRemoteTimestampChanged(event)) {
+            return;
+        }
+        try {
+            provider.update(Long.parseLong(event.getValue()));
+        } catch (final NumberFormatException ignored) {
+        }
+    }
+    
+    private boolean isRemoteTimestampChanged(final DataChangedEvent event) {
+        if (Type.ADDED != event.getType() && Type.UPDATED != event.getType()) {
+            return false;
+        }
+        return event.getKey().startsWith(HLCNode.getRootPath() + "/") && !instancePath.equals(event.getKey());
+    }
+    
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        try {
+            repository.delete(instancePath);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            log.warn("Delete hybrid logical clock timestamp failed.", ex);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc;
+
+import org.apache.shardingsphere.globalclock.core.provider.GlobalClockProvider;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+class LocalHLCProviderTest {
+    
+    @Test
+    void assertGetService() {
+        assertThat(TypedSPILoader.getService(GlobalClockProvider.class, "HLC.local"), instanceOf(LocalHLCProvider.class));
+    }
+    
+    @Test
+    void assertGetCurrentTimestampFollowsPhysicalClock() {
+        long physicalTimestamp = System.currentTimeMillis() << 16;
+        assertThat(new LocalHLCProvider().getCurrentTimestamp(), greaterThanOrEqualTo(physicalTimestamp));
+    }
+    
+    @Test
+    void assertGetNextTimestampIncreases() {
+        LocalHLCProvider provider = new LocalHLCProvider();
+        long currentTimestamp = provider.getCurrentTimestamp();
+        long nextTimestamp = provider.getNextTimestamp();
+        assertThat(nextTimestamp, greaterThan(currentTimestamp));
+        assertThat(provider.getCurrentTimestamp(), greaterThanOrEqualTo(nextTimestamp));
+        assertThat(provider.getNextTimestamp(), greaterThan(nextTimestamp));
+    }
+    
+    @Test
+    void assertUpdateWithLargerTimestamp() {
+        LocalHLCProvider provider = new LocalHLCProvider();
+        provider.init(PropertiesBuilder.build(new Property("max-offset-milliseconds", "60000")));
+        long remoteTimestamp = provider.getCurrentTimestamp() + (30000L << 16);
+        provider.update(remoteTimestamp);
+        assertThat(provider.getCurrentTimestamp(), is(remoteTimestamp));
+        assertThat(provider.getNextTimestamp(), is(remoteTimestamp + 1L));
+    }
+    
+    @Test
+    void assertUpdateWithTimestampExceedingMaxOffset() {
+        LocalHLCProvider provider = new LocalHLCProvider();
+        provider.init(PropertiesBuilder.build(new Property("max-offset-milliseconds", "1000")));
+        long remoteTimestamp = provider.getCurrentTimestamp() + (60000L << 16);
+        provider.update(remoteTimestamp);
+        assertThat(provider.getCurrentTimestamp(), lessThan(remoteTimestamp));
+    }
+    
+    @Test
+    void assertUpdateWithSmallerTimestamp() {
+        LocalHLCProvider provider = new LocalHLCProvider();
+        long nextTimestamp = provider.getNextTimestamp();
+        provider.update(1L);
+        assertThat(provider.getCurrentTimestamp(), greaterThanOrEqualTo(nextTimestamp));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.cluster;
+
+import org.apache.shardingsphere.globalclock.api.config.GlobalClockRuleConfiguration;
+import org.apache.shardingsphere.globalclock.core.rule.GlobalClockRule;
+import org.apache.shardingsphere.infra.instance.metadata.InstanceType;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HLCContextManagerLifecycleListenerTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    private final HLCContextManagerLifecycleListener listener = new HLCContextManagerLifecycleListener();
+    
+    @Test
+    void assertOnInitializedWithoutClusterMode() {
+        listener.onInitialized("foo_db", contextManager);
+        verify(contextManager, never()).getMetaDataContexts();
+        listener.onDestroyed("foo_db", InstanceType.PROXY);
+    }
+    
+    @Test
+    void assertOnInitializedAndOnDestroyed() {
+        when(contextManager.getInstanceContext().isCluster()).thenReturn(true);
+        when(contextManager.getMetaDataContexts().getPersistService().getRepository()).thenReturn(repository);
+        when(contextManager.getInstanceContext().getInstance().getMetaData().getId()).thenReturn("foo_instance");
+        GlobalClockRule rule = mock(GlobalClockRule.class);
+        when(rule.getConfiguration()).thenReturn(new GlobalClockRuleConfiguration("HLC", "local", true, new Properties()));
+        when(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(GlobalClockRule.class)).thenReturn(Optional.of(rule));
+        listener.onInitialized("bar_db", contextManager);
+        listener.onInitialized("bar_db", contextManager);
+        verify(repository, times(1)).watch(eq("/global_clock/hlc"), any());
+        listener.onDestroyed("bar_db", InstanceType.PROXY);
+        verify(repository).delete("/global_clock/hlc/foo_instance");
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.cluster;
+
+import org.apache.shardingsphere.globalclock.api.config.GlobalClockRuleConfiguration;
+import org.apache.shardingsphere.globalclock.core.rule.GlobalClockRule;
+import org.apache.shardingsphere.mode.event.config.global.AlterGlobalRuleConfigurationEvent;
+import org.apache.shardingsphere.mode.manager.ContextManager;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HLCGlobalClockRuleChangedSubscriberTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ContextManager contextManager;
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @Test
+    void assertStartWithEnabledRule() {
+        mockRepository();
+        mockGlobalClockRule(true);
+        try (HLCGlobalClockRuleChangedSubscriber subscriber = new HLCGlobalClockRuleChangedSubscriber(contextManager)) {
+            verify(contextManager.getInstanceContext().getEventBusContext()).register(subscriber);
+            verify(repository).watch(eq("/global_clock/hlc"), any());
+        }
+        verify(repository).delete("/global_clock/hlc/foo_instance");
+    }
+    
+    @Test
+    void assertStopWhenRuleDisabled() {
+        mockRepository();
+        mockGlobalClockRule(true);
+        when(contextManager.getMetaDataContexts().getPersistService().getGlobalRuleService().load("global_clock")).thenReturn(createRuleConfiguration(false));
+        try (HLCGlobalClockRuleChangedSubscriber subscriber = new HLCGlobalClockRuleChangedSubscriber(contextManager)) {
+            subscriber.renew(new AlterGlobalRuleConfigurationEvent("global_clock", "", ""));
+            verify(repository).delete("/global_clock/hlc/foo_instance");
+        }
+        verify(repository).delete("/global_clock/hlc/foo_instance");
+    }
+    
+    @Test
+    void assertStartWhenRuleEnabled() {
+        mockRepository();
+        mockGlobalClockRule(false);
+        when(contextManager.getMetaDataContexts().getPersistService().getGlobalRuleService().load("global_clock")).thenReturn(createRuleConfiguration(true));
+        try (HLCGlobalClockRuleChangedSubscriber subscriber = new HLCGlobalClockRuleChangedSubscriber(contextManager)) {
+            verify(repository, never()).watch(any(), any());
+            subscriber.renew(new AlterGlobalRuleConfigurationEvent("global_clock", "", ""));
+            subscriber.renew(new AlterGlobalRuleConfigurationEvent("global_clock", "", ""));
+            verify(repository, times(1)).watch(eq("/global_clock/hlc"), any());
+        }
+    }
+    
+    @Test
+    void assertRenewWithOtherRule() {
+        mockGlobalClockRule(false);
+        try (HLCGlobalClockRuleChangedSubscriber subscriber = new HLCGlobalClockRuleChangedSubscriber(contextManager)) {
+            subscriber.renew(new AlterGlobalRuleConfigurationEvent("transaction", "", ""));
+            verify(repository, never()).watch(any(), any());
+        }
+    }
+    
+    private void mockRepository() {
+        when(contextManager.getMetaDataContexts().getPersistService().getRepository()).thenReturn(repository);
+        when(contextManager.getInstanceContext().getInstance().getMetaData().getId()).thenReturn("foo_instance");
+    }
+    
+    private void mockGlobalClockRule(final boolean enabled) {
+        GlobalClockRule rule = mock(GlobalClockRule.class);
+        GlobalClockRuleConfiguration ruleConfig = createRuleConfiguration(enabled);
+        when(rule.getConfiguration()).thenReturn(ruleConfig);
+        when(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData().findSingleRule(GlobalClockRule.class)).thenReturn(Optional.of(rule));
+    }
+    
+    private GlobalClockRuleConfiguration createRuleConfiguration(final boolean enabled) {
+        return new GlobalClockRuleConfiguration("HLC", "local", enabled, new Properties());
+    }
+}
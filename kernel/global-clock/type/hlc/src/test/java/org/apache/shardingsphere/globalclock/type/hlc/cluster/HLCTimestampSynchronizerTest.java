@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.hlc.cluster;
+
+import org.apache.shardingsphere.globalclock.type.hlc.HLCProvider;
+import org.apache.shardingsphere.mode.event.DataChangedEvent;
+import org.apache.shardingsphere.mode.event.DataChangedEvent.Type;
+import org.apache.shardingsphere.mode.repository.cluster.ClusterPersistRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HLCTimestampSynchronizerTest {
+    
+    @Mock
+    private ClusterPersistRepository repository;
+    
+    @Mock
+    private HLCProvider provider;
+    
+    private HLCTimestampSynchronizer synchronizer;
+    
+    @BeforeEach
+    void setUp() {
+        synchronizer = new HLCTimestampSynchronizer(repository, provider, "foo_instance");
+    }
+    
+    @Test
+    void assertPublish() {
+        when(provider.getCurrentTimestamp()).thenReturn(10L, 20L);
+        synchronizer.publish();
+        synchronizer.publish();
+        verify(repository).persistEphemeral("/global_clock/hlc/foo_instance", "10");
+        verify(repository).persist("/global_clock/hlc/foo_instance", "20");
+    }
+    
+    @Test
+    void assertPublishAfterTimestampRemoved() {
+        when(provider.getCurrentTimestamp()).thenReturn(10L, 20L);
+        synchronizer.publish();
+        synchronizer.merge(new DataChangedEvent("/global_clock/hlc/foo_instance", "", Type.DELETED));
+        synchronizer.publish();
+        verify(repository).persistEphemeral("/global_clock/hlc/foo_instance", "10");
+        verify(repository).persistEphemeral("/global_clock/hlc/foo_instance", "20");
+        verify(repository, never()).persist(anyString(), anyString());
+    }
+    
+    @Test
+    void assertMergeRemoteTimestamp() {
+        synchronizer.merge(new DataChangedEvent("/global_clock/hlc/bar_instance", "100", Type.UPDATED));
+        verify(provider).update(100L);
+    }
+    
+    @Test
+    void assertMergeIgnoresLocalTimestamp() {
+        synchronizer.merge(new DataChangedEvent("/global_clock/hlc/foo_instance", "100", Type.UPDATED));
+        verify(provider, never()).update(anyLong());
+    }
+    
+    @Test
+    void assertMergeIgnoresDeletedTimestamp() {
+        synchronizer.merge(new DataChangedEvent("/global_clock/hlc/bar_instance", "100", Type.DELETED));
+        verify(provider, never()).update(anyLong());
+    }
+    
+    @Test
+    void assertMergeIgnoresInvalidTimestamp() {
+        synchronizer.merge(new DataChangedEvent("/global_clock/hlc/bar_instance", "", Type.ADDED));
+        verify(provider, never()).update(anyLong());
+    }
+    
+    @Test
+    void assertMergeAfterClosed() {
+        synchronizer.close();
+        synchronizer.merge(new DataChangedEvent("/global_clock/hlc/bar_instance", "100", Type.UPDATED));
+        verify(provider, never()).update(anyLong());
+    }
+    
+    @Test
+    void assertClose() {
+        synchronizer.close();
+        verify(repository).delete("/global_clock/hlc/foo_instance");
+    }
+}
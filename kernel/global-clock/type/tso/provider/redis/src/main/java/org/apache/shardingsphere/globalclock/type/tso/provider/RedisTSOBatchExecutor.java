@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * Redis timestamp oracle batch executor.
+ * 
+ * <p>Timestamp requests are queued and served by one dispatcher thread in the style of group commit.
+ * Requests queued while previous batch is in flight are served together by one INCRBY, which reserves a window of next timestamps for the batch.
+ * Next timestamps are handed out from the window in queued order, and current timestamps take the end of the window,
+ * which equals to serving all concurrent next timestamp requests before all concurrent current timestamp requests.</p>
+ * 
+ * <p>Batch executor lives as long as the singleton provider which owns it, and the dispatcher runs on daemon thread, so it does not need to be closed.</p>
+ */
+public final class RedisTSOBatchExecutor {
+    
+    private final JedisPool jedisPool;
+    
+    private final String csnKey;
+    
+    private final int maxBatchSize;
+    
+    private final long timeoutMilliseconds;
+    
+    private final BlockingQueue<RedisTSORequest> requests = new LinkedBlockingQueue<>();
+    
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("GlobalClock-RedisTSO-%d"));
+    
+    public RedisTSOBatchExecutor(final JedisPool jedisPool, final String csnKey, final int maxBatchSize, final long timeoutMilliseconds) {
+        this.jedisPool = jedisPool;
+        this.csnKey = csnKey;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMilliseconds = timeoutMilliseconds;
+        executor.execute(this::dispatch);
+    }
+    
+    /**
+     * Get current timestamp.
+     * 
+     * @return current timestamp
+     */
+    public long getCurrentTimestamp() {
+        return await(new RedisTSORequest(false));
+    }
+    
+    /**
+     * Get next timestamp.
+     * 
+     * @return next timestamp
+     */
+    public long getNextTimestamp() {
+        return await(new RedisTSORequest(true));
+    }
+    
+    @SneakyThrows({InterruptedException.class, TimeoutException.class})
+    private long await(final RedisTSORequest request) {
+        requests.add(request);
+        try {
+            return request.getFuture().get(timeoutMilliseconds, TimeUnit.MILLISECONDS);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            if (ex.getCause() instanceof Error) {
+                throw (Error) ex.getCause();
+            }
+            throw new JedisException(ex.getCause());
+        } catch (final InterruptedException | TimeoutException ex) {
+            requests.remove(request);
+            request.getFuture().cancel(false);
+            throw ex;
+        }
+    }
+    
+    private void dispatch() {
+        while (!Thread.currentThread().isInterrupted()) {
+            List<RedisTSORequest> batch = new ArrayList<>();
+            try {
+                batch.add(requests.take());
+            } catch (final InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            requests.drainTo(batch, maxBatchSize - 1);
+            executeBatch(batch);
+        }
+    }
+    
+    /**
+     * Execute batch of timestamp requests.
+     * 
+     * <p>Requests which are already done, such as cancelled by timeout of caller, are skipped and do not reserve timestamps.</p>
+     * 
+     * @param batch batch of timestamp requests
+     */
+    void executeBatch(final Collection<RedisTSORequest> batch) {
+        List<RedisTSORequest> pendingRequests = batch.stream().filter(each -> !each.getFuture().isDone()).collect(Collectors.toList());
+        if (!pendingRequests.isEmpty()) {
+            executePendingRequests(pendingRequests);
+        }
+    }
+    
+    // Any failure completes the pending requests exceptionally, so the dispatcher thread survives.
+    private void executePendingRequests(final List<RedisTSORequest> pendingRequests) {
+        try (Jedis jedis = jedisPool.getResource()) {
+            int nextCount = (int) pendingRequests.stream().filter(RedisTSORequest::isNext).count();
+            long currentTimestamp = jedis.incrBy(csnKey, nextCount);
+            long nextTimestamp = currentTimestamp - nextCount + 1L;
+            for (RedisTSORequest each : pendingRequests) {
+                each.getFuture().complete(each.isNext() ? nextTimestamp++ : currentTimestamp);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Throwable ex) {
+            // CHECKSTYLE:ON
+            pendingRequests.forEach(each -> each.getFuture().completeExceptionally(ex));
+        }
+    }
+}
@@ -38,7 +38,9 @@ public enum RedisTSOPropertyKey implements TypedPropertyKey {
     
     MAX_IDLE("maxIdle", "8", int.class),
     
-    MAX_TOTAL("maxTotal", "18", int.class);
+    MAX_TOTAL("maxTotal", "18", int.class),
+    
+    MAX_BATCH_SIZE("maxBatchSize", "1024", int.class);
     
     private final String key;
     
@@ -40,6 +40,8 @@ public final class RedisTSOProvider implements TSOProvider {
     
     private JedisPool jedisPool;
     
+    private RedisTSOBatchExecutor batchExecutor;
+    
     private Properties props;
     
     @Override
@@ -49,6 +51,8 @@ public final class RedisTSOProvider implements TSOProvider {
             createJedisPool();
             checkJedisPool();
             initCSN();
+            batchExecutor = new RedisTSOBatchExecutor(jedisPool, CSN_KEY,
+                    Integer.parseInt(getValue(props, RedisTSOPropertyKey.MAX_BATCH_SIZE)), Integer.parseInt(getValue(props, RedisTSOPropertyKey.TIMEOUT_INTERVAL)));
         }
     }
     
@@ -82,16 +86,12 @@ public final class RedisTSOProvider implements TSOProvider {
     
     @Override
     public long getCurrentTimestamp() {
-        try (Jedis jedis = jedisPool.getResource()) {
-            return Long.parseLong(jedis.get(CSN_KEY));
-        }
+        return batchExecutor.getCurrentTimestamp();
     }
     
     @Override
     public long getNextTimestamp() {
-        try (Jedis jedis = jedisPool.getResource()) {
-            return jedis.incr(CSN_KEY);
-        }
+        return batchExecutor.getNextTimestamp();
     }
     
     @Override
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.globalclock.type.tso.provider;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+import redis.clients.jedis.exceptions.JedisException;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisTSOBatchExecutorTest {
+    
+    private final AtomicLong csn = new AtomicLong(100L);
+    
+    @Mock
+    private JedisPool jedisPool;
+    
+    @Mock
+    private Jedis jedis;
+    
+    @BeforeEach
+    void setUp() {
+        when(jedisPool.getResource()).thenReturn(jedis);
+    }
+    
+    @Test
+    void assertExecuteBatch() throws ExecutionException, InterruptedException {
+        when(jedis.incrBy("csn", 2L)).thenAnswer(invocation -> csn.addAndGet(invocation.getArgument(1)));
+        RedisTSORequest firstNextRequest = new RedisTSORequest(true);
+        RedisTSORequest currentRequest = new RedisTSORequest(false);
+        RedisTSORequest secondNextRequest = new RedisTSORequest(true);
+        new RedisTSOBatchExecutor(jedisPool, "csn", 16, 1000L).executeBatch(Arrays.asList(firstNextRequest, currentRequest, secondNextRequest));
+        assertThat(firstNextRequest.getFuture().get(), is(101L));
+        assertThat(secondNextRequest.getFuture().get(), is(102L));
+        assertThat(currentRequest.getFuture().get(), is(102L));
+    }
+    
+    @Test
+    void assertExecuteBatchWithCurrentRequestsOnly() throws ExecutionException, InterruptedException {
+        when(jedis.incrBy("csn", 0L)).thenAnswer(invocation -> csn.addAndGet(invocation.getArgument(1)));
+        RedisTSORequest request = new RedisTSORequest(false);
+        new RedisTSOBatchExecutor(jedisPool, "csn", 16, 1000L).executeBatch(Arrays.asList(request, new RedisTSORequest(false)));
+        assertThat(request.getFuture().get(), is(100L));
+        assertThat(csn.get(), is(100L));
+    }
+    
+    @Test
+    void assertExecuteBatchFailure() {
+        when(jedis.incrBy(eq("csn"), anyLong())).thenThrow(new JedisConnectionException("connection refused"));
+        RedisTSORequest request = new RedisTSORequest(true);
+        new RedisTSOBatchExecutor(jedisPool, "csn", 16, 1000L).executeBatch(Arrays.asList(request, new RedisTSORequest(false)));
+        assertThat(assertThrows(ExecutionException.class, () -> request.getFuture().get()).getCause(), instanceOf(JedisConnectionException.class));
+    }
+    
+    @Test
+    void assertExecuteBatchWithCancelledRequest() throws ExecutionException, InterruptedException {
+        when(jedis.incrBy("csn", 1L)).thenAnswer(invocation -> csn.addAndGet(invocation.getArgument(1)));
+        RedisTSORequest cancelledRequest = new RedisTSORequest(true);
+        cancelledRequest.getFuture().cancel(false);
+        RedisTSORequest request = new RedisTSORequest(true);
+        new RedisTSOBatchExecutor(jedisPool, "csn", 16, 1000L).executeBatch(Arrays.asList(cancelledRequest, request));
+        assertThat(request.getFuture().get(), is(101L));
+        assertTrue(cancelledRequest.getFuture().isCancelled());
+    }
+    
+    @Test
+    void assertGetTimestampAfterErrorOccurred() {
+        when(jedis.incrBy(eq("csn"), anyLong())).thenThrow(new InternalError("")).thenAnswer(invocation -> csn.addAndGet(invocation.getArgument(1)));
+        RedisTSOBatchExecutor executor = new RedisTSOBatchExecutor(jedisPool, "csn", 16, 1000L);
+        assertThrows(InternalError.class, executor::getNextTimestamp);
+        assertThat(executor.getNextTimestamp(), is(101L));
+    }
+    
+    @Test
+    void assertGetTimestampWithCheckedFailure() {
+        when(jedis.incrBy(eq("csn"), anyLong())).thenAnswer(invocation -> {
+            throw new IOException("");
+        });
+        RedisTSOBatchExecutor executor = new RedisTSOBatchExecutor(jedisPool, "csn", 16, 1000L);
+        assertThat(assertThrows(JedisException.class, executor::getNextTimestamp).getCause(), instanceOf(IOException.class));
+    }
+    
+    @Test
+    void assertGetTimestampFailure() {
+        when(jedis.incrBy(eq("csn"), anyLong())).thenThrow(new JedisConnectionException("connection refused"));
+        RedisTSOBatchExecutor executor = new RedisTSOBatchExecutor(jedisPool, "csn", 16, 1000L);
+        assertThrows(JedisConnectionException.class, executor::getNextTimestamp);
+    }
+    
+    @Test
+    void assertGetNextTimestampConcurrently() throws ExecutionException, InterruptedException {
+        when(jedis.incrBy(eq("csn"), anyLong())).thenAnswer(invocation -> csn.addAndGet(invocation.getArgument(1)));
+        RedisTSOBatchExecutor executor = new RedisTSOBatchExecutor(jedisPool, "csn", 4, 10000L);
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Long>> futures = IntStream.range(0, 200).mapToObj(each -> callers.submit(executor::getNextTimestamp)).collect(Collectors.toList());
+            Collection<Long> actual = new HashSet<>(futures.size(), 1F);
+            for (Future<Long> each : futures) {
+                actual.add(each.get());
+            }
+            assertThat(actual.size(), is(200));
+            assertThat(executor.getCurrentTimestamp(), is(300L));
+        } finally {
+            callers.shutdownNow();
+        }
+    }
+}
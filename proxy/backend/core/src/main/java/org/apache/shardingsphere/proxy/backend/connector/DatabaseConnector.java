@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.exception.core.ShardingSpherePrecondition
 import org.apache.shardingsphere.infra.exception.dialect.SQLExceptionTransformEngine;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.rule.EmptyRuleException;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.resource.storageunit.EmptyStorageUnitException;
+import org.apache.shardingsphere.infra.executor.kernel.StreamingGroupResults;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -113,6 +114,10 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     private MergedResult mergedResult;
     
+    private StreamingGroupResults<?> streamingGroupResults;
+    
+    private volatile boolean closed;
+    
     public DatabaseConnector(final String driverType, final ShardingSphereDatabase database, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
         failedIfBackendNotReady(databaseConnectionManager.getConnectionSession(), sqlStatementContext);
@@ -143,6 +148,10 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     public void add(final Statement statement) {
         cachedStatements.add(statement);
+        if (closed) {
+            cancelStatements();
+            closeStatements();
+        }
     }
     
     /**
@@ -152,6 +161,9 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     public void add(final ResultSet resultSet) {
         cachedResultSets.add(resultSet);
+        if (closed) {
+            closeResultSets();
+        }
     }
     
     /**
@@ -162,6 +174,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
      */
     @Override
     public ResponseHeader execute() throws SQLException {
+        closed = false;
         MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
         if (proxySQLExecutor.getSqlFederationEngine().decide(queryContext.getSqlStatementContext(), queryContext.getParameters(), database, metaDataContexts.getMetaData().getGlobalRuleMetaData())) {
             ResultSet resultSet = doExecuteFederation(queryContext, metaDataContexts);
@@ -218,6 +231,9 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         }
         proxySQLExecutor.checkExecutePrerequisites(executionContext);
         List result = proxySQLExecutor.execute(executionContext);
+        if (result instanceof StreamingGroupResults) {
+            streamingGroupResults = (StreamingGroupResults<?>) result;
+        }
         refreshMetaData(executionContext);
         Object executeResultSample = result.iterator().next();
         return executeResultSample instanceof QueryResult ? processExecuteQuery(queryContext.getSqlStatementContext(), result, (QueryResult) executeResultSample)
@@ -228,7 +244,7 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         boolean isReturnGeneratedKeys = queryContext.getSqlStatementContext().getSqlStatement() instanceof MySQLInsertStatement;
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(databaseConnectionManager.getConnectionSession().getDatabaseName());
         DatabaseType protocolType = database.getProtocolType();
-        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, protocolType, database.getResourceMetaData(),
+        ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(driverType, protocolType, database.getName(), database.getResourceMetaData(),
                 queryContext.getSqlStatementContext().getSqlStatement(), this, isReturnGeneratedKeys, SQLExecutorExceptionHandler.isExceptionThrown(), true);
         DriverExecutionPrepareEngine<JDBCExecutionUnit, Connection> prepareEngine = createDriverExecutionPrepareEngine(isReturnGeneratedKeys, metaDataContexts);
         SQLFederationContext context = new SQLFederationContext(false, queryContext, metaDataContexts.getMetaData(), databaseConnectionManager.getConnectionSession().getProcessId());
@@ -375,7 +391,11 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
     
     @Override
     public void close() throws SQLException {
+        closed = true;
         Collection<SQLException> result = new LinkedList<>();
+        closeMergedResult().ifPresent(result::add);
+        result.addAll(cancelStatements());
+        discardStreamingGroupResults();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
         closeSQLFederationEngine().ifPresent(result::add);
@@ -387,6 +407,31 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         throw ex;
     }
     
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
+    }
+    
+    private void discardStreamingGroupResults() {
+        if (null == streamingGroupResults) {
+            return;
+        }
+        try {
+            streamingGroupResults.discard();
+        } finally {
+            streamingGroupResults = null;
+        }
+    }
+    
     private Collection<SQLException> closeResultSets() {
         Collection<SQLException> result = new LinkedList<>();
         for (ResultSet each : cachedResultSets) {
@@ -400,11 +445,22 @@ public final class DatabaseConnector implements DatabaseBackendHandler {
         return result;
     }
     
-    private Collection<SQLException> closeStatements() {
+    private Collection<SQLException> cancelStatements() {
         Collection<SQLException> result = new LinkedList<>();
         for (Statement each : cachedStatements) {
             try {
                 each.cancel();
+            } catch (final SQLException ex) {
+                result.add(ex);
+            }
+        }
+        return result;
+    }
+    
+    private Collection<SQLException> closeStatements() {
+        Collection<SQLException> result = new LinkedList<>();
+        for (Statement each : cachedStatements) {
+            try {
                 each.close();
             } catch (final SQLException ex) {
                 result.add(ex);
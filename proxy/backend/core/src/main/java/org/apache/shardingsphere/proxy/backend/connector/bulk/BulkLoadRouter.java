@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.bulk;
+
+import com.cedarsoftware.util.CaseInsensitiveMap;
+import lombok.Getter;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.datanode.DataNodeRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.DataSourceMapperRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.datasource.StaticDataSourceRuleAttribute;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.sharding.route.engine.row.ShardingRowRouter;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bulk load router.
+ * 
+ * <p>Route rows of bulk loading statements, such as PostgreSQL {@code COPY} and MySQL {@code LOAD DATA LOCAL INFILE}, to data nodes one by one.
+ * Only the values of routing columns are needed, so that the loaders can ship the raw rows to storage units without rewriting them.
+ * Tables whose values are handled by other rules, such as encrypt, mask and shadow, or which need generated keys, are rejected.</p>
+ */
+public final class BulkLoadRouter {
+    
+    private final ShardingSphereDatabase database;
+    
+    private final String logicTableName;
+    
+    private final ShardingRowRouter shardingRowRouter;
+    
+    @Getter
+    private final Collection<DataNode> dataNodes;
+    
+    private final String[] routingColumnNames;
+    
+    private final int[] routingColumnDataTypes;
+    
+    @Getter
+    private final int[] routingColumnIndexes;
+    
+    @Getter
+    private final int columnCount;
+    
+    public BulkLoadRouter(final ShardingSphereDatabase database, final String schemaName, final String logicTableName, final List<String> columnNames, final ConfigurationProperties props) {
+        this.database = database;
+        this.logicTableName = logicTableName;
+        checkOtherRulesIndependentOfValues();
+        Optional<ShardingRule> shardingRule = database.getRuleMetaData().findSingleRule(ShardingRule.class).filter(optional -> optional.isShardingTable(logicTableName));
+        shardingRowRouter = shardingRule.map(optional -> new ShardingRowRouter(optional, logicTableName, props)).orElse(null);
+        dataNodes = shardingRule.isPresent() ? shardingRule.get().getShardingTable(logicTableName).getActualDataNodes() : Collections.singleton(getUniqueDataNode());
+        Collection<String> shardingColumns = null == shardingRowRouter ? Collections.emptyList() : shardingRowRouter.getShardingColumns();
+        routingColumnNames = shardingColumns.toArray(new String[0]);
+        routingColumnDataTypes = new int[routingColumnNames.length];
+        routingColumnIndexes = new int[routingColumnNames.length];
+        ShardingSphereTable table = findTable(schemaName).orElse(null);
+        List<String> actualColumnNames = columnNames.isEmpty() && null != table ? table.getColumnNames() : columnNames;
+        columnCount = actualColumnNames.size();
+        for (int i = 0; i < routingColumnNames.length; i++) {
+            routingColumnIndexes[i] = indexOf(actualColumnNames, routingColumnNames[i]);
+            ShardingSphereColumn column = null == table ? null : table.getColumn(routingColumnNames[i]);
+            routingColumnDataTypes[i] = null == column ? Types.VARCHAR : column.getDataType();
+        }
+        Optional<String> generateKeyColumnName = shardingRule.flatMap(optional -> optional.findGenerateKeyColumnName(logicTableName));
+        ShardingSpherePreconditions.checkState(!generateKeyColumnName.isPresent() || containsIgnoreCase(actualColumnNames, generateKeyColumnName.get()),
+                () -> new UnsupportedSQLOperationException(String.format("Bulk load into table `%s` without generated key column `%s`", logicTableName, generateKeyColumnName.orElse(""))));
+    }
+    
+    private void checkOtherRulesIndependentOfValues() {
+        for (ShardingSphereRule each : database.getRuleMetaData().getRules()) {
+            if (each.getAttributes().findAttribute(DataNodeRuleAttribute.class).isPresent()) {
+                continue;
+            }
+            Optional<TableMapperRuleAttribute> tableMapperRuleAttribute = each.getAttributes().findAttribute(TableMapperRuleAttribute.class);
+            ShardingSpherePreconditions.checkState(!tableMapperRuleAttribute.isPresent() || !containsIgnoreCase(tableMapperRuleAttribute.get().getLogicTableNames(), logicTableName),
+                    () -> new UnsupportedSQLOperationException(String.format("Bulk load into table `%s` which is configured by rule `%s`", logicTableName, each.getClass().getSimpleName())));
+            ShardingSpherePreconditions.checkState(!each.getAttributes().findAttribute(DataSourceMapperRuleAttribute.class).isPresent()
+                    || each.getAttributes().findAttribute(StaticDataSourceRuleAttribute.class).isPresent(),
+                    () -> new UnsupportedSQLOperationException(String.format("Bulk load into table `%s` with dynamic data sources of rule `%s`", logicTableName, each.getClass().getSimpleName())));
+        }
+    }
+    
+    private boolean containsIgnoreCase(final Collection<String> names, final String name) {
+        for (String each : names) {
+            if (each.equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private DataNode getUniqueDataNode() {
+        for (DataNodeRuleAttribute each : database.getRuleMetaData().getAttributes(DataNodeRuleAttribute.class)) {
+            Collection<DataNode> result = each.getDataNodesByTableName(logicTableName);
+            if (!result.isEmpty()) {
+                ShardingSpherePreconditions.checkState(1 == result.size(),
+                        () -> new UnsupportedSQLOperationException(String.format("Bulk load into table `%s` which has multiple data nodes without sharding", logicTableName)));
+                return result.iterator().next();
+            }
+        }
+        ShardingSpherePreconditions.checkState(1 == database.getResourceMetaData().getStorageUnits().size(),
+                () -> new UnsupportedSQLOperationException(String.format("Bulk load into table `%s` which can not be found in rules", logicTableName)));
+        return new DataNode(database.getResourceMetaData().getStorageUnits().keySet().iterator().next(), logicTableName);
+    }
+    
+    private Optional<ShardingSphereTable> findTable(final String schemaName) {
+        ShardingSphereSchema schema = database.getSchema(schemaName);
+        return null == schema ? Optional.empty() : Optional.ofNullable(schema.getTable(logicTableName));
+    }
+    
+    private int indexOf(final List<String> columnNames, final String routingColumnName) {
+        int index = 0;
+        for (String each : columnNames) {
+            if (each.equalsIgnoreCase(routingColumnName)) {
+                return index;
+            }
+            index++;
+        }
+        throw new UnsupportedSQLOperationException(String.format("Bulk load into sharding table `%s` without sharding column `%s`", logicTableName, routingColumnName));
+    }
+    
+    /**
+     * Route row.
+     *
+     * @param routingValues text values of routing columns, in the order of routing column indexes, null means SQL NULL
+     * @return routed data node
+     */
+    public DataNode route(final String[] routingValues) {
+        if (null == shardingRowRouter) {
+            return dataNodes.iterator().next();
+        }
+        Map<String, Comparable<?>> shardingValues = new CaseInsensitiveMap<>(routingColumnNames.length, 1F);
+        for (int i = 0; i < routingColumnNames.length; i++) {
+            shardingValues.put(routingColumnNames[i], null == routingValues[i] ? null : convert(routingValues[i], routingColumnDataTypes[i]));
+        }
+        return shardingRowRouter.route(shardingValues);
+    }
+    
+    private Comparable<?> convert(final String value, final int dataType) {
+        switch (dataType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+                return Integer.parseInt(value.trim());
+            case Types.BIGINT:
+                return Long.parseLong(value.trim());
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                return new BigDecimal(value.trim());
+            default:
+                return value;
+        }
+    }
+    
+    /**
+     * Get actual data source name of storage unit which data node belongs to.
+     * 
+     * <p>Logic data source names of rules, such as readwrite-splitting, are resolved to their first data source, which is the write data source.</p>
+     *
+     * @param dataSourceName data source name of data node
+     * @return actual data source name
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public String getActualDataSourceName(final String dataSourceName) {
+        if (database.getResourceMetaData().getStorageUnits().containsKey(dataSourceName)) {
+            return dataSourceName;
+        }
+        for (DataSourceMapperRuleAttribute each : database.getRuleMetaData().getAttributes(DataSourceMapperRuleAttribute.class)) {
+            Collection<String> actualDataSourceNames = each.getDataSourceMapper().get(dataSourceName);
+            if (null != actualDataSourceNames && !actualDataSourceNames.isEmpty()) {
+                return getActualDataSourceName(actualDataSourceNames.iterator().next());
+            }
+        }
+        throw new UnsupportedSQLOperationException(String.format("Bulk load into data source `%s` which can not be found", dataSourceName));
+    }
+}
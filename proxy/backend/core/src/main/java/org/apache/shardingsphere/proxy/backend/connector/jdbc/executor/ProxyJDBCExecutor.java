@@ -29,9 +29,11 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.mode.metadata.MetaDataContexts;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseConnector;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallback;
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.executor.callback.ProxyJDBCExecutorCallbackFactory;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.SelectStatement;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -64,21 +66,27 @@ public final class ProxyJDBCExecutor {
      */
     public List<ExecuteResult> execute(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
                                        final boolean isReturnGeneratedKeys, final boolean isExceptionThrown) throws SQLException {
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        boolean isStreaming = false;
         try {
             MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
             ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
             DatabaseType protocolType = database.getProtocolType();
             processEngine.executeSQL(executionGroupContext, queryContext);
             SQLStatementContext context = queryContext.getSqlStatementContext();
-            return jdbcExecutor.execute(executionGroupContext,
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            true),
-                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys,
-                            isExceptionThrown,
-                            false));
+            ProxyJDBCExecutorCallback firstCallback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, database.getName(), database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown, true);
+            ProxyJDBCExecutorCallback callback = ProxyJDBCExecutorCallbackFactory.newInstance(
+                    type, protocolType, database.getName(), database.getResourceMetaData(), context.getSqlStatement(), databaseConnector, isReturnGeneratedKeys, isExceptionThrown, false);
+            if (context.getSqlStatement() instanceof SelectStatement) {
+                isStreaming = true;
+                return jdbcExecutor.executeStreaming(executionGroupContext, firstCallback, callback, () -> processEngine.completeSQLExecution(processId));
+            }
+            return jdbcExecutor.execute(executionGroupContext, firstCallback, callback);
         } finally {
-            processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
+            if (!isStreaming) {
+                processEngine.completeSQLExecution(processId);
+            }
         }
     }
 }
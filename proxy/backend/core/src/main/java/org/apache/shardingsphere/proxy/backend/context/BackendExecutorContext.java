@@ -21,6 +21,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 
 /**
@@ -32,8 +33,9 @@ public final class BackendExecutorContext {
     
     private static final BackendExecutorContext INSTANCE = new BackendExecutorContext();
     
-    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(
-            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+    private final ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngine(
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE),
+            ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<KernelExecutorMode>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MODE));
     
     /**
      * Get executor context instance.
@@ -20,14 +20,31 @@ package org.apache.shardingsphere.proxy.backend.handler;
 import com.google.common.base.Strings;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.sql.DialectSQLParsingException;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
+import org.apache.shardingsphere.infra.parser.sql.template.SQLTemplate;
+import org.apache.shardingsphere.infra.parser.sql.template.SQLTemplateNormalizer;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.statement.dal.EmptyStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.DMLStatement;
 import org.apache.shardingsphere.sql.parser.sql.common.util.SQLUtils;
 
+import java.util.Collection;
+import java.util.Optional;
+
 /**
  * Proxy SQL com query parser.
  */
@@ -50,6 +67,56 @@ public final class ProxySQLComQueryParser {
         return rule.getSQLParserEngine(getProtocolType(databaseType, connectionSession)).parse(sql, false);
     }
     
+    /**
+     * Parse SQL as SQL template whose literals are extracted as parameters.
+     *
+     * @param sql SQL to be parsed
+     * @param connectionSession connection session
+     * @param hintValueContext hint value context
+     * @return query context of SQL template, empty if SQL template is disabled or not suitable for SQL
+     */
+    public static Optional<QueryContext> parseTemplate(final String sql, final ConnectionSession connectionSession, final HintValueContext hintValueContext) {
+        if (SQLUtils.trimComment(sql).isEmpty()) {
+            return Optional.empty();
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        String databaseName = connectionSession.getDatabaseName();
+        if (!Boolean.TRUE.equals(metaData.getProps().getValue(ConfigurationPropertyKey.PROXY_SQL_TEMPLATE_ENABLED))
+                || Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)) {
+            return Optional.empty();
+        }
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        if (SystemSchemaUtils.isSystemSchema(database)) {
+            return Optional.empty();
+        }
+        Optional<SQLTemplate> sqlTemplate = new SQLTemplateNormalizer(database.getProtocolType()).normalize(sql);
+        if (!sqlTemplate.isPresent()) {
+            return Optional.empty();
+        }
+        SQLStatement sqlStatement;
+        try {
+            sqlStatement = metaData.getGlobalRuleMetaData().getSingleRule(SQLParserRule.class).getSQLParserEngine(database.getProtocolType()).parse(sqlTemplate.get().getSql(), true);
+        } catch (final DialectSQLParsingException ignored) {
+            return Optional.empty();
+        }
+        if (!(sqlStatement instanceof DMLStatement)) {
+            return Optional.empty();
+        }
+        SQLStatementContext sqlStatementContext = new SQLBindEngine(metaData, connectionSession.getDefaultDatabaseName(), hintValueContext).bind(sqlStatement, sqlTemplate.get().getParameters());
+        return isAllTablesInDefaultSchema(sqlStatementContext, database)
+                ? Optional.of(new QueryContext(sqlStatementContext, sqlTemplate.get().getSql(), sqlTemplate.get().getParameters(), hintValueContext))
+                : Optional.empty();
+    }
+    
+    private static boolean isAllTablesInDefaultSchema(final SQLStatementContext sqlStatementContext, final ShardingSphereDatabase database) {
+        Collection<String> tableNames = sqlStatementContext.getTablesContext().getTableNames();
+        if (tableNames.isEmpty() || sqlStatementContext.getTablesContext().getDatabaseName().isPresent() || sqlStatementContext.getTablesContext().getSchemaName().isPresent()) {
+            return false;
+        }
+        ShardingSphereSchema schema = database.getSchema(new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(database.getName()));
+        return null != schema && tableNames.stream().allMatch(schema::containsTable);
+    }
+    
     private static DatabaseType getProtocolType(final DatabaseType defaultDatabaseType, final ConnectionSession connectionSession) {
         String databaseName = connectionSession.getDatabaseName();
         return Strings.isNullOrEmpty(databaseName) || !ProxyContext.getInstance().databaseExists(databaseName)
@@ -23,9 +23,14 @@ import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.database.core.DefaultDatabase;
 import org.apache.shardingsphere.infra.database.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryMergedResult;
 import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -37,6 +42,7 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.infra.metadata.database.schema.util.SystemSchemaUtils;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -69,6 +75,7 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -76,15 +83,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
@@ -223,7 +234,10 @@ class DatabaseConnectorTest {
         cachedResultSets.add(resultSet);
         Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
         cachedStatements.add(statement);
+        MergedResult mergedResult = mock(MergedResult.class);
+        setField(engine, "mergedResult", mergedResult);
         engine.close();
+        verify(mergedResult).close();
         verify(resultSet).close();
         verify(statement).cancel();
         verify(statement).close();
@@ -231,6 +245,58 @@ class DatabaseConnectorTest {
         assertTrue(cachedStatements.isEmpty());
     }
     
+    @Test
+    void assertCloseWithBlockingStreamingGroup() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList(), new HintValueContext()),
+                databaseConnectionManager, false);
+        CountDownLatch cancelLatch = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            cancelLatch.countDown();
+            return null;
+        }).when(statement).cancel();
+        Collection<Statement> cachedStatements = getField(engine, "cachedStatements");
+        cachedStatements.add(statement);
+        try (ExecutorEngine executorEngine = ExecutorEngine.createExecutorEngineWithSize(2)) {
+            ExecutionGroupContext<String> executionGroupContext = new ExecutionGroupContext<>(Arrays.asList(new ExecutionGroup<>(Collections.singletonList("fast_shard")),
+                    new ExecutionGroup<>(Collections.singletonList("blocking_shard"))), new ExecutionGroupReportContext("foo_process", "foo_db", new Grantee("root", "")));
+            List<String> streamingGroupResults = executorEngine.executeStreaming(executionGroupContext, null, (inputs, isTrunkThread, processId) -> {
+                if (inputs.contains("blocking_shard")) {
+                    awaitCancelled(cancelLatch);
+                    throw new SQLException("Query execution was interrupted");
+                }
+                return inputs;
+            }, false, () -> {
+            });
+            setField(engine, "streamingGroupResults", streamingGroupResults);
+            assertTimeoutPreemptively(Duration.ofSeconds(10L), engine::close);
+        }
+        verify(statement).cancel();
+        verify(statement).close();
+        assertNull(getField(engine, "streamingGroupResults"));
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void awaitCancelled(final CountDownLatch cancelLatch) {
+        cancelLatch.await();
+    }
+    
+    @Test
+    void assertAddAfterClosed() throws SQLException {
+        SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getSchemaNames()).thenReturn(Collections.emptyList());
+        DatabaseConnector engine = DatabaseConnectorFactory.getInstance().newInstance(new QueryContext(sqlStatementContext, "schemaName", Collections.emptyList(), new HintValueContext()),
+                databaseConnectionManager, false);
+        engine.close();
+        engine.add(statement);
+        engine.add(resultSet);
+        verify(statement).close();
+        verify(resultSet).close();
+        assertTrue(((Collection<?>) getField(engine, "cachedStatements")).isEmpty());
+        assertTrue(((Collection<?>) getField(engine, "cachedResultSets")).isEmpty());
+    }
+    
     @Test
     void assertCloseResultSetsWithExceptionThrown() throws SQLException {
         SQLStatementContext sqlStatementContext = mock(SQLStatementContext.class, RETURNS_DEEP_STUBS);
@@ -265,4 +331,9 @@ class DatabaseConnectorTest {
     private <T> T getField(final DatabaseConnector target, final String fieldName) {
         return (T) Plugins.getMemberAccessor().get(DatabaseConnector.class.getDeclaredField(fieldName), target);
     }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setField(final DatabaseConnector target, final String fieldName, final Object value) {
+        Plugins.getMemberAccessor().set(DatabaseConnector.class.getDeclaredField(fieldName), target, value);
+    }
 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.backend.connector.bulk;
+
+import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.instance.InstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
+import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
+import org.apache.shardingsphere.infra.rule.attribute.table.TableMapperRuleAttribute;
+import org.apache.shardingsphere.sharding.api.config.ShardingRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.rule.ShardingTableRuleConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.keygen.KeyGenerateStrategyConfiguration;
+import org.apache.shardingsphere.sharding.api.config.strategy.sharding.StandardShardingStrategyConfiguration;
+import org.apache.shardingsphere.sharding.rule.ShardingRule;
+import org.apache.shardingsphere.test.fixture.jdbc.MockedDataSource;
+import org.apache.shardingsphere.test.util.PropertiesBuilder;
+import org.apache.shardingsphere.test.util.PropertiesBuilder.Property;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BulkLoadRouterTest {
+    
+    @Test
+    void assertRouteShardingTable() {
+        BulkLoadRouter actual = new BulkLoadRouter(mockShardingDatabase(), "public", "t_order", Arrays.asList("order_id", "user_id", "status"), new ConfigurationProperties(new Properties()));
+        assertThat(actual.getDataNodes().size(), is(4));
+        assertThat(actual.getColumnCount(), is(3));
+        assertThat(actual.route(getRoutingValues(actual, "2", "1", "ok")), is(new DataNode("ds_1", "t_order_0")));
+        assertThat(actual.route(getRoutingValues(actual, "3", "2", "ok")), is(new DataNode("ds_0", "t_order_1")));
+    }
+    
+    @Test
+    void assertRouteShardingTableWithColumnsOfMetaData() {
+        BulkLoadRouter actual = new BulkLoadRouter(mockShardingDatabase(), "public", "t_order", Collections.emptyList(), new ConfigurationProperties(new Properties()));
+        assertThat(actual.getColumnCount(), is(3));
+        assertThat(actual.route(getRoutingValues(actual, "2", "1", "ok")), is(new DataNode("ds_1", "t_order_0")));
+    }
+    
+    @Test
+    void assertNewInstanceWithoutShardingColumn() {
+        assertThrows(UnsupportedSQLOperationException.class,
+                () -> new BulkLoadRouter(mockShardingDatabase(), "public", "t_order", Arrays.asList("order_id", "status"), new ConfigurationProperties(new Properties())));
+    }
+    
+    @Test
+    void assertRouteSingleStorageUnitTable() {
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getRuleMetaData()).thenReturn(new RuleMetaData(Collections.emptyList()));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.singletonMap("foo_ds", mock(StorageUnit.class)));
+        BulkLoadRouter actual = new BulkLoadRouter(database, "public", "t_single", Collections.singletonList("id"), new ConfigurationProperties(new Properties()));
+        assertThat(actual.getRoutingColumnIndexes().length, is(0));
+        assertThat(actual.route(new String[0]), is(new DataNode("foo_ds", "t_single")));
+        assertThat(actual.getActualDataSourceName("foo_ds"), is("foo_ds"));
+    }
+    
+    @Test
+    void assertNewInstanceWithTableOfOtherRule() {
+        ShardingSphereRule encryptRule = mock(ShardingSphereRule.class);
+        TableMapperRuleAttribute tableMapperRuleAttribute = mock(TableMapperRuleAttribute.class);
+        when(tableMapperRuleAttribute.getLogicTableNames()).thenReturn(Collections.singleton("t_order"));
+        when(encryptRule.getAttributes()).thenReturn(new RuleAttributes(tableMapperRuleAttribute));
+        RuleMetaData ruleMetaData = new RuleMetaData(Arrays.asList(createShardingRule(new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}")), encryptRule));
+        ShardingSphereDatabase database = mockShardingDatabase();
+        when(database.getRuleMetaData()).thenReturn(ruleMetaData);
+        assertThrows(UnsupportedSQLOperationException.class,
+                () -> new BulkLoadRouter(database, "public", "t_order", Arrays.asList("order_id", "user_id", "status"), new ConfigurationProperties(new Properties())));
+    }
+    
+    @Test
+    void assertNewInstanceWithoutGenerateKeyColumn() {
+        ShardingTableRuleConfiguration tableRuleConfig = new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}");
+        tableRuleConfig.setKeyGenerateStrategy(new KeyGenerateStrategyConfiguration("status", "uuid"));
+        RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(createShardingRule(tableRuleConfig)));
+        ShardingSphereDatabase database = mockShardingDatabase();
+        when(database.getRuleMetaData()).thenReturn(ruleMetaData);
+        assertThrows(UnsupportedSQLOperationException.class,
+                () -> new BulkLoadRouter(database, "public", "t_order", Arrays.asList("order_id", "user_id"), new ConfigurationProperties(new Properties())));
+    }
+    
+    private String[] getRoutingValues(final BulkLoadRouter router, final String... row) {
+        String[] result = new String[router.getRoutingColumnIndexes().length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = row[router.getRoutingColumnIndexes()[i]];
+        }
+        return result;
+    }
+    
+    private ShardingSphereDatabase mockShardingDatabase() {
+        RuleMetaData ruleMetaData = new RuleMetaData(Collections.singleton(createShardingRule(new ShardingTableRuleConfiguration("t_order", "ds_${0..1}.t_order_${0..1}"))));
+        ShardingSphereDatabase result = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(result.getRuleMetaData()).thenReturn(ruleMetaData);
+        ShardingSphereTable table = new ShardingSphereTable("t_order", Arrays.asList(new ShardingSphereColumn("order_id", Types.BIGINT, true, false, false, true, false, false),
+                new ShardingSphereColumn("user_id", Types.INTEGER, false, false, false, true, false, false),
+                new ShardingSphereColumn("status", Types.VARCHAR, false, false, false, true, false, true)), Collections.emptyList(), Collections.emptyList());
+        when(result.getSchema("public").getTable("t_order")).thenReturn(table);
+        return result;
+    }
+    
+    private ShardingRule createShardingRule(final ShardingTableRuleConfiguration tableRuleConfig) {
+        ShardingRuleConfiguration ruleConfig = new ShardingRuleConfiguration();
+        tableRuleConfig.setDatabaseShardingStrategy(new StandardShardingStrategyConfiguration("user_id", "ds_inline"));
+        tableRuleConfig.setTableShardingStrategy(new StandardShardingStrategyConfiguration("order_id", "table_inline"));
+        ruleConfig.getTables().add(tableRuleConfig);
+        ruleConfig.getShardingAlgorithms().put("ds_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "ds_${user_id % 2}"))));
+        ruleConfig.getKeyGenerators().put("uuid", new AlgorithmConfiguration("UUID", new Properties()));
+        ruleConfig.getShardingAlgorithms().put("table_inline", new AlgorithmConfiguration("INLINE", PropertiesBuilder.build(new Property("algorithm-expression", "t_order_${order_id % 2}"))));
+        Map<String, DataSource> dataSources = new LinkedHashMap<>(2, 1F);
+        dataSources.put("ds_0", new MockedDataSource());
+        dataSources.put("ds_1", new MockedDataSource());
+        return new ShardingRule(ruleConfig, dataSources, mock(InstanceContext.class));
+    }
+}
@@ -57,10 +57,10 @@ class ShowDistVariablesExecutorTest {
         executor.setConnectionContext(new DistSQLConnectionContext(mock(ConnectionContext.class), 1,
                 mock(DatabaseType.class), mock(DatabaseConnectionManager.class), mock(ExecutorStatementManager.class)));
         Collection<LocalDataQueryResultRow> actual = executor.getRows(mock(ShowDistVariablesStatement.class), contextManager);
-        assertThat(actual.size(), is(21));
+        assertThat(actual.size(), is(26));
         LocalDataQueryResultRow row = actual.iterator().next();
-        assertThat(row.getCell(1), is("agent_plugins_enabled"));
-        assertThat(row.getCell(2), is("true"));
+        assertThat(row.getCell(1), is("adaptive_connection_mode_enabled"));
+        assertThat(row.getCell(2), is("false"));
     }
     
     @Test
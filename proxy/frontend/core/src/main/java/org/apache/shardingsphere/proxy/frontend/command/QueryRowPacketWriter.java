@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query row packet writer.
+ *
+ * <p>
+ * Row packets are written in batches, and each batch is encoded into one byte buffer.
+ * Written batches are flushed once the pending bytes of channel reach its low water mark, or the flush interval elapsed.
+ * The batch size halves when channel is unwritable and grows back up to flush threshold otherwise.
+ * </p>
+ */
+public final class QueryRowPacketWriter {
+    
+    private static final long FLUSH_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(5L);
+    
+    private final ChannelHandlerContext context;
+    
+    private final ResourceLock resourceLock;
+    
+    private final int maxBatchSize;
+    
+    private int batchSize;
+    
+    private List<DatabasePacket> batch;
+    
+    private long lastFlushNanos;
+    
+    public QueryRowPacketWriter(final ChannelHandlerContext context, final ResourceLock resourceLock, final int flushThreshold) {
+        this.context = context;
+        this.resourceLock = resourceLock;
+        maxBatchSize = Math.max(flushThreshold, 1);
+        batchSize = maxBatchSize;
+        batch = new ArrayList<>(batchSize);
+        lastFlushNanos = System.nanoTime();
+    }
+    
+    /**
+     * Write row packet.
+     *
+     * @param rowPacket row packet
+     */
+    public void write(final DatabasePacket rowPacket) {
+        batch.add(rowPacket);
+        if (batch.size() < batchSize && System.nanoTime() - lastFlushNanos < FLUSH_INTERVAL_NANOS) {
+            return;
+        }
+        writeBatch();
+        if (isFlushRequired()) {
+            context.flush();
+            lastFlushNanos = System.nanoTime();
+        }
+    }
+    
+    /**
+     * Write remaining row packets without flush.
+     */
+    public void finish() {
+        if (!batch.isEmpty()) {
+            writeBatch();
+        }
+    }
+    
+    private void writeBatch() {
+        adjustBatchSize();
+        context.write(1 == batch.size() ? batch.get(0) : new DatabasePacketBatch(batch));
+        batch = new ArrayList<>(batchSize);
+    }
+    
+    private void adjustBatchSize() {
+        if (context.channel().isWritable()) {
+            batchSize = Math.min(batchSize + 1, maxBatchSize);
+            return;
+        }
+        batchSize = Math.max(batchSize >> 1, 1);
+        resourceLock.doAwait(context);
+    }
+    
+    private boolean isFlushRequired() {
+        Channel channel = context.channel();
+        if (!channel.isWritable() || System.nanoTime() - lastFlushNanos >= FLUSH_INTERVAL_NANOS) {
+            return true;
+        }
+        long pendingBytes = channel.config().getWriteBufferHighWaterMark() - channel.bytesBeforeUnwritable();
+        return pendingBytes >= channel.config().getWriteBufferLowWaterMark();
+    }
+}
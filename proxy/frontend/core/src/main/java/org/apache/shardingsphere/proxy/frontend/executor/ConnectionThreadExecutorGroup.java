@@ -19,11 +19,14 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -57,11 +60,23 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, KernelExecutorMode.PLATFORM_THREAD);
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection id
+     * @param executorMode executor mode
+     */
+    public void register(final int connectionId, final KernelExecutorMode executorMode) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, executorMode));
+    }
+    
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final KernelExecutorMode executorMode) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        ThreadFactory threadFactory = KernelExecutorMode.VIRTUAL_THREAD == executorMode ? ExecutorThreadFactoryBuilder.buildVirtual(threadName) : runnable -> new Thread(runnable, threadName);
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     /**
@@ -18,6 +18,10 @@
 package org.apache.shardingsphere.proxy.frontend.state.impl;
 
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecutorTask;
 import org.apache.shardingsphere.proxy.frontend.executor.ConnectionThreadExecutorGroup;
@@ -46,6 +50,11 @@ public final class OKProxyState implements ProxyState {
     }
     
     private boolean requireOccupyThreadForConnection(final ConnectionSession connectionSession) {
-        return TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType());
+        return TransactionType.isDistributedTransaction(connectionSession.getTransactionStatus().getTransactionType()) || isVirtualThreadMode();
+    }
+    
+    private boolean isVirtualThreadMode() {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        return KernelExecutorMode.VIRTUAL_THREAD == props.getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_MODE);
     }
 }
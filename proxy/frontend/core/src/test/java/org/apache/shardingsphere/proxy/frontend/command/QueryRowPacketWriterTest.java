@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacketBatch;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ResourceLock;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class QueryRowPacketWriterTest {
+    
+    @Mock
+    private ResourceLock resourceLock;
+    
+    @Test
+    void assertWriteInBatches() {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+        when(context.channel().isWritable()).thenReturn(true);
+        QueryRowPacketWriter writer = new QueryRowPacketWriter(context, resourceLock, 2);
+        DatabasePacket firstPacket = mock(DatabasePacket.class);
+        DatabasePacket secondPacket = mock(DatabasePacket.class);
+        DatabasePacket thirdPacket = mock(DatabasePacket.class);
+        writer.write(firstPacket);
+        writer.write(secondPacket);
+        writer.write(thirdPacket);
+        writer.finish();
+        ArgumentCaptor<Object> messages = ArgumentCaptor.forClass(Object.class);
+        verify(context, times(2)).write(messages.capture());
+        List<Object> actual = messages.getAllValues();
+        assertThat(((DatabasePacketBatch) actual.get(0)).getPackets(), is(Arrays.asList(firstPacket, secondPacket)));
+        assertThat(actual.get(1), is(thirdPacket));
+        verify(resourceLock, never()).doAwait(context);
+    }
+    
+    @Test
+    void assertWriteWhenChannelUnwritable() {
+        ChannelHandlerContext context = mock(ChannelHandlerContext.class, RETURNS_DEEP_STUBS);
+        when(context.channel().isWritable()).thenReturn(false);
+        QueryRowPacketWriter writer = new QueryRowPacketWriter(context, resourceLock, 1);
+        DatabasePacket packet = mock(DatabasePacket.class);
+        writer.write(packet);
+        verify(resourceLock).doAwait(context);
+        verify(context).write(packet);
+        verify(context).flush();
+    }
+}
@@ -17,8 +17,13 @@
 
 package org.apache.shardingsphere.proxy.frontend.executor;
 
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
@@ -32,6 +37,15 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
+    @Test
+    void assertRegisterWithVirtualThreadMode() throws ExecutionException, InterruptedException {
+        int connectionId = 3;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, KernelExecutorMode.VIRTUAL_THREAD);
+        String actual = ConnectionThreadExecutorGroup.getInstance().get(connectionId).submit(() -> Thread.currentThread().getName()).get();
+        assertThat(actual, is("ShardingSphere-Connection-3-ThreadExecutor"));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
     @Test
     void assertUnregister() {
         int connectionId = 2;
@@ -20,6 +20,8 @@ package org.apache.shardingsphere.proxy.frontend.state.impl;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.embedded.EmbeddedChannel;
 import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -74,7 +76,21 @@ class OKProxyStateTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(1);
     }
     
-    @SuppressWarnings({"unchecked", "SameParameterValue"})
+    @Test
+    void assertExecuteWithVirtualThreadMode() {
+        ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
+        when(contextManager.getMetaDataContexts().getMetaData().getProps().getValue(ConfigurationPropertyKey.PROXY_FRONTEND_EXECUTOR_MODE)).thenReturn(KernelExecutorMode.VIRTUAL_THREAD);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        ConnectionSession connectionSession = mock(ConnectionSession.class, RETURNS_DEEP_STUBS);
+        when(connectionSession.getTransactionStatus().getTransactionType()).thenReturn(TransactionType.LOCAL);
+        when(connectionSession.getConnectionId()).thenReturn(2);
+        ExecutorService executorService = registerMockExecutorService(2);
+        new OKProxyState().execute(context, null, mock(DatabaseProtocolFrontendEngine.class), connectionSession);
+        verify(executorService).execute(any(CommandExecutorTask.class));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(2);
+    }
+    
+    @SuppressWarnings("unchecked")
     @SneakyThrows(ReflectiveOperationException.class)
     private ExecutorService registerMockExecutorService(final int connectionId) {
         Map<Integer, ExecutorService> executorServices = (Map<Integer, ExecutorService>) Plugins.getMemberAccessor()
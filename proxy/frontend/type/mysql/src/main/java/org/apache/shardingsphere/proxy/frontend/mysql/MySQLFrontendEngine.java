@@ -28,6 +28,8 @@ import org.apache.shardingsphere.proxy.frontend.authentication.AuthenticationEng
 import org.apache.shardingsphere.proxy.frontend.mysql.authentication.MySQLAuthenticationEngine;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.MySQLCommandExecuteEngine;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLStatementIdGenerator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContext;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.netty.FrontendChannelInboundHandler;
 import org.apache.shardingsphere.proxy.frontend.spi.DatabaseProtocolFrontendEngine;
 
@@ -54,6 +56,7 @@ public final class MySQLFrontendEngine implements DatabaseProtocolFrontendEngine
     @Override
     public void release(final ConnectionSession connectionSession) {
         MySQLStatementIdGenerator.getInstance().unregisterConnection(connectionSession.getConnectionId());
+        MySQLLoadDataContextRegistry.getInstance().remove(connectionSession.getConnectionId()).ifPresent(MySQLLoadDataContext::cancel);
     }
     
     @Override
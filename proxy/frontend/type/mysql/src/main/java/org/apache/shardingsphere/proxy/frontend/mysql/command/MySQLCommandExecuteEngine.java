@@ -23,7 +23,6 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPa
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.MySQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
-import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.db.protocol.payload.PacketPayload;
@@ -32,9 +31,11 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryRowPacketWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContextRegistry;
 import org.apache.shardingsphere.proxy.frontend.mysql.err.MySQLErrorPacketFactory;
 
 import java.sql.SQLException;
@@ -45,7 +46,10 @@ import java.sql.SQLException;
 public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
-    public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
+    public MySQLCommandPacketType getCommandPacketType(final PacketPayload payload, final ConnectionSession connectionSession) {
+        if (MySQLLoadDataContextRegistry.getInstance().find(connectionSession.getConnectionId()).isPresent()) {
+            return MySQLCommandPacketType.COM_LOCAL_INFILE_DATA;
+        }
         return MySQLCommandPacketType.valueOf(((MySQLPacketPayload) payload).readInt1());
     }
     
@@ -70,18 +74,12 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
-        int count = 0;
         int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        QueryRowPacketWriter rowPacketWriter = new QueryRowPacketWriter(context, databaseConnectionManager.getResourceLock(), flushThreshold);
         while (queryCommandExecutor.next()) {
-            count++;
-            databaseConnectionManager.getResourceLock().doAwait(context);
-            DatabasePacket dataValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(dataValue);
-            if (flushThreshold == count) {
-                context.flush();
-                count = 0;
-            }
+            rowPacketWriter.write(queryCommandExecutor.getQueryRowPacket());
         }
+        rowPacketWriter.finish();
         context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession())));
     }
 }
@@ -29,9 +29,13 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.e
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLComLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.db.protocol.packet.sql.SQLReceivedPacket;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.admin.MySQLComResetConnectionExecutor;
@@ -46,9 +50,13 @@ import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.execu
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.prepare.MySQLComStmtPrepareExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.reset.MySQLComStmtResetExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.fieldlist.MySQLComFieldListPacketExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLComLocalInfileDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataCommand;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataLocalInfileExecutor;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.query.MySQLComQueryPacketExecutor;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * Command executor factory for MySQL.
@@ -57,6 +65,8 @@ import java.sql.SQLException;
 @Slf4j
 public final class MySQLCommandExecutorFactory {
     
+    private static final DatabaseType DATABASE_TYPE = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
     /**
      * Create new instance of packet executor.
      *
@@ -81,7 +91,7 @@ public final class MySQLCommandExecutorFactory {
             case COM_FIELD_LIST:
                 return new MySQLComFieldListPacketExecutor((MySQLComFieldListPacket) commandPacket, connectionSession);
             case COM_QUERY:
-                return new MySQLComQueryPacketExecutor((MySQLComQueryPacket) commandPacket, connectionSession);
+                return getComQueryExecutor((MySQLComQueryPacket) commandPacket, connectionSession);
             case COM_PING:
                 return new MySQLComPingExecutor(connectionSession);
             case COM_STMT_PREPARE:
@@ -98,8 +108,20 @@ public final class MySQLCommandExecutorFactory {
                 return new MySQLComSetOptionExecutor((MySQLComSetOptionPacket) commandPacket, connectionSession);
             case COM_RESET_CONNECTION:
                 return new MySQLComResetConnectionExecutor(connectionSession);
+            case COM_LOCAL_INFILE_DATA:
+                return new MySQLComLocalInfileDataExecutor((MySQLComLocalInfileDataPacket) commandPacket, connectionSession);
             default:
                 return new MySQLUnsupportedCommandExecutor(commandPacketType);
         }
     }
+    
+    private static CommandExecutor getComQueryExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
+        if (MySQLLoadDataCommand.isLoadData(packet.getSQL())) {
+            Optional<MySQLLoadDataCommand> loadDataCommand = MySQLLoadDataCommand.parse(packet.getSQL(), ProxySQLComQueryParser.parse(packet.getSQL(), DATABASE_TYPE, connectionSession));
+            if (loadDataCommand.isPresent()) {
+                return new MySQLLoadDataLocalInfileExecutor(loadDataCommand.get(), connectionSession);
+            }
+        }
+        return new MySQLComQueryPacketExecutor(packet, connectionSession);
+    }
 }
@@ -33,6 +33,7 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.e
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.prepare.MySQLComStmtPreparePacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.binary.reset.MySQLComStmtResetPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.fieldlist.MySQLComFieldListPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLComLocalInfileDataPacket;
 import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.db.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
@@ -81,6 +82,8 @@ public final class MySQLCommandPacketFactory {
                 return new MySQLComPingPacket();
             case COM_RESET_CONNECTION:
                 return new MySQLComResetConnectionPacket();
+            case COM_LOCAL_INFILE_DATA:
+                return new MySQLComLocalInfileDataPacket(payload);
             default:
                 return new MySQLUnsupportedCommandPacket(commandPacketType);
         }
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLComLocalInfileDataPacket;
+import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataContext.LoadDataResult;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Command local infile data executor for MySQL.
+ * 
+ * <p>Nothing is responded until the empty packet which marks the end of file.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLComLocalInfileDataExecutor implements CommandExecutor {
+    
+    private final MySQLComLocalInfileDataPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        if (!packet.isEndOfFile()) {
+            MySQLLoadDataContextRegistry.getInstance().find(connectionSession.getConnectionId()).ifPresent(optional -> optional.write(packet.getData()));
+            return Collections.emptyList();
+        }
+        Optional<MySQLLoadDataContext> loadDataContext = MySQLLoadDataContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        if (!loadDataContext.isPresent()) {
+            return Collections.emptyList();
+        }
+        LoadDataResult result = loadDataContext.get().finish();
+        String info = String.format("Records: %d  Deleted: %d  Skipped: %d  Warnings: 0",
+                result.getRecords(), Math.max(result.getAffectedRows() - result.getRecords(), 0L), Math.max(result.getRecords() - result.getAffectedRows(), 0L));
+        return Collections.singleton(new MySQLOKPacket(result.getAffectedRows(), 0L, ServerStatusFlagCalculator.calculateFor(connectionSession), 0, info));
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCharsetException;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * MySQL load data command.
+ * 
+ * <p>Only {@code LOAD DATA LOCAL INFILE} is handled here, file contents are sent by client and loaded by proxy.
+ * {@code LOAD DATA INFILE} reads file of server host, so that it is executed as ordinary statement.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class MySQLLoadDataCommand {
+    
+    private static final String LOAD_KEYWORD = "LOAD";
+    
+    private final String fileName;
+    
+    private final String databaseName;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final DuplicateHandling duplicateHandling;
+    
+    private final String charsetName;
+    
+    private final String fieldTerminator;
+    
+    private final String enclosure;
+    
+    private final String escape;
+    
+    private final String lineTerminator;
+    
+    private final long ignoredLines;
+    
+    /**
+     * Judge whether SQL may be load data statement.
+     *
+     * @param sql SQL
+     * @return may be load data statement or not
+     */
+    public static boolean isLoadData(final String sql) {
+        int index = 0;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return sql.regionMatches(true, index, LOAD_KEYWORD, 0, LOAD_KEYWORD.length());
+    }
+    
+    /**
+     * Parse load data command.
+     *
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @return load data command, empty if the statement is not load data local infile
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static Optional<MySQLLoadDataCommand> parse(final String sql, final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof MySQLLoadDataStatement) || null == ((MySQLLoadDataStatement) sqlStatement).getTableSegment()) {
+            return Optional.empty();
+        }
+        SimpleTableSegment tableSegment = ((MySQLLoadDataStatement) sqlStatement).getTableSegment();
+        List<Token> headTokens = new Tokenizer(sql.substring(0, tableSegment.getStartIndex())).tokenize();
+        if (!containsKeyword(headTokens, "LOCAL")) {
+            return Optional.empty();
+        }
+        String fileName = null;
+        DuplicateHandling duplicateHandling = DuplicateHandling.IGNORE;
+        for (int i = 0; i < headTokens.size(); i++) {
+            if (headTokens.get(i).is("INFILE") && i + 1 < headTokens.size()) {
+                fileName = headTokens.get(i + 1).value;
+            } else if (headTokens.get(i).is("REPLACE")) {
+                duplicateHandling = DuplicateHandling.REPLACE;
+            }
+        }
+        Options options = new Options();
+        options.parse(new Tokenizer(sql.substring(tableSegment.getStopIndex() + 1)).tokenize());
+        ShardingSpherePreconditions.checkState(!options.fieldTerminator.isEmpty() && !options.lineTerminator.isEmpty(),
+                () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE with empty field or line terminator"));
+        ShardingSpherePreconditions.checkState(options.enclosure.length() <= 1 && options.escape.length() <= 1,
+                () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE with multi-character enclosure or escape"));
+        String databaseName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue()).orElse(null);
+        return Optional.of(new MySQLLoadDataCommand(fileName, databaseName, tableSegment.getTableName().getIdentifier().getValue(), options.columnNames, duplicateHandling,
+                options.charsetName, options.fieldTerminator, options.enclosure, options.escape, options.lineTerminator, options.ignoredLines));
+    }
+    
+    private static boolean containsKeyword(final List<Token> tokens, final String keyword) {
+        for (Token each : tokens) {
+            if (each.is(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get charset of file contents.
+     *
+     * @param connectionCharset charset of connection
+     * @return charset of file contents
+     * @throws UnknownCharsetException unknown charset exception
+     */
+    public Charset getCharset(final Charset connectionCharset) {
+        if (null == charsetName) {
+            return connectionCharset;
+        }
+        if (charsetName.toLowerCase().startsWith("utf8")) {
+            return StandardCharsets.UTF_8;
+        }
+        try {
+            return Charset.forName(charsetName);
+        } catch (final IllegalArgumentException ignored) {
+            throw new UnknownCharsetException(charsetName);
+        }
+    }
+    
+    /**
+     * Create bulk load router of load data table.
+     *
+     * @param connectionSession connection session
+     * @return bulk load router
+     * @throws NoDatabaseSelectedException no database selected exception
+     */
+    public BulkLoadRouter createRouter(final ConnectionSession connectionSession) {
+        String actualDatabaseName = null == databaseName ? connectionSession.getDatabaseName() : databaseName;
+        ShardingSpherePreconditions.checkState(!Strings.isNullOrEmpty(actualDatabaseName), NoDatabaseSelectedException::new);
+        ShardingSphereDatabase database = ProxyContext.getInstance().getContextManager().getDatabase(actualDatabaseName);
+        String schemaName = new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(actualDatabaseName);
+        return new BulkLoadRouter(database, schemaName, tableName, columnNames, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+    }
+    
+    /**
+     * Duplicate handling of rows which duplicate existing rows on unique key.
+     */
+    public enum DuplicateHandling {
+        
+        IGNORE, REPLACE
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Token {
+        
+        private final String value;
+        
+        private final boolean quoted;
+        
+        private boolean is(final String keyword) {
+            return !quoted && value.equalsIgnoreCase(keyword);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Tokenizer {
+        
+        private final String sql;
+        
+        private List<Token> tokenize() {
+            List<Token> result = new ArrayList<>();
+            int index = 0;
+            while (index < sql.length()) {
+                char current = sql.charAt(index);
+                if (Character.isWhitespace(current) || ';' == current) {
+                    index++;
+                } else if (sql.startsWith("/*", index)) {
+                    int stopIndex = sql.indexOf("*/", index + 2);
+                    index = stopIndex < 0 ? sql.length() : stopIndex + 2;
+                } else if ('#' == current || sql.startsWith("-- ", index)) {
+                    int stopIndex = sql.indexOf('\n', index);
+                    index = stopIndex < 0 ? sql.length() : stopIndex + 1;
+                } else if ('(' == current || ')' == current || ',' == current || '@' == current || '=' == current) {
+                    result.add(new Token(String.valueOf(current), false));
+                    index++;
+                } else if ('\'' == current || '"' == current || '`' == current) {
+                    index = readQuoted(index, current, result);
+                } else {
+                    int stopIndex = index;
+                    while (stopIndex < sql.length() && isWordCharacter(sql.charAt(stopIndex))) {
+                        stopIndex++;
+                    }
+                    stopIndex = Math.max(stopIndex, index + 1);
+                    result.add(new Token(sql.substring(index, stopIndex), false));
+                    index = stopIndex;
+                }
+            }
+            return result;
+        }
+        
+        private boolean isWordCharacter(final char value) {
+            return Character.isLetterOrDigit(value) || '_' == value || '$' == value || '.' == value;
+        }
+        
+        private int readQuoted(final int startIndex, final char quoteCharacter, final List<Token> tokens) {
+            StringBuilder value = new StringBuilder();
+            int index = startIndex + 1;
+            while (index < sql.length()) {
+                char current = sql.charAt(index);
+                if (quoteCharacter == current) {
+                    if (index + 1 < sql.length() && quoteCharacter == sql.charAt(index + 1)) {
+                        value.append(current);
+                        index += 2;
+                        continue;
+                    }
+                    index++;
+                    break;
+                }
+                if ('`' != quoteCharacter && '\\' == current && index + 1 < sql.length()) {
+                    value.append(unescape(sql.charAt(index + 1)));
+                    index += 2;
+                    continue;
+                }
+                value.append(current);
+                index++;
+            }
+            tokens.add(new Token(value.toString(), true));
+            return index;
+        }
+        
+        private char unescape(final char value) {
+            switch (value) {
+                case '0':
+                    return '\0';
+                case 'b':
+                    return '\b';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 't':
+                    return '\t';
+                case 'Z':
+                    return 0x1A;
+                default:
+                    return value;
+            }
+        }
+    }
+    
+    private static final class Options {
+        
+        private final List<String> columnNames = new ArrayList<>();
+        
+        private String charsetName;
+        
+        private String fieldTerminator = "\t";
+        
+        private String enclosure = "";
+        
+        private String escape = "\\";
+        
+        private String lineTerminator = "\n";
+        
+        private long ignoredLines;
+        
+        private void parse(final List<Token> tokens) {
+            int index = 0;
+            boolean linesClause = false;
+            while (index < tokens.size()) {
+                Token token = tokens.get(index++);
+                ShardingSpherePreconditions.checkState(!token.is("PARTITION") && !token.is("SET") && !token.is("@") && !token.is("STARTING"),
+                        () -> new UnsupportedSQLOperationException(String.format("LOAD DATA LOCAL INFILE with `%s`", token.value)));
+                if (token.is("CHARACTER") && index + 1 < tokens.size()) {
+                    charsetName = tokens.get(index + 1).value;
+                    index += 2;
+                } else if (token.is("CHARSET") && index < tokens.size()) {
+                    charsetName = tokens.get(index++).value;
+                } else if (token.is("FIELDS") || token.is("COLUMNS")) {
+                    linesClause = false;
+                } else if (token.is("LINES") && index < tokens.size() && tokens.get(index).is("TERMINATED")) {
+                    linesClause = true;
+                } else if ((token.is("TERMINATED") || token.is("ENCLOSED") || token.is("ESCAPED")) && index + 1 < tokens.size()) {
+                    setOption(token, linesClause, tokens.get(index + 1).value);
+                    index += 2;
+                } else if (token.is("IGNORE") && index < tokens.size()) {
+                    ignoredLines = Long.parseLong(tokens.get(index++).value);
+                } else if (token.is("(")) {
+                    index = parseColumnNames(tokens, index);
+                }
+            }
+        }
+        
+        private void setOption(final Token token, final boolean linesClause, final String value) {
+            if (token.is("ENCLOSED")) {
+                enclosure = value;
+            } else if (token.is("ESCAPED")) {
+                escape = value;
+            } else if (linesClause) {
+                lineTerminator = value;
+            } else {
+                fieldTerminator = value;
+            }
+        }
+        
+        private int parseColumnNames(final List<Token> tokens, final int startIndex) {
+            int index = startIndex;
+            while (index < tokens.size() && !tokens.get(index).is(")")) {
+                Token token = tokens.get(index++);
+                ShardingSpherePreconditions.checkState(!token.is("@"), () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE with user variables"));
+                if (!token.is(",")) {
+                    columnNames.add(token.value);
+                }
+            }
+            return index + 1;
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import io.netty.buffer.ByteBuf;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.SQLExceptionTransformEngine;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.TooFewRecordsException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.TooManyRecordsException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataCommand.DuplicateHandling;
+
+import java.nio.charset.Charset;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MySQL load data context.
+ * 
+ * <p>Rows are routed one by one and inserted into their data nodes by batched {@code INSERT} statements, each data node owns a dedicated prepared statement.
+ * Connections are held by the database connection manager of the session, one per data source, inside a transaction.
+ * At most one batch of rows is kept for each data node, the transaction is committed after the whole file is loaded successfully.</p>
+ * 
+ * <p>MySQL client keeps sending file contents after any error, so that the first error is kept and thrown after the end of file.</p>
+ */
+public final class MySQLLoadDataContext {
+    
+    private static final int BATCH_SIZE = 1000;
+    
+    private static final DatabaseType DATABASE_TYPE = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    private final MySQLLoadDataCommand loadDataCommand;
+    
+    private final BulkLoadRouter router;
+    
+    private final ProxyDatabaseConnectionManager databaseConnectionManager;
+    
+    private final BackendTransactionManager transactionManager;
+    
+    private final MySQLLoadDataRowParser rowParser;
+    
+    private final int columnCount;
+    
+    private final Map<DataNode, LoadDataTarget> targets = new LinkedHashMap<>();
+    
+    private long records;
+    
+    private SQLException failure;
+    
+    public MySQLLoadDataContext(final MySQLLoadDataCommand loadDataCommand, final BulkLoadRouter router,
+                                final ProxyDatabaseConnectionManager databaseConnectionManager, final BackendTransactionManager transactionManager, final Charset charset) {
+        this.loadDataCommand = loadDataCommand;
+        this.router = router;
+        this.databaseConnectionManager = databaseConnectionManager;
+        this.transactionManager = transactionManager;
+        rowParser = new MySQLLoadDataRowParser(loadDataCommand, charset);
+        columnCount = loadDataCommand.getColumnNames().isEmpty() ? router.getColumnCount() : loadDataCommand.getColumnNames().size();
+        ShardingSpherePreconditions.checkState(columnCount > 0,
+                () -> new UnsupportedSQLOperationException(String.format("LOAD DATA LOCAL INFILE into table `%s` without column list and metadata", loadDataCommand.getTableName())));
+    }
+    
+    /**
+     * Write file contents.
+     * 
+     * <p>File contents are discarded if any error occurred before.</p>
+     *
+     * @param data file contents
+     */
+    public void write(final ByteBuf data) {
+        if (null != failure) {
+            return;
+        }
+        try {
+            rowParser.parse(data, this::writeRow);
+            // CHECKSTYLE:OFF
+        } catch (final Exception ex) {
+            // CHECKSTYLE:ON
+            failure = SQLExceptionTransformEngine.toSQLException(ex, DATABASE_TYPE);
+            close();
+        }
+    }
+    
+    private void writeRow(final List<String> fields) throws SQLException {
+        records++;
+        ShardingSpherePreconditions.checkState(fields.size() >= columnCount, () -> new TooFewRecordsException(records));
+        ShardingSpherePreconditions.checkState(fields.size() <= columnCount, () -> new TooManyRecordsException(records));
+        String[] routingValues = new String[router.getRoutingColumnIndexes().length];
+        for (int i = 0; i < routingValues.length; i++) {
+            routingValues[i] = fields.get(router.getRoutingColumnIndexes()[i]);
+        }
+        DataNode dataNode = router.route(routingValues);
+        LoadDataTarget target = targets.get(dataNode);
+        if (null == target) {
+            String actualDataSourceName = router.getActualDataSourceName(dataNode.getDataSourceName());
+            target = new LoadDataTarget(databaseConnectionManager.getConnections(actualDataSourceName, 0, 1, ConnectionMode.MEMORY_STRICTLY).get(0).prepareStatement(getInsertSQL(dataNode.getTableName())));
+            targets.put(dataNode, target);
+        }
+        target.add(fields);
+    }
+    
+    private String getInsertSQL(final String actualTableName) {
+        StringBuilder result = new StringBuilder(DuplicateHandling.REPLACE == loadDataCommand.getDuplicateHandling() ? "REPLACE" : "INSERT IGNORE");
+        result.append(" INTO ").append(quote(actualTableName));
+        if (!loadDataCommand.getColumnNames().isEmpty()) {
+            result.append(" (");
+            for (int i = 0; i < columnCount; i++) {
+                result.append(0 == i ? "" : ", ").append(quote(loadDataCommand.getColumnNames().get(i)));
+            }
+            result.append(')');
+        }
+        result.append(" VALUES (");
+        for (int i = 0; i < columnCount; i++) {
+            result.append(0 == i ? "?" : ", ?");
+        }
+        return result.append(')').toString();
+    }
+    
+    private String quote(final String identifier) {
+        return "`" + identifier.replace("`", "``") + "`";
+    }
+    
+    /**
+     * Finish loading and commit all data nodes.
+     *
+     * @return load data result
+     * @throws SQLException SQL exception
+     */
+    public LoadDataResult finish() throws SQLException {
+        boolean succeed = false;
+        try {
+            if (null != failure) {
+                throw failure;
+            }
+            rowParser.finish(this::writeRow);
+            long affectedRows = 0L;
+            for (LoadDataTarget each : targets.values()) {
+                affectedRows += each.flush();
+            }
+            close();
+            transactionManager.commit();
+            succeed = true;
+            return new LoadDataResult(records, affectedRows);
+        } finally {
+            if (!succeed) {
+                cancel();
+            }
+        }
+    }
+    
+    /**
+     * Cancel loading and roll back all data nodes.
+     */
+    public void cancel() {
+        close();
+        try {
+            transactionManager.rollback();
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    private void close() {
+        for (LoadDataTarget each : targets.values()) {
+            each.close();
+        }
+        targets.clear();
+    }
+    
+    /**
+     * Load data result.
+     */
+    @RequiredArgsConstructor
+    @Getter
+    public static final class LoadDataResult {
+        
+        private final long records;
+        
+        private final long affectedRows;
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LoadDataTarget {
+        
+        private final PreparedStatement preparedStatement;
+        
+        private int batchedRows;
+        
+        private long affectedRows;
+        
+        void add(final List<String> fields) throws SQLException {
+            int index = 1;
+            for (String each : fields) {
+                preparedStatement.setObject(index++, each);
+            }
+            preparedStatement.addBatch();
+            if (++batchedRows >= BATCH_SIZE) {
+                flush();
+            }
+        }
+        
+        long flush() throws SQLException {
+            if (batchedRows > 0) {
+                for (int each : preparedStatement.executeBatch()) {
+                    affectedRows += Statement.SUCCESS_NO_INFO == each ? 1 : each;
+                }
+                batchedRows = 0;
+            }
+            return affectedRows;
+        }
+        
+        void close() {
+            try {
+                preparedStatement.close();
+            } catch (final SQLException ignore) {
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.load.MySQLLocalInfileRequestPacket;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+
+import java.nio.charset.Charset;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Load data local infile executor for MySQL, which requests file contents from client.
+ * 
+ * <p>A transaction is begun after the load data context created, so that the connections of the loading are held by the session until the whole file is received,
+ * and no transaction is left if the load data context can not be created.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLLoadDataLocalInfileExecutor implements CommandExecutor {
+    
+    private final MySQLLoadDataCommand loadDataCommand;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        ShardingSpherePreconditions.checkState(!connectionSession.getTransactionStatus().isInTransaction(),
+                () -> new UnsupportedSQLOperationException("LOAD DATA LOCAL INFILE inside transaction"));
+        BulkLoadRouter router = loadDataCommand.createRouter(connectionSession);
+        Charset charset = loadDataCommand.getCharset(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        BackendTransactionManager transactionManager = new BackendTransactionManager(connectionSession.getDatabaseConnectionManager());
+        MySQLLoadDataContext loadDataContext = new MySQLLoadDataContext(loadDataCommand, router, connectionSession.getDatabaseConnectionManager(), transactionManager, charset);
+        transactionManager.begin();
+        MySQLLoadDataContextRegistry.getInstance().register(connectionSession.getConnectionId(), loadDataContext);
+        return Collections.singleton(new MySQLLocalInfileRequestPacket(loadDataCommand.getFileName()));
+    }
+}
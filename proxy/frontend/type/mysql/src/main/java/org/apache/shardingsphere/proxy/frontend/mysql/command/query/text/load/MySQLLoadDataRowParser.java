@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * MySQL load data row parser.
+ * 
+ * <p>Split file contents of {@code LOAD DATA LOCAL INFILE} into rows and decode their fields with the field and line options of the statement.
+ * File contents arrive in packets which may contain partial rows, partial rows are kept until the rest of them arrive.</p>
+ */
+public final class MySQLLoadDataRowParser {
+    
+    private static final int NONE = Integer.MIN_VALUE;
+    
+    private final byte[] fieldTerminator;
+    
+    private final byte[] lineTerminator;
+    
+    private final int enclosure;
+    
+    private final int escape;
+    
+    private final Charset charset;
+    
+    private final ByteBuf buffer = Unpooled.buffer();
+    
+    private final ByteArrayOutputStream fieldBytes = new ByteArrayOutputStream();
+    
+    private long remainingIgnoredLines;
+    
+    public MySQLLoadDataRowParser(final MySQLLoadDataCommand loadDataCommand, final Charset charset) {
+        fieldTerminator = loadDataCommand.getFieldTerminator().getBytes(charset);
+        lineTerminator = loadDataCommand.getLineTerminator().getBytes(charset);
+        enclosure = loadDataCommand.getEnclosure().isEmpty() ? NONE : loadDataCommand.getEnclosure().getBytes(charset)[0];
+        escape = loadDataCommand.getEscape().isEmpty() ? NONE : loadDataCommand.getEscape().getBytes(charset)[0];
+        this.charset = charset;
+        remainingIgnoredLines = loadDataCommand.getIgnoredLines();
+    }
+    
+    /**
+     * Parse file contents.
+     *
+     * @param data file contents, which may contain partial rows
+     * @param handler row handler
+     * @throws SQLException SQL exception
+     */
+    public void parse(final ByteBuf data, final RowHandler handler) throws SQLException {
+        buffer.writeBytes(data);
+        handleRows(false, handler);
+        buffer.discardReadBytes();
+    }
+    
+    /**
+     * Finish parsing, the last row without line terminator will be handled.
+     *
+     * @param handler row handler
+     * @throws SQLException SQL exception
+     */
+    public void finish(final RowHandler handler) throws SQLException {
+        handleRows(true, handler);
+        buffer.clear();
+    }
+    
+    private void handleRows(final boolean endOfFile, final RowHandler handler) throws SQLException {
+        while (buffer.isReadable()) {
+            int rowStartIndex = buffer.readerIndex();
+            List<String> fields = new ArrayList<>();
+            int rowStopIndex = scanRow(rowStartIndex, endOfFile, fields);
+            if (rowStopIndex < 0) {
+                buffer.readerIndex(rowStartIndex);
+                return;
+            }
+            buffer.readerIndex(rowStopIndex);
+            if (remainingIgnoredLines > 0) {
+                remainingIgnoredLines--;
+            } else {
+                handler.handle(fields);
+            }
+        }
+    }
+    
+    private int scanRow(final int startIndex, final boolean endOfFile, final List<String> fields) {
+        int index = startIndex;
+        while (true) {
+            boolean enclosed = NONE != enclosure && index < buffer.writerIndex() && enclosure == buffer.getByte(index);
+            int fieldStopIndex = enclosed ? scanEnclosedField(index + 1, endOfFile) : scanField(index, endOfFile);
+            if (fieldStopIndex < 0) {
+                return -1;
+            }
+            fields.add(enclosed ? decodeEnclosedField(index + 1, fieldStopIndex) : decodeField(index, fieldStopIndex));
+            index = enclosed ? fieldStopIndex + 1 : fieldStopIndex;
+            if (index >= buffer.writerIndex() || matches(index, lineTerminator)) {
+                return Math.min(index + lineTerminator.length, buffer.writerIndex());
+            }
+            if (matches(index, fieldTerminator)) {
+                index += fieldTerminator.length;
+            }
+        }
+    }
+    
+    private int scanField(final int startIndex, final boolean endOfFile) {
+        int index = startIndex;
+        while (index < buffer.writerIndex()) {
+            if (matches(index, fieldTerminator) || matches(index, lineTerminator)) {
+                return index;
+            }
+            index += escape == buffer.getByte(index) ? 2 : 1;
+        }
+        return endOfFile ? buffer.writerIndex() : -1;
+    }
+    
+    private int scanEnclosedField(final int startIndex, final boolean endOfFile) {
+        int index = startIndex;
+        while (index < buffer.writerIndex()) {
+            byte current = buffer.getByte(index);
+            if (escape == current) {
+                index += 2;
+                continue;
+            }
+            if (enclosure == current) {
+                if (index + 1 < buffer.writerIndex() && enclosure == buffer.getByte(index + 1)) {
+                    index += 2;
+                    continue;
+                }
+                if (index + 1 >= buffer.writerIndex() && !endOfFile) {
+                    return -1;
+                }
+                if (index + 1 >= buffer.writerIndex() || matches(index + 1, fieldTerminator) || matches(index + 1, lineTerminator)) {
+                    return index;
+                }
+            }
+            index++;
+        }
+        return endOfFile ? buffer.writerIndex() : -1;
+    }
+    
+    private boolean matches(final int index, final byte[] terminator) {
+        if (index + terminator.length > buffer.writerIndex()) {
+            return false;
+        }
+        for (int i = 0; i < terminator.length; i++) {
+            if (terminator[i] != buffer.getByte(index + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String decodeField(final int startIndex, final int stopIndex) {
+        if (NONE != escape && 2 == stopIndex - startIndex && escape == buffer.getByte(startIndex) && 'N' == buffer.getByte(startIndex + 1)) {
+            return null;
+        }
+        String result = decode(startIndex, stopIndex);
+        return NONE != enclosure && "NULL".equals(result) ? null : result;
+    }
+    
+    private String decodeEnclosedField(final int startIndex, final int stopIndex) {
+        fieldBytes.reset();
+        int index = startIndex;
+        while (index < stopIndex) {
+            byte current = buffer.getByte(index++);
+            if (enclosure == current && index < stopIndex && enclosure == buffer.getByte(index)) {
+                index++;
+            }
+            if (escape == current && index < stopIndex) {
+                fieldBytes.write(unescape(buffer.getByte(index++)));
+            } else {
+                fieldBytes.write(current);
+            }
+        }
+        return new String(fieldBytes.toByteArray(), charset);
+    }
+    
+    private String decode(final int startIndex, final int stopIndex) {
+        fieldBytes.reset();
+        int index = startIndex;
+        while (index < stopIndex) {
+            byte current = buffer.getByte(index++);
+            if (escape == current && index < stopIndex) {
+                fieldBytes.write(unescape(buffer.getByte(index++)));
+            } else {
+                fieldBytes.write(current);
+            }
+        }
+        return new String(fieldBytes.toByteArray(), charset);
+    }
+    
+    private byte unescape(final byte escaped) {
+        switch (escaped) {
+            case '0':
+                return 0;
+            case 'b':
+                return '\b';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'Z':
+                return 0x1A;
+            default:
+                return escaped;
+        }
+    }
+    
+    /**
+     * Row handler.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        
+        /**
+         * Handle row.
+         *
+         * @param fields decoded fields of row, null means SQL NULL
+         * @throws SQLException SQL exception
+         */
+        void handle(List<String> fields) throws SQLException;
+    }
+}
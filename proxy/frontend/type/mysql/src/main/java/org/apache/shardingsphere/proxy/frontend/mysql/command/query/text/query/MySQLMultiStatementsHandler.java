@@ -188,8 +188,8 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     
     private UpdateResponseHeader executeBatchedStatements(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) throws SQLException {
         boolean isExceptionThrown = SQLExecutorExceptionHandler.isExceptionThrown();
-        ResourceMetaData resourceMetaData = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName()).getResourceMetaData();
-        JDBCExecutorCallback<int[]> callback = new BatchedJDBCExecutorCallback(resourceMetaData, sqlStatementSample, isExceptionThrown);
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        JDBCExecutorCallback<int[]> callback = new BatchedJDBCExecutorCallback(database.getName(), database.getResourceMetaData(), sqlStatementSample, isExceptionThrown);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
         int updated = 0;
         for (int[] eachResult : executeResults) {
@@ -203,8 +203,8 @@ public final class MySQLMultiStatementsHandler implements ProxyBackendHandler {
     
     private static final class BatchedJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        private BatchedJDBCExecutorCallback(final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
-            super(TypedSPILoader.getService(DatabaseType.class, "MySQL"), resourceMetaData, sqlStatement, isExceptionThrown);
+        private BatchedJDBCExecutorCallback(final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement, final boolean isExceptionThrown) {
+            super(TypedSPILoader.getService(DatabaseType.class, "MySQL"), databaseName, resourceMetaData, sqlStatement, isExceptionThrown);
         }
         
         @Override
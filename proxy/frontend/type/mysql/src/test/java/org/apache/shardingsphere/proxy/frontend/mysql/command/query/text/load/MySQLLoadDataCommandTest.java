@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.exception.mysql.exception.UnknownCharsetException;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load.MySQLLoadDataCommand.DuplicateHandling;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MySQLLoadDataCommandTest {
+    
+    @Test
+    void assertIsLoadData() {
+        assertTrue(MySQLLoadDataCommand.isLoadData("  load data local infile 'a.csv' INTO TABLE t_order"));
+        assertFalse(MySQLLoadDataCommand.isLoadData("SELECT 1"));
+    }
+    
+    @Test
+    void assertParseWithDefaultOptions() {
+        String sql = "LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order";
+        Optional<MySQLLoadDataCommand> actual = MySQLLoadDataCommand.parse(sql, createLoadDataStatement(sql));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getFileName(), is("/tmp/t_order.txt"));
+        assertThat(actual.get().getDatabaseName(), nullValue());
+        assertThat(actual.get().getTableName(), is("t_order"));
+        assertThat(actual.get().getColumnNames(), is(Collections.emptyList()));
+        assertThat(actual.get().getDuplicateHandling(), is(DuplicateHandling.IGNORE));
+        assertThat(actual.get().getFieldTerminator(), is("\t"));
+        assertThat(actual.get().getEnclosure(), is(""));
+        assertThat(actual.get().getEscape(), is("\\"));
+        assertThat(actual.get().getLineTerminator(), is("\n"));
+        assertThat(actual.get().getIgnoredLines(), is(0L));
+        assertThat(actual.get().getCharset(StandardCharsets.ISO_8859_1), is(StandardCharsets.ISO_8859_1));
+    }
+    
+    @Test
+    void assertParseWithFieldAndLineOptions() {
+        String sql = "LOAD DATA LOCAL INFILE \"/tmp/t_order.csv\" REPLACE INTO TABLE t_order CHARACTER SET utf8mb4 "
+                + "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' ESCAPED BY '' LINES TERMINATED BY '\\r\\n' IGNORE 1 LINES (order_id, `user_id`, status)";
+        Optional<MySQLLoadDataCommand> actual = MySQLLoadDataCommand.parse(sql, createLoadDataStatement(sql));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getFileName(), is("/tmp/t_order.csv"));
+        assertThat(actual.get().getColumnNames(), is(Arrays.asList("order_id", "user_id", "status")));
+        assertThat(actual.get().getDuplicateHandling(), is(DuplicateHandling.REPLACE));
+        assertThat(actual.get().getFieldTerminator(), is(","));
+        assertThat(actual.get().getEnclosure(), is("\""));
+        assertThat(actual.get().getEscape(), is(""));
+        assertThat(actual.get().getLineTerminator(), is("\r\n"));
+        assertThat(actual.get().getIgnoredLines(), is(1L));
+        assertThat(actual.get().getCharset(StandardCharsets.ISO_8859_1), is(StandardCharsets.UTF_8));
+    }
+    
+    @Test
+    void assertParseWithoutLocal() {
+        String sql = "LOAD DATA INFILE '/tmp/t_order.txt' INTO TABLE t_order";
+        assertFalse(MySQLLoadDataCommand.parse(sql, createLoadDataStatement(sql)).isPresent());
+    }
+    
+    @Test
+    void assertParseWithUserVariables() {
+        String sql = "LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order (order_id, @status) SET status = UPPER(@status)";
+        assertThrows(UnsupportedSQLOperationException.class, () -> MySQLLoadDataCommand.parse(sql, createLoadDataStatement(sql)));
+    }
+    
+    @Test
+    void assertGetUnknownCharset() {
+        String sql = "LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order CHARACTER SET unknown_charset";
+        Optional<MySQLLoadDataCommand> actual = MySQLLoadDataCommand.parse(sql, createLoadDataStatement(sql));
+        assertTrue(actual.isPresent());
+        assertThrows(UnknownCharsetException.class, () -> actual.get().getCharset(StandardCharsets.UTF_8));
+    }
+    
+    private MySQLLoadDataStatement createLoadDataStatement(final String sql) {
+        int startIndex = sql.indexOf("t_order", sql.indexOf("INTO TABLE"));
+        return new MySQLLoadDataStatement(new SimpleTableSegment(new TableNameSegment(startIndex, startIndex + "t_order".length() - 1, new IdentifierValue("t_order"))));
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLLoadDataLocalInfileExecutorTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Mock
+    private BulkLoadRouter router;
+    
+    @Test
+    void assertExecuteWithoutBeginTransactionWhenCreateLoadDataContextFailed() {
+        String sql = "LOAD DATA LOCAL INFILE '/tmp/t_order.txt' INTO TABLE t_order";
+        int startIndex = sql.indexOf("t_order", sql.indexOf("INTO TABLE"));
+        TableNameSegment tableName = new TableNameSegment(startIndex, startIndex + "t_order".length() - 1, new IdentifierValue("t_order"));
+        MySQLLoadDataStatement loadDataStatement = new MySQLLoadDataStatement(new SimpleTableSegment(tableName));
+        MySQLLoadDataCommand loadDataCommand = spy(MySQLLoadDataCommand.parse(sql, loadDataStatement).orElseThrow(IllegalStateException::new));
+        doReturn(router).when(loadDataCommand).createRouter(connectionSession);
+        when(connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(connectionSession.getConnectionId()).thenReturn(1);
+        try (MockedConstruction<BackendTransactionManager> mockedConstruction = mockConstruction(BackendTransactionManager.class)) {
+            assertThrows(UnsupportedSQLOperationException.class, () -> new MySQLLoadDataLocalInfileExecutor(loadDataCommand, connectionSession).execute());
+            assertThat(mockedConstruction.constructed().size(), is(1));
+            verify(mockedConstruction.constructed().get(0), never()).begin();
+        }
+        assertFalse(MySQLLoadDataContextRegistry.getInstance().find(connectionSession.getConnectionId()).isPresent());
+    }
+}
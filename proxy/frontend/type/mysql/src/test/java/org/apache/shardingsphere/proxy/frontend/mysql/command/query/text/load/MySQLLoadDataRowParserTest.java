@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query.text.load;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.mysql.dml.MySQLLoadDataStatement;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class MySQLLoadDataRowParserTest {
+    
+    private final List<List<String>> rows = new LinkedList<>();
+    
+    @Test
+    void assertParseRowsAcrossPackets() throws SQLException {
+        MySQLLoadDataRowParser parser = new MySQLLoadDataRowParser(createLoadDataCommand("LOAD DATA LOCAL INFILE 'a.txt' INTO TABLE t_order"), StandardCharsets.UTF_8);
+        parser.parse(Unpooled.wrappedBuffer("1\t10\tfoo\n2\t2".getBytes(StandardCharsets.UTF_8)), rows::add);
+        parser.parse(Unpooled.wrappedBuffer("0\tb\\tar\n3\t\\N\t\n4\t40\tlast".getBytes(StandardCharsets.UTF_8)), rows::add);
+        assertThat(rows.size(), is(3));
+        parser.finish(rows::add);
+        assertThat(rows.get(0), is(Arrays.asList("1", "10", "foo")));
+        assertThat(rows.get(1), is(Arrays.asList("2", "20", "b\tar")));
+        assertThat(rows.get(2), is(Arrays.asList("3", null, "")));
+        assertThat(rows.get(3), is(Arrays.asList("4", "40", "last")));
+    }
+    
+    @Test
+    void assertParseEnclosedRowsWithMultiByteTerminators() throws SQLException {
+        String sql = "LOAD DATA LOCAL INFILE 'a.csv' INTO TABLE t_order FIELDS TERMINATED BY '||' ENCLOSED BY '\"' LINES TERMINATED BY '\\r\\n' IGNORE 1 LINES";
+        MySQLLoadDataRowParser parser = new MySQLLoadDataRowParser(createLoadDataCommand(sql), StandardCharsets.UTF_8);
+        parser.parse(Unpooled.wrappedBuffer("order_id||status\r\n1||\"a||\"\"b\"\"\r".getBytes(StandardCharsets.UTF_8)), rows::add);
+        parser.parse(Unpooled.wrappedBuffer("\nc\"\r\n2||NULL\r\n".getBytes(StandardCharsets.UTF_8)), rows::add);
+        parser.finish(rows::add);
+        assertThat(rows.size(), is(2));
+        assertThat(rows.get(0), is(Arrays.asList("1", "a||\"b\"\r\nc")));
+        assertThat(rows.get(1), is(Arrays.asList("2", null)));
+    }
+    
+    private MySQLLoadDataCommand createLoadDataCommand(final String sql) {
+        int startIndex = sql.indexOf("t_order");
+        SimpleTableSegment tableSegment = new SimpleTableSegment(new TableNameSegment(startIndex, startIndex + "t_order".length() - 1, new IdentifierValue("t_order")));
+        return MySQLLoadDataCommand.parse(sql, new MySQLLoadDataStatement(tableSegment)).get();
+    }
+}
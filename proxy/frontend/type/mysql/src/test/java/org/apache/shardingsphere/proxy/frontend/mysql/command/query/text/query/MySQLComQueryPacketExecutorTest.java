@@ -24,13 +24,16 @@ import org.apache.shardingsphere.db.protocol.mysql.packet.command.query.text.que
 import org.apache.shardingsphere.db.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.config.props.KernelExecutorMode;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereColumn;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.apache.shardingsphere.logging.rule.LoggingRule;
 import org.apache.shardingsphere.logging.rule.builder.DefaultLoggingRuleConfigurationBuilder;
@@ -40,6 +43,7 @@ import org.apache.shardingsphere.parser.rule.SQLParserRule;
 import org.apache.shardingsphere.parser.rule.builder.DefaultSQLParserRuleConfigurationBuilder;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
@@ -54,7 +58,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.MockedStatic;
 import org.mockito.internal.configuration.plugins.Plugins;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.plugins.MemberAccessor;
@@ -71,8 +77,11 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -137,6 +146,28 @@ class MySQLComQueryPacketExecutorTest {
         assertThat(actualPackets.iterator().next(), instanceOf(MySQLOKPacket.class));
     }
     
+    @Test
+    void assertNewInstanceWithSQLTemplate() throws SQLException {
+        when(connectionSession.getDatabaseName()).thenReturn("foo_db");
+        when(connectionSession.getDefaultDatabaseName()).thenReturn("foo_db");
+        when(packet.getSQL()).thenReturn("select v from t where id = 1");
+        when(packet.getHintValueContext()).thenReturn(new HintValueContext());
+        ContextManager contextManager = mock(ContextManager.class);
+        MetaDataContexts metaDataContexts = mockMetaDataContexts();
+        when(metaDataContexts.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_SQL_TEMPLATE_ENABLED)).thenReturn(true);
+        when(contextManager.getMetaDataContexts()).thenReturn(metaDataContexts);
+        when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
+        when(ProxyContext.getInstance().databaseExists("foo_db")).thenReturn(true);
+        try (MockedStatic<ProxyBackendHandlerFactory> proxyBackendHandlerFactory = mockStatic(ProxyBackendHandlerFactory.class)) {
+            new MySQLComQueryPacketExecutor(packet, connectionSession);
+            ArgumentCaptor<QueryContext> queryContext = ArgumentCaptor.forClass(QueryContext.class);
+            verify(connectionSession).setQueryContext(queryContext.capture());
+            assertThat(queryContext.getValue().getSql(), is("select v from t where id = ?"));
+            assertThat(queryContext.getValue().getParameters(), is(Collections.<Object>singletonList(1)));
+            proxyBackendHandlerFactory.verify(() -> ProxyBackendHandlerFactory.newInstance(any(DatabaseType.class), eq(queryContext.getValue()), eq(connectionSession), eq(false)));
+        }
+    }
+    
     private MetaDataContexts mockMetaDataContexts() {
         DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
         MetaDataContexts result = mock(MetaDataContexts.class, RETURNS_DEEP_STUBS);
@@ -146,6 +177,7 @@ class MySQLComQueryPacketExecutorTest {
                         new LoggingRule(new DefaultLoggingRuleConfigurationBuilder().build())));
         when(result.getMetaData().getGlobalRuleMetaData()).thenReturn(globalRuleMetaData);
         when(result.getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(1);
+        when(result.getMetaData().getProps().<KernelExecutorMode>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_MODE)).thenReturn(KernelExecutorMode.PLATFORM_THREAD);
         when(result.getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.SQL_SHOW)).thenReturn(false);
         ShardingSphereTable table = new ShardingSphereTable("t", Arrays.asList(new ShardingSphereColumn("id", Types.BIGINT, true, false, false, false, true, false),
                 new ShardingSphereColumn("v", Types.INTEGER, false, false, false, false, true, false)), Collections.emptyList(), Collections.emptyList());
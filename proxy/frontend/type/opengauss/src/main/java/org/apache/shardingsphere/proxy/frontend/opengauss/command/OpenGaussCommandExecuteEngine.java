@@ -48,7 +48,7 @@ public final class OpenGaussCommandExecuteEngine implements CommandExecuteEngine
     private final PostgreSQLCommandExecuteEngine postgresqlCommandExecuteEngine = new PostgreSQLCommandExecuteEngine();
     
     @Override
-    public CommandPacketType getCommandPacketType(final PacketPayload payload) {
+    public CommandPacketType getCommandPacketType(final PacketPayload payload, final ConnectionSession connectionSession) {
         return OpenGaussCommandPacketType.valueOf(payload.getByteBuf().getByte(payload.getByteBuf().readerIndex()));
     }
     
@@ -27,6 +27,7 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQ
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketFactory;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.PostgreSQLDataRowPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDonePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLCommandCompletePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.generic.PostgreSQLReadyForQueryPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.payload.PostgreSQLPacketPayload;
@@ -35,10 +36,12 @@ import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnection
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.CommandExecuteEngine;
+import org.apache.shardingsphere.proxy.frontend.command.QueryRowPacketWriter;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.PostgreSQLCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyOutExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.err.PostgreSQLErrorPacketFactory;
 
 import java.sql.SQLException;
@@ -50,7 +53,7 @@ import java.util.Optional;
 public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngine {
     
     @Override
-    public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload) {
+    public PostgreSQLCommandPacketType getCommandPacketType(final PacketPayload payload, final ConnectionSession connectionSession) {
         return PostgreSQLCommandPacketType.valueOf(payload.getByteBuf().getByte(payload.getByteBuf().readerIndex()));
     }
     
@@ -93,7 +96,10 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
             return;
         }
         long dataRows = writeDataPackets(context, databaseConnectionManager, queryExecutor);
-        if (ResponseType.QUERY == queryExecutor.getResponseType()) {
+        if (queryExecutor instanceof PostgreSQLCopyOutExecutor) {
+            context.write(new PostgreSQLCopyDonePacket());
+            context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.COPY.getTag(), ((PostgreSQLCopyOutExecutor) queryExecutor).getCopiedRows()));
+        } else if (ResponseType.QUERY == queryExecutor.getResponseType()) {
             context.write(new PostgreSQLCommandCompletePacket(PostgreSQLCommand.SELECT.name(), dataRows));
         }
         context.write(databaseConnectionManager.getConnectionSession().getTransactionStatus().isInTransaction() ? PostgreSQLReadyForQueryPacket.IN_TRANSACTION
@@ -103,22 +109,17 @@ public final class PostgreSQLCommandExecuteEngine implements CommandExecuteEngin
     private long writeDataPackets(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
                                   final QueryCommandExecutor queryCommandExecutor) throws SQLException {
         long dataRows = 0;
-        int flushCount = 0;
         int proxyFrontendFlushThreshold = ProxyContext.getInstance()
                 .getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
+        QueryRowPacketWriter rowPacketWriter = new QueryRowPacketWriter(context, databaseConnectionManager.getResourceLock(), proxyFrontendFlushThreshold);
         while (queryCommandExecutor.next()) {
-            flushCount++;
-            databaseConnectionManager.getResourceLock().doAwait(context);
             DatabasePacket resultValue = queryCommandExecutor.getQueryRowPacket();
-            context.write(resultValue);
-            if (proxyFrontendFlushThreshold == flushCount) {
-                context.flush();
-                flushCount = 0;
-            }
+            rowPacketWriter.write(resultValue);
             if (resultValue instanceof PostgreSQLDataRowPacket) {
                 dataRows++;
             }
         }
+        rowPacketWriter.finish();
         return dataRows;
     }
 }
@@ -23,6 +23,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.db.protocol.packet.sql.SQLReceivedPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.PostgreSQLCommandPacketType;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.PostgreSQLAggregatedCommandPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.close.PostgreSQLComClosePacket;
@@ -30,10 +32,19 @@ import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.ext
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.proxy.backend.handler.ProxySQLComQueryParser;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDataExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyDoneExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLComCopyFailExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyCommand;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyInExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy.PostgreSQLCopyOutExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
@@ -48,6 +59,7 @@ import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.simple.
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Command executor factory for PostgreSQL.
@@ -109,7 +121,7 @@ public final class PostgreSQLCommandExecutorFactory {
                                                       final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
         switch (commandPacketType) {
             case SIMPLE_QUERY:
-                return new PostgreSQLComQueryExecutor(portalContext, (PostgreSQLComQueryPacket) commandPacket, connectionSession);
+                return getComQueryExecutor((PostgreSQLComQueryPacket) commandPacket, connectionSession, portalContext);
             case PARSE_COMMAND:
                 return new PostgreSQLComParseExecutor((PostgreSQLComParsePacket) commandPacket, connectionSession);
             case BIND_COMMAND:
@@ -124,10 +136,27 @@ public final class PostgreSQLCommandExecutorFactory {
                 return new PostgreSQLComCloseExecutor(portalContext, (PostgreSQLComClosePacket) commandPacket, connectionSession);
             case FLUSH_COMMAND:
                 return new PostgreSQLComFlushExecutor();
+            case COPY_DATA:
+                return new PostgreSQLComCopyDataExecutor((PostgreSQLComCopyDataPacket) commandPacket, connectionSession);
+            case COPY_DONE:
+                return new PostgreSQLComCopyDoneExecutor(connectionSession);
+            case COPY_FAIL:
+                return new PostgreSQLComCopyFailExecutor((PostgreSQLComCopyFailPacket) commandPacket, connectionSession);
             case TERMINATE:
                 return new PostgreSQLComTerminationExecutor();
             default:
                 return new PostgreSQLUnsupportedCommandExecutor();
         }
     }
+    
+    private static CommandExecutor getComQueryExecutor(final PostgreSQLComQueryPacket packet, final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
+        if (PostgreSQLCopyCommand.isCopy(packet.getSQL())) {
+            DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "openGauss");
+            Optional<PostgreSQLCopyCommand> copyCommand = PostgreSQLCopyCommand.parse(packet.getSQL(), ProxySQLComQueryParser.parse(packet.getSQL(), databaseType, connectionSession));
+            if (copyCommand.isPresent()) {
+                return copyCommand.get().isCopyIn() ? new PostgreSQLCopyInExecutor(copyCommand.get(), connectionSession) : new PostgreSQLCopyOutExecutor(copyCommand.get(), connectionSession);
+            }
+        }
+        return new PostgreSQLComQueryExecutor(portalContext, packet, connectionSession);
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLComCopyFailPacket;
+import org.apache.shardingsphere.infra.exception.postgresql.exception.PostgreSQLException;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+/**
+ * Command copy fail executor for PostgreSQL.
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLComCopyFailExecutor implements CommandExecutor {
+    
+    private static final String QUERY_CANCELED_SQL_STATE = "57014";
+    
+    private final PostgreSQLComCopyFailPacket packet;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        Optional<PostgreSQLCopyInContext> copyInContext = PostgreSQLCopyInContextRegistry.getInstance().remove(connectionSession.getConnectionId());
+        if (!copyInContext.isPresent()) {
+            return Collections.emptyList();
+        }
+        copyInContext.get().cancel();
+        throw new PostgreSQLException(String.format("COPY from stdin failed: %s", packet.getErrorMessage()), QUERY_CANCELED_SQL_STATE);
+    }
+}
@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import com.google.common.base.Strings;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.database.core.type.DatabaseTypeRegistry;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.dialect.exception.syntax.database.NoDatabaseSelectedException;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.sql.common.statement.dml.CopyStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * PostgreSQL copy command.
+ * 
+ * <p>Only {@code COPY table [(column, ...)] FROM STDIN} and {@code COPY table [(column, ...)] TO STDOUT} in text or CSV format are handled here,
+ * other forms of {@code COPY} are executed as ordinary statements.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+@Getter
+public final class PostgreSQLCopyCommand {
+    
+    private static final String COPY_KEYWORD = "COPY";
+    
+    private final String sql;
+    
+    private final int tableNameStartIndex;
+    
+    private final int tableNameStopIndex;
+    
+    private final String schemaName;
+    
+    private final String tableName;
+    
+    private final List<String> columnNames;
+    
+    private final boolean copyIn;
+    
+    private final boolean csv;
+    
+    private final byte delimiter;
+    
+    private final byte quote;
+    
+    private final byte escape;
+    
+    private final String nullString;
+    
+    /**
+     * Judge whether SQL may be copy statement.
+     *
+     * @param sql SQL
+     * @return may be copy statement or not
+     */
+    public static boolean isCopy(final String sql) {
+        int index = 0;
+        while (index < sql.length() && Character.isWhitespace(sql.charAt(index))) {
+            index++;
+        }
+        return sql.regionMatches(true, index, COPY_KEYWORD, 0, COPY_KEYWORD.length());
+    }
+    
+    /**
+     * Parse copy command.
+     *
+     * @param sql SQL
+     * @param sqlStatement SQL statement
+     * @return copy command, empty if the statement is not copy from STDIN or copy to STDOUT of table
+     * @throws UnsupportedSQLOperationException unsupported SQL operation exception
+     */
+    public static Optional<PostgreSQLCopyCommand> parse(final String sql, final SQLStatement sqlStatement) {
+        if (!(sqlStatement instanceof CopyStatement) || null == ((CopyStatement) sqlStatement).getTableSegment()) {
+            return Optional.empty();
+        }
+        SimpleTableSegment tableSegment = ((CopyStatement) sqlStatement).getTableSegment();
+        List<Token> tokens = new Tokenizer(sql, tableSegment.getTableName().getStopIndex() + 1).tokenize();
+        int index = 0;
+        List<String> columnNames = new ArrayList<>();
+        if (index < tokens.size() && tokens.get(index).is("(")) {
+            for (index++; index < tokens.size() && !tokens.get(index).is(")"); index++) {
+                if (!tokens.get(index).is(",")) {
+                    columnNames.add(tokens.get(index).value);
+                }
+            }
+            index++;
+        }
+        if (index + 1 >= tokens.size()) {
+            return Optional.empty();
+        }
+        boolean copyIn = tokens.get(index).is("FROM");
+        boolean stdio = copyIn ? tokens.get(index + 1).is("STDIN") : tokens.get(index).is("TO") && tokens.get(index + 1).is("STDOUT");
+        if (!stdio) {
+            return Optional.empty();
+        }
+        Options options = new Options(isBinaryBeforeTable(sql, tableSegment.getStartIndex()));
+        options.parse(tokens, index + 2);
+        ShardingSpherePreconditions.checkState(!options.binary, () -> new UnsupportedSQLOperationException("COPY with binary format"));
+        ShardingSpherePreconditions.checkState(!options.header, () -> new UnsupportedSQLOperationException("COPY with header"));
+        ShardingSpherePreconditions.checkState(isSingleByte(options.delimiter) && isSingleByte(options.getQuote()) && isSingleByte(options.getEscape()),
+                () -> new UnsupportedSQLOperationException("COPY with multi-byte delimiter, quote or escape"));
+        String schemaName = tableSegment.getOwner().map(optional -> optional.getIdentifier().getValue()).orElse(null);
+        return Optional.of(new PostgreSQLCopyCommand(sql, tableSegment.getTableName().getStartIndex(), tableSegment.getTableName().getStopIndex(), schemaName,
+                tableSegment.getTableName().getIdentifier().getValue(), columnNames, copyIn, options.csv, (byte) options.delimiter.charAt(0), (byte) options.getQuote().charAt(0),
+                (byte) options.getEscape().charAt(0), options.getNullString()));
+    }
+    
+    private static boolean isSingleByte(final String value) {
+        return 1 == value.length() && value.charAt(0) < 0x80;
+    }
+    
+    private static boolean isBinaryBeforeTable(final String sql, final int tableStartIndex) {
+        for (Token each : new Tokenizer(sql.substring(0, tableStartIndex), 0).tokenize()) {
+            if (each.is("BINARY")) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get actual SQL which replaces logic table name with actual table name.
+     *
+     * @param actualTableName actual table name
+     * @return actual SQL
+     */
+    public String getActualSQL(final String actualTableName) {
+        return sql.substring(0, tableNameStartIndex) + actualTableName + sql.substring(tableNameStopIndex + 1);
+    }
+    
+    /**
+     * Create bulk load router of copy table.
+     *
+     * @param connectionSession connection session
+     * @return bulk load router
+     * @throws NoDatabaseSelectedException no database selected exception
+     */
+    public BulkLoadRouter createRouter(final ConnectionSession connectionSession) {
+        String databaseName = connectionSession.getDatabaseName();
+        ShardingSpherePreconditions.checkState(!Strings.isNullOrEmpty(databaseName), NoDatabaseSelectedException::new);
+        ShardingSphereDatabase database = ProxyContext.getInstance().getContextManager().getDatabase(databaseName);
+        String actualSchemaName = null == schemaName ? new DatabaseTypeRegistry(database.getProtocolType()).getDefaultSchemaName(databaseName) : schemaName;
+        return new BulkLoadRouter(database, actualSchemaName, tableName, columnNames, ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps());
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Token {
+        
+        private final String value;
+        
+        private final boolean quoted;
+        
+        private boolean is(final String keyword) {
+            return !quoted && value.equalsIgnoreCase(keyword);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Tokenizer {
+        
+        private final String sql;
+        
+        private final int startIndex;
+        
+        private List<Token> tokenize() {
+            List<Token> result = new ArrayList<>();
+            int index = startIndex;
+            while (index < sql.length()) {
+                char current = sql.charAt(index);
+                if (Character.isWhitespace(current) || ';' == current) {
+                    index++;
+                } else if ('(' == current || ')' == current || ',' == current) {
+                    result.add(new Token(String.valueOf(current), false));
+                    index++;
+                } else if ('\'' == current || '"' == current) {
+                    index = readQuoted(index, current, false, result);
+                } else if (('E' == current || 'e' == current) && index + 1 < sql.length() && '\'' == sql.charAt(index + 1)) {
+                    index = readQuoted(index + 1, '\'', true, result);
+                } else {
+                    int stopIndex = index;
+                    while (stopIndex < sql.length() && isWordCharacter(sql.charAt(stopIndex))) {
+                        stopIndex++;
+                    }
+                    stopIndex = Math.max(stopIndex, index + 1);
+                    result.add(new Token(sql.substring(index, stopIndex).toLowerCase(), false));
+                    index = stopIndex;
+                }
+            }
+            return result;
+        }
+        
+        private boolean isWordCharacter(final char value) {
+            return !Character.isWhitespace(value) && '(' != value && ')' != value && ',' != value && ';' != value && '\'' != value && '"' != value;
+        }
+        
+        private int readQuoted(final int startIndex, final char quoteCharacter, final boolean escapeString, final List<Token> tokens) {
+            StringBuilder value = new StringBuilder();
+            int index = startIndex + 1;
+            while (index < sql.length()) {
+                char current = sql.charAt(index);
+                if (quoteCharacter == current) {
+                    if (index + 1 < sql.length() && quoteCharacter == sql.charAt(index + 1)) {
+                        value.append(current);
+                        index += 2;
+                        continue;
+                    }
+                    index++;
+                    break;
+                }
+                if (escapeString && '\\' == current && index + 1 < sql.length()) {
+                    value.append(unescape(sql.charAt(index + 1)));
+                    index += 2;
+                    continue;
+                }
+                value.append(current);
+                index++;
+            }
+            tokens.add(new Token(value.toString(), true));
+            return index;
+        }
+        
+        private char unescape(final char value) {
+            switch (value) {
+                case 't':
+                    return '\t';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                default:
+                    return value;
+            }
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class Options {
+        
+        private final boolean binaryBeforeTable;
+        
+        private boolean binary;
+        
+        private boolean csv;
+        
+        private boolean header;
+        
+        private String delimiter;
+        
+        private String quote;
+        
+        private String escape;
+        
+        private String nullString;
+        
+        private void parse(final List<Token> tokens, final int startIndex) {
+            binary = binaryBeforeTable;
+            int index = startIndex;
+            while (index < tokens.size()) {
+                Token token = tokens.get(index++);
+                if (token.is("WHERE")) {
+                    break;
+                }
+                if (token.is("BINARY")) {
+                    binary = true;
+                } else if (token.is("CSV")) {
+                    csv = true;
+                } else if (token.is("FORMAT") && index < tokens.size()) {
+                    Token format = tokens.get(index++);
+                    binary = "binary".equalsIgnoreCase(format.value);
+                    csv = "csv".equalsIgnoreCase(format.value);
+                } else if (token.is("HEADER")) {
+                    header = index >= tokens.size() || !isFalse(tokens.get(index));
+                    if (index < tokens.size() && isBooleanValue(tokens.get(index))) {
+                        index++;
+                    }
+                } else if (token.is("DELIMITER") || token.is("DELIMITERS") || token.is("QUOTE") || token.is("ESCAPE") || token.is("NULL")) {
+                    if (index < tokens.size() && tokens.get(index).is("AS")) {
+                        index++;
+                    }
+                    if (index < tokens.size()) {
+                        setOption(token.value, tokens.get(index++).value);
+                    }
+                }
+            }
+            if (null == delimiter) {
+                delimiter = csv ? "," : "\t";
+            }
+        }
+        
+        private boolean isFalse(final Token token) {
+            return "false".equalsIgnoreCase(token.value) || "off".equalsIgnoreCase(token.value) || "0".equals(token.value);
+        }
+        
+        private boolean isBooleanValue(final Token token) {
+            return isFalse(token) || "true".equalsIgnoreCase(token.value) || "on".equalsIgnoreCase(token.value) || "1".equals(token.value);
+        }
+        
+        private void setOption(final String name, final String value) {
+            switch (name) {
+                case "quote":
+                    quote = value;
+                    break;
+                case "escape":
+                    escape = value;
+                    break;
+                case "null":
+                    nullString = value;
+                    break;
+                default:
+                    delimiter = value;
+            }
+        }
+        
+        private String getQuote() {
+            return null == quote ? "\"" : quote;
+        }
+        
+        private String getEscape() {
+            return null == escape ? getQuote() : escape;
+        }
+        
+        private String getNullString() {
+            if (null != nullString) {
+                return nullString;
+            }
+            return csv ? "" : "\\N";
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.postgresql.PGConnection;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * PostgreSQL copy in context.
+ * 
+ * <p>Rows are routed one by one and buffered by their data nodes, full buffers are shipped by {@code COPY FROM STDIN} of their data nodes.
+ * Connections are held by the database connection manager of the session, one per data source, inside a transaction which is committed after the copy is ended successfully.</p>
+ */
+public final class PostgreSQLCopyInContext {
+    
+    private static final int INITIAL_BUFFER_SIZE = 4096;
+    
+    private static final int FLUSH_THRESHOLD = 65536;
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final BulkLoadRouter router;
+    
+    private final ProxyDatabaseConnectionManager databaseConnectionManager;
+    
+    private final BackendTransactionManager transactionManager;
+    
+    private final PostgreSQLCopyRowParser rowParser;
+    
+    private final Map<DataNode, CopyInTarget> targets = new LinkedHashMap<>();
+    
+    private long copiedRows;
+    
+    public PostgreSQLCopyInContext(final PostgreSQLCopyCommand copyCommand, final BulkLoadRouter router,
+                                   final ProxyDatabaseConnectionManager databaseConnectionManager, final BackendTransactionManager transactionManager, final Charset charset) {
+        this.copyCommand = copyCommand;
+        this.router = router;
+        this.databaseConnectionManager = databaseConnectionManager;
+        this.transactionManager = transactionManager;
+        rowParser = new PostgreSQLCopyRowParser(copyCommand, router.getRoutingColumnIndexes(), charset);
+    }
+    
+    /**
+     * Write copy data.
+     *
+     * @param data copy data
+     * @throws SQLException SQL exception
+     */
+    public void write(final ByteBuf data) throws SQLException {
+        rowParser.parse(data, this::writeRow);
+    }
+    
+    private void writeRow(final byte[] bytes, final int offset, final int length, final String[] routingValues) throws SQLException {
+        DataNode dataNode = router.route(routingValues);
+        CopyInTarget target = targets.get(dataNode);
+        if (null == target) {
+            target = new CopyInTarget(router.getActualDataSourceName(dataNode.getDataSourceName()), copyCommand.getActualSQL(dataNode.getTableName()));
+            targets.put(dataNode, target);
+        }
+        target.write(bytes, offset, length);
+        if (target.size >= FLUSH_THRESHOLD) {
+            flush(target);
+        }
+    }
+    
+    private void flush(final CopyInTarget target) throws SQLException {
+        if (0 == target.size) {
+            return;
+        }
+        PGConnection connection = databaseConnectionManager.getConnections(target.dataSourceName, 0, 1, ConnectionMode.MEMORY_STRICTLY).get(0).unwrap(PGConnection.class);
+        try {
+            copiedRows += connection.getCopyAPI().copyIn(target.sql, new ByteArrayInputStream(target.buffer, 0, target.size));
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+        target.size = 0;
+    }
+    
+    /**
+     * Finish copy and commit all data nodes.
+     *
+     * @return copied rows count
+     * @throws SQLException SQL exception
+     */
+    public long finish() throws SQLException {
+        boolean succeed = false;
+        try {
+            rowParser.finish(this::writeRow);
+            for (CopyInTarget each : targets.values()) {
+                flush(each);
+            }
+            transactionManager.commit();
+            succeed = true;
+            return copiedRows;
+        } finally {
+            targets.clear();
+            if (!succeed) {
+                cancel();
+            }
+        }
+    }
+    
+    /**
+     * Cancel copy and roll back all data nodes.
+     */
+    public void cancel() {
+        targets.clear();
+        try {
+            transactionManager.rollback();
+        } catch (final SQLException ignore) {
+        }
+    }
+    
+    private static final class CopyInTarget {
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+        
+        private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+        
+        private int size;
+        
+        CopyInTarget(final String dataSourceName, final String sql) {
+            this.dataSourceName = dataSourceName;
+            this.sql = sql;
+        }
+        
+        void write(final byte[] bytes, final int offset, final int length) {
+            if (size + length > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length << 1, size + length));
+            }
+            System.arraycopy(bytes, offset, buffer, size, length);
+            size += length;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyInResponsePacket;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.BackendTransactionManager;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * Copy in executor for PostgreSQL, which starts {@code COPY FROM STDIN}.
+ * 
+ * <p>A transaction is begun after the copy in context created, so that the connections of the copy are held by the session until the copy is done or failed,
+ * and no transaction is left if the copy in context can not be created.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyInExecutor implements CommandExecutor {
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final ConnectionSession connectionSession;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        ShardingSpherePreconditions.checkState(!connectionSession.getTransactionStatus().isInTransaction(), () -> new UnsupportedSQLOperationException("COPY FROM STDIN inside transaction"));
+        BulkLoadRouter router = copyCommand.createRouter(connectionSession);
+        BackendTransactionManager transactionManager = new BackendTransactionManager(connectionSession.getDatabaseConnectionManager());
+        PostgreSQLCopyInContext copyInContext = new PostgreSQLCopyInContext(
+                copyCommand, router, connectionSession.getDatabaseConnectionManager(), transactionManager, connectionSession.getAttributeMap().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get());
+        transactionManager.begin();
+        PostgreSQLCopyInContextRegistry.getInstance().register(connectionSession.getConnectionId(), copyInContext);
+        return Collections.singleton(new PostgreSQLCopyInResponsePacket(router.getColumnCount()));
+    }
+}
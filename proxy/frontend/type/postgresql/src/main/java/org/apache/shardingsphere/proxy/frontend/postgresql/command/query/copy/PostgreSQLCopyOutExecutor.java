@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.db.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyDataPacket;
+import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.copy.PostgreSQLCopyOutResponsePacket;
+import org.apache.shardingsphere.infra.datanode.DataNode;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.proxy.backend.connector.bulk.BulkLoadRouter;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyOut;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+
+/**
+ * Copy out executor for PostgreSQL, which executes {@code COPY TO STDOUT}.
+ * 
+ * <p>Data nodes are copied one after another, and the copy data of them are concatenated.
+ * Connections are got from the database connection manager of the session, which releases them after the command.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLCopyOutExecutor implements QueryCommandExecutor {
+    
+    private final PostgreSQLCopyCommand copyCommand;
+    
+    private final ConnectionSession connectionSession;
+    
+    private BulkLoadRouter router;
+    
+    private Iterator<DataNode> dataNodes;
+    
+    private CopyOut currentCopyOut;
+    
+    private byte[] currentData;
+    
+    @Getter
+    private long copiedRows;
+    
+    @Override
+    public Collection<DatabasePacket> execute() {
+        ShardingSpherePreconditions.checkState(!connectionSession.getTransactionStatus().isInTransaction(), () -> new UnsupportedSQLOperationException("COPY TO STDOUT inside transaction"));
+        router = copyCommand.createRouter(connectionSession);
+        dataNodes = router.getDataNodes().iterator();
+        return Collections.singleton(new PostgreSQLCopyOutResponsePacket(router.getColumnCount()));
+    }
+    
+    @Override
+    public ResponseType getResponseType() {
+        return ResponseType.QUERY;
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        while (null != currentCopyOut || dataNodes.hasNext()) {
+            if (null == currentCopyOut) {
+                openNextCopyOut();
+            }
+            currentData = currentCopyOut.readFromCopy();
+            if (null != currentData) {
+                return true;
+            }
+            copiedRows += currentCopyOut.getHandledRowCount();
+            closeCurrentCopyOut();
+        }
+        return false;
+    }
+    
+    private void openNextCopyOut() throws SQLException {
+        DataNode dataNode = dataNodes.next();
+        Connection connection = connectionSession.getDatabaseConnectionManager().getConnections(router.getActualDataSourceName(dataNode.getDataSourceName()), 0, 1, ConnectionMode.MEMORY_STRICTLY).get(0);
+        currentCopyOut = connection.unwrap(PGConnection.class).getCopyAPI().copyOut(copyCommand.getActualSQL(dataNode.getTableName()));
+    }
+    
+    private void closeCurrentCopyOut() throws SQLException {
+        try {
+            if (null != currentCopyOut && currentCopyOut.isActive()) {
+                currentCopyOut.cancelCopy();
+            }
+        } finally {
+            currentCopyOut = null;
+        }
+    }
+    
+    @Override
+    public DatabasePacket getQueryRowPacket() {
+        return new PostgreSQLCopyDataPacket(currentData);
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        closeCurrentCopyOut();
+    }
+}
@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.infra.exception.core.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.exception.postgresql.exception.PostgreSQLException;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.Charset;
+import java.sql.SQLException;
+
+/**
+ * PostgreSQL copy row parser.
+ * 
+ * <p>Split the data stream of {@code COPY FROM STDIN} into rows, and decode only the values of routing columns.
+ * Rows are handed out as raw bytes, so that they can be shipped to storage units without re-encoding.
+ * Scan state of the partial row is kept between copy data messages, so each byte is scanned only once.</p>
+ */
+public final class PostgreSQLCopyRowParser {
+    
+    private static final String BAD_COPY_FILE_FORMAT_SQL_STATE = "22P04";
+    
+    private static final byte LINE_FEED = '\n';
+    
+    private static final byte CARRIAGE_RETURN = '\r';
+    
+    private static final byte BACKSLASH = '\\';
+    
+    private final boolean csv;
+    
+    private final byte delimiter;
+    
+    private final byte quote;
+    
+    private final byte escape;
+    
+    private final byte[] nullString;
+    
+    private final int[] routingColumnIndexes;
+    
+    private final Charset charset;
+    
+    private final int[] fieldStartIndexes;
+    
+    private final int[] fieldStopIndexes;
+    
+    private final ByteBuf buffer = Unpooled.buffer();
+    
+    private int scanIndex;
+    
+    private int fieldIndex;
+    
+    private int fieldStartIndex;
+    
+    private boolean inQuotes;
+    
+    private boolean endOfData;
+    
+    public PostgreSQLCopyRowParser(final PostgreSQLCopyCommand copyCommand, final int[] routingColumnIndexes, final Charset charset) {
+        csv = copyCommand.isCsv();
+        delimiter = copyCommand.getDelimiter();
+        quote = copyCommand.getQuote();
+        escape = copyCommand.getEscape();
+        nullString = copyCommand.getNullString().getBytes(charset);
+        this.routingColumnIndexes = routingColumnIndexes;
+        this.charset = charset;
+        fieldStartIndexes = new int[routingColumnIndexes.length];
+        fieldStopIndexes = new int[routingColumnIndexes.length];
+        resetScanState(0);
+    }
+    
+    /**
+     * Parse copy data.
+     *
+     * @param data copy data, which may contain partial rows
+     * @param handler row handler
+     * @throws SQLException SQL exception
+     */
+    public void parse(final ByteBuf data, final RowHandler handler) throws SQLException {
+        if (endOfData) {
+            return;
+        }
+        buffer.writeBytes(data);
+        handleRows(handler);
+        discardReadBytes();
+    }
+    
+    /**
+     * Finish parsing, the last row without line feed will be handled.
+     *
+     * @param handler row handler
+     * @throws SQLException SQL exception
+     */
+    public void finish(final RowHandler handler) throws SQLException {
+        if (!endOfData && buffer.isReadable()) {
+            buffer.writeByte(LINE_FEED);
+            handleRows(handler);
+            ShardingSpherePreconditions.checkState(endOfData || !buffer.isReadable(), () -> new PostgreSQLException("unterminated CSV quoted field", BAD_COPY_FILE_FORMAT_SQL_STATE));
+        }
+        buffer.clear();
+        resetScanState(0);
+    }
+    
+    private void handleRows(final RowHandler handler) throws SQLException {
+        while (!endOfData && buffer.isReadable()) {
+            int rowStartIndex = buffer.readerIndex();
+            int lineFeedIndex = csv ? scanCSVRow(buffer.writerIndex()) : scanTextRow(buffer.writerIndex());
+            if (lineFeedIndex < 0) {
+                return;
+            }
+            buffer.readerIndex(lineFeedIndex + 1);
+            if (isEndOfDataMarker(rowStartIndex, lineFeedIndex)) {
+                endOfData = true;
+                return;
+            }
+            String[] routingValues = new String[routingColumnIndexes.length];
+            for (int i = 0; i < routingValues.length; i++) {
+                if (fieldStartIndexes[i] < 0) {
+                    throw new PostgreSQLException(String.format("missing data for column at position %d", routingColumnIndexes[i] + 1), BAD_COPY_FILE_FORMAT_SQL_STATE);
+                }
+                routingValues[i] = csv ? decodeCSVField(fieldStartIndexes[i], fieldStopIndexes[i]) : decodeTextField(fieldStartIndexes[i], fieldStopIndexes[i]);
+            }
+            resetScanState(lineFeedIndex + 1);
+            handler.handle(buffer.array(), buffer.arrayOffset() + rowStartIndex, lineFeedIndex + 1 - rowStartIndex, routingValues);
+        }
+    }
+    
+    private int scanTextRow(final int stopIndex) {
+        while (scanIndex < stopIndex) {
+            byte each = buffer.getByte(scanIndex);
+            if (BACKSLASH == each) {
+                scanIndex++;
+            } else if (delimiter == each) {
+                markField(fieldIndex++, fieldStartIndex, scanIndex);
+                fieldStartIndex = scanIndex + 1;
+            } else if (LINE_FEED == each) {
+                return markLastField();
+            }
+            scanIndex++;
+        }
+        return -1;
+    }
+    
+    private int scanCSVRow(final int stopIndex) {
+        while (scanIndex < stopIndex) {
+            byte each = buffer.getByte(scanIndex);
+            if (inQuotes) {
+                if (escape == each && scanIndex + 1 == stopIndex) {
+                    return -1;
+                }
+                if (isEscapeSequence(each, scanIndex, stopIndex)) {
+                    scanIndex++;
+                } else if (quote == each) {
+                    inQuotes = false;
+                }
+            } else if (quote == each) {
+                inQuotes = true;
+            } else if (delimiter == each) {
+                markField(fieldIndex++, fieldStartIndex, scanIndex);
+                fieldStartIndex = scanIndex + 1;
+            } else if (LINE_FEED == each) {
+                return markLastField();
+            }
+            scanIndex++;
+        }
+        return -1;
+    }
+    
+    private int markLastField() {
+        markField(fieldIndex, fieldStartIndex, scanIndex > fieldStartIndex && CARRIAGE_RETURN == buffer.getByte(scanIndex - 1) ? scanIndex - 1 : scanIndex);
+        return scanIndex;
+    }
+    
+    private boolean isEscapeSequence(final byte current, final int index, final int stopIndex) {
+        if (escape != current || index + 1 >= stopIndex) {
+            return false;
+        }
+        byte next = buffer.getByte(index + 1);
+        return escape == quote ? quote == next : quote == next || escape == next;
+    }
+    
+    private void resetScanState(final int rowStartIndex) {
+        scanIndex = rowStartIndex;
+        fieldIndex = 0;
+        fieldStartIndex = rowStartIndex;
+        inQuotes = false;
+        for (int i = 0; i < fieldStartIndexes.length; i++) {
+            fieldStartIndexes[i] = -1;
+        }
+    }
+    
+    private void discardReadBytes() {
+        int discardedLength = buffer.readerIndex();
+        buffer.discardReadBytes();
+        scanIndex -= discardedLength;
+        fieldStartIndex -= discardedLength;
+        for (int i = 0; i < fieldStartIndexes.length; i++) {
+            if (fieldStartIndexes[i] >= 0) {
+                fieldStartIndexes[i] -= discardedLength;
+                fieldStopIndexes[i] -= discardedLength;
+            }
+        }
+    }
+    
+    private void markField(final int fieldIndex, final int startIndex, final int stopIndex) {
+        for (int i = 0; i < routingColumnIndexes.length; i++) {
+            if (fieldIndex == routingColumnIndexes[i]) {
+                fieldStartIndexes[i] = startIndex;
+                fieldStopIndexes[i] = stopIndex;
+            }
+        }
+    }
+    
+    private boolean isEndOfDataMarker(final int startIndex, final int lineFeedIndex) {
+        int length = lineFeedIndex > startIndex && CARRIAGE_RETURN == buffer.getByte(lineFeedIndex - 1) ? lineFeedIndex - 1 - startIndex : lineFeedIndex - startIndex;
+        return 2 == length && BACKSLASH == buffer.getByte(startIndex) && '.' == buffer.getByte(startIndex + 1);
+    }
+    
+    private boolean isNullString(final int startIndex, final int stopIndex) {
+        if (stopIndex - startIndex != nullString.length) {
+            return false;
+        }
+        for (int i = 0; i < nullString.length; i++) {
+            if (nullString[i] != buffer.getByte(startIndex + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private String decodeTextField(final int startIndex, final int stopIndex) {
+        if (isNullString(startIndex, stopIndex)) {
+            return null;
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream(stopIndex - startIndex);
+        int index = startIndex;
+        while (index < stopIndex) {
+            byte each = buffer.getByte(index++);
+            if (BACKSLASH != each || index == stopIndex) {
+                result.write(each);
+                continue;
+            }
+            byte escaped = buffer.getByte(index++);
+            if (isDigit(escaped, 8)) {
+                int value = Character.digit(escaped, 8);
+                for (int digits = 1; digits < 3 && index < stopIndex && isDigit(buffer.getByte(index), 8); digits++) {
+                    value = value * 8 + Character.digit(buffer.getByte(index++), 8);
+                }
+                result.write(value);
+            } else if ('x' == escaped && index < stopIndex && isDigit(buffer.getByte(index), 16)) {
+                int value = Character.digit(buffer.getByte(index++), 16);
+                if (index < stopIndex && isDigit(buffer.getByte(index), 16)) {
+                    value = value * 16 + Character.digit(buffer.getByte(index++), 16);
+                }
+                result.write(value);
+            } else {
+                result.write(unescapeTextCharacter(escaped));
+            }
+        }
+        return new String(result.toByteArray(), charset);
+    }
+    
+    private boolean isDigit(final byte value, final int radix) {
+        return Character.digit(value, radix) >= 0;
+    }
+    
+    private byte unescapeTextCharacter(final byte escaped) {
+        switch (escaped) {
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'v':
+                return 0x0B;
+            default:
+                return escaped;
+        }
+    }
+    
+    private String decodeCSVField(final int startIndex, final int stopIndex) {
+        if (isNullString(startIndex, stopIndex)) {
+            return null;
+        }
+        ByteArrayOutputStream result = new ByteArrayOutputStream(stopIndex - startIndex);
+        boolean inQuotes = false;
+        int index = startIndex;
+        while (index < stopIndex) {
+            byte each = buffer.getByte(index);
+            if (inQuotes && isEscapeSequence(each, index, stopIndex)) {
+                result.write(buffer.getByte(++index));
+            } else if (quote == each) {
+                inQuotes = !inQuotes;
+            } else {
+                result.write(each);
+            }
+            index++;
+        }
+        return new String(result.toByteArray(), charset);
+    }
+    
+    /**
+     * Row handler.
+     */
+    @FunctionalInterface
+    public interface RowHandler {
+        
+        /**
+         * Handle row.
+         *
+         * @param bytes bytes which contain the row
+         * @param offset offset of row in bytes
+         * @param length length of row including line feed
+         * @param routingValues decoded values of routing columns, null means SQL NULL
+         * @throws SQLException SQL exception
+         */
+        void handle(byte[] bytes, int offset, int length, String[] routingValues) throws SQLException;
+    }
+}
@@ -20,7 +20,6 @@ package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extend
 import org.apache.shardingsphere.db.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLTypeUnspecifiedSQLParameter;
 import org.apache.shardingsphere.infra.binder.context.aware.ParameterAware;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
-import org.apache.shardingsphere.infra.binder.engine.SQLBindEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.database.core.type.DatabaseType;
@@ -35,6 +34,8 @@ import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorEx
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutorCallback;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlanner;
+import org.apache.shardingsphere.infra.executor.sql.prepare.batch.BatchPlannerRuleAttribute;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
@@ -96,27 +97,51 @@ public final class PostgreSQLBatchedStatementsExecutor {
         ExecutionContext executionContext = null;
         if (parameterSetsIterator.hasNext()) {
             List<Object> firstGroupOfParam = parameterSetsIterator.next();
-            sqlStatementContext = createSQLStatementContext(firstGroupOfParam, preparedStatement.getHintValueContext());
+            sqlStatementContext = prepareSQLStatementContext(firstGroupOfParam);
             executionContext = createExecutionContext(createQueryContext(sqlStatementContext, firstGroupOfParam, preparedStatement.getHintValueContext()));
             for (ExecutionUnit each : executionContext.getExecutionUnits()) {
                 executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
             }
         }
         anyExecutionContext = executionContext;
-        prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext, preparedStatement.getHintValueContext());
+        BatchPlanner batchPlanner = null == executionContext ? null : findBatchPlanner(sqlStatementContext, preparedStatement.getHintValueContext()).orElse(null);
+        if (null != batchPlanner) {
+            batchPlanner.keepTemplate(executionContext.getQueryContext().getParameters(), executionContext);
+        }
+        prepareForRestOfParametersSet(parameterSetsIterator, sqlStatementContext, preparedStatement.getHintValueContext(), batchPlanner);
+    }
+    
+    private Optional<BatchPlanner> findBatchPlanner(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
+        return database.getRuleMetaData().getAttributes(BatchPlannerRuleAttribute.class).stream()
+                .map(each -> each.findBatchPlanner(database, sqlStatementContext, hintValueContext, metaDataContexts.getMetaData().getProps()))
+                .filter(Optional::isPresent).map(Optional::get).findFirst();
     }
     
-    private SQLStatementContext createSQLStatementContext(final List<Object> params, final HintValueContext hintValueContext) {
-        return new SQLBindEngine(metaDataContexts.getMetaData(), connectionSession.getDatabaseName(), hintValueContext).bind(preparedStatement.getSqlStatementContext().getSqlStatement(), params);
+    private SQLStatementContext prepareSQLStatementContext(final List<Object> params) {
+        SQLStatementContext result = preparedStatement.getSqlStatementContext();
+        if (result instanceof ParameterAware) {
+            ((ParameterAware) result).setUpParameters(params);
+        }
+        return result;
     }
     
-    private void prepareForRestOfParametersSet(final Iterator<List<Object>> paramSetsIterator, final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext) {
+    private void prepareForRestOfParametersSet(final Iterator<List<Object>> paramSetsIterator, final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext,
+                                               final BatchPlanner batchPlanner) {
         while (paramSetsIterator.hasNext()) {
             List<Object> eachGroupOfParam = paramSetsIterator.next();
+            Optional<ExecutionUnit> plannedExecutionUnit = null == batchPlanner ? Optional.empty() : batchPlanner.plan(eachGroupOfParam);
+            if (plannedExecutionUnit.isPresent()) {
+                executionUnitParams.computeIfAbsent(plannedExecutionUnit.get(), unused -> new LinkedList<>()).add(plannedExecutionUnit.get().getSqlUnit().getParameters());
+                continue;
+            }
             if (sqlStatementContext instanceof ParameterAware) {
                 ((ParameterAware) sqlStatementContext).setUpParameters(eachGroupOfParam);
             }
             ExecutionContext eachExecutionContext = createExecutionContext(createQueryContext(sqlStatementContext, eachGroupOfParam, hintValueContext));
+            if (null != batchPlanner) {
+                batchPlanner.keepTemplate(eachGroupOfParam, eachExecutionContext);
+            }
             for (ExecutionUnit each : eachExecutionContext.getExecutionUnits()) {
                 executionUnitParams.computeIfAbsent(each, unused -> new LinkedList<>()).add(each.getSqlUnit().getParameters());
             }
@@ -182,7 +207,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
         ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getDatabaseName());
         DatabaseType protocolType = database.getProtocolType();
         JDBCExecutorCallback<int[]> callback =
-                new BatchedStatementsJDBCExecutorCallback(protocolType, database.getResourceMetaData(), preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
+                new BatchedStatementsJDBCExecutorCallback(protocolType, database.getName(), database.getResourceMetaData(), preparedStatement.getSqlStatementContext().getSqlStatement(), isExceptionThrown);
         List<int[]> executeResults = jdbcExecutor.execute(executionGroupContext, callback);
         int result = 0;
         for (int[] eachResult : executeResults) {
@@ -195,9 +220,9 @@ public final class PostgreSQLBatchedStatementsExecutor {
     
     private static final class BatchedStatementsJDBCExecutorCallback extends JDBCExecutorCallback<int[]> {
         
-        private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
+        private BatchedStatementsJDBCExecutorCallback(final DatabaseType protocolType, final String databaseName, final ResourceMetaData resourceMetaData, final SQLStatement sqlStatement,
                                                       final boolean isExceptionThrown) {
-            super(protocolType, resourceMetaData, sqlStatement, isExceptionThrown);
+            super(protocolType, databaseName, resourceMetaData, sqlStatement, isExceptionThrown);
         }
         
         @Override
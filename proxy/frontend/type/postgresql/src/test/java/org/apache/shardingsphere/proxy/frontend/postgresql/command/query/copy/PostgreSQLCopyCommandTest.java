@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCopyStatement;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PostgreSQLCopyCommandTest {
+    
+    @Test
+    void assertIsCopy() {
+        assertTrue(PostgreSQLCopyCommand.isCopy("  copy t_order FROM STDIN"));
+        assertFalse(PostgreSQLCopyCommand.isCopy("SELECT 1"));
+    }
+    
+    @Test
+    void assertParseCopyFromStdinWithCSVOptions() {
+        String sql = "COPY t_order (order_id, \"User_Id\") FROM STDIN WITH (FORMAT csv, DELIMITER '|', NULL 'none')";
+        Optional<PostgreSQLCopyCommand> actual = PostgreSQLCopyCommand.parse(sql, createCopyStatement(sql));
+        assertTrue(actual.isPresent());
+        assertTrue(actual.get().isCopyIn());
+        assertTrue(actual.get().isCsv());
+        assertThat(actual.get().getTableName(), is("t_order"));
+        assertThat(actual.get().getColumnNames(), is(Arrays.asList("order_id", "User_Id")));
+        assertThat(actual.get().getDelimiter(), is((byte) '|'));
+        assertThat(actual.get().getQuote(), is((byte) '"'));
+        assertThat(actual.get().getEscape(), is((byte) '"'));
+        assertThat(actual.get().getNullString(), is("none"));
+        assertThat(actual.get().getActualSQL("t_order_0"), is("COPY t_order_0 (order_id, \"User_Id\") FROM STDIN WITH (FORMAT csv, DELIMITER '|', NULL 'none')"));
+    }
+    
+    @Test
+    void assertParseCopyToStdoutWithLegacyOptions() {
+        String sql = "COPY t_order TO STDOUT WITH DELIMITER AS E'\\t' NULL AS ''";
+        Optional<PostgreSQLCopyCommand> actual = PostgreSQLCopyCommand.parse(sql, createCopyStatement(sql));
+        assertTrue(actual.isPresent());
+        assertFalse(actual.get().isCopyIn());
+        assertFalse(actual.get().isCsv());
+        assertThat(actual.get().getColumnNames(), is(Collections.emptyList()));
+        assertThat(actual.get().getDelimiter(), is((byte) '\t'));
+        assertThat(actual.get().getNullString(), is(""));
+    }
+    
+    @Test
+    void assertParseCopyWithDefaultTextOptions() {
+        String sql = "COPY t_order FROM STDIN";
+        Optional<PostgreSQLCopyCommand> actual = PostgreSQLCopyCommand.parse(sql, createCopyStatement(sql));
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDelimiter(), is((byte) '\t'));
+        assertThat(actual.get().getNullString(), is("\\N"));
+    }
+    
+    @Test
+    void assertParseCopyFromFile() {
+        String sql = "COPY t_order FROM '/tmp/t_order.csv'";
+        assertFalse(PostgreSQLCopyCommand.parse(sql, createCopyStatement(sql)).isPresent());
+    }
+    
+    @Test
+    void assertParseCopyWithBinaryFormat() {
+        String sql = "COPY t_order FROM STDIN (FORMAT binary)";
+        assertThrows(UnsupportedSQLOperationException.class, () -> PostgreSQLCopyCommand.parse(sql, createCopyStatement(sql)));
+    }
+    
+    @Test
+    void assertParseCopyWithHeader() {
+        String sql = "COPY t_order FROM STDIN WITH CSV HEADER";
+        assertThrows(UnsupportedSQLOperationException.class, () -> PostgreSQLCopyCommand.parse(sql, createCopyStatement(sql)));
+    }
+    
+    private OpenGaussCopyStatement createCopyStatement(final String sql) {
+        OpenGaussCopyStatement result = new OpenGaussCopyStatement();
+        int startIndex = sql.indexOf("t_order");
+        result.setTableSegment(new SimpleTableSegment(new TableNameSegment(startIndex, startIndex + "t_order".length() - 1, new IdentifierValue("t_order"))));
+        return result;
+    }
+}
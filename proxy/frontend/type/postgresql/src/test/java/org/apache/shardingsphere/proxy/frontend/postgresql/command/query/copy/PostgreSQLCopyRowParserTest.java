@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.copy;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.infra.exception.postgresql.exception.PostgreSQLException;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.segment.generic.table.TableNameSegment;
+import org.apache.shardingsphere.sql.parser.sql.common.value.identifier.IdentifierValue;
+import org.apache.shardingsphere.sql.parser.sql.dialect.statement.opengauss.dml.OpenGaussCopyStatement;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PostgreSQLCopyRowParserTest {
+    
+    private final List<String> rows = new LinkedList<>();
+    
+    private final List<String[]> routingValues = new LinkedList<>();
+    
+    @Test
+    void assertParseTextRowsAcrossCopyData() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(createCopyCommand("COPY t_order FROM STDIN"), new int[]{1}, StandardCharsets.UTF_8);
+        parser.parse(Unpooled.wrappedBuffer("1\t10\tfoo\n2\t2".getBytes(StandardCharsets.UTF_8)), this::handle);
+        parser.parse(Unpooled.wrappedBuffer("0\tb\\tar\n3\t\\N\tbaz\r\n\\.\n4\t40\tignored\n".getBytes(StandardCharsets.UTF_8)), this::handle);
+        parser.finish(this::handle);
+        assertThat(rows, is(Arrays.asList("1\t10\tfoo\n", "2\t20\tb\\tar\n", "3\t\\N\tbaz\r\n")));
+        assertThat(routingValues.get(0), is(new String[]{"10"}));
+        assertThat(routingValues.get(1), is(new String[]{"20"}));
+        assertThat(routingValues.get(2)[0], nullValue());
+    }
+    
+    @Test
+    void assertParseTextRowWithEscapedRoutingValue() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(createCopyCommand("COPY t_order FROM STDIN"), new int[]{0}, StandardCharsets.UTF_8);
+        parser.parse(Unpooled.wrappedBuffer("a\\\\b\\x41\\101\\n\t1\n".getBytes(StandardCharsets.UTF_8)), this::handle);
+        assertThat(routingValues.get(0), is(new String[]{"a\\bAA\n"}));
+    }
+    
+    @Test
+    void assertParseCSVRows() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(createCopyCommand("COPY t_order FROM STDIN CSV"), new int[]{1, 0}, StandardCharsets.UTF_8);
+        parser.parse(Unpooled.wrappedBuffer("1,\"a,\"\"b\"\n2,\"x\ny\"\n,\"\"\n3,c".getBytes(StandardCharsets.UTF_8)), this::handle);
+        parser.finish(this::handle);
+        assertThat(rows, is(Arrays.asList("1,\"a,\"\"b\"\n", "2,\"x\ny\"\n", ",\"\"\n", "3,c\n")));
+        assertThat(routingValues.get(0), is(new String[]{"a,\"b", "1"}));
+        assertThat(routingValues.get(1), is(new String[]{"x\ny", "2"}));
+        assertThat(routingValues.get(2), is(new String[]{"", null}));
+        assertThat(routingValues.get(3), is(new String[]{"c", "3"}));
+    }
+    
+    @Test
+    void assertParseTextRowsByteByByte() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(createCopyCommand("COPY t_order FROM STDIN"), new int[]{1}, StandardCharsets.UTF_8);
+        parseByteByByte(parser, "1\t\\\\\tfoo\n2\t2\\\t0\r\n");
+        parser.finish(this::handle);
+        assertThat(rows, is(Arrays.asList("1\t\\\\\tfoo\n", "2\t2\\\t0\r\n")));
+        assertThat(routingValues.get(0), is(new String[]{"\\"}));
+        assertThat(routingValues.get(1), is(new String[]{"2\t0"}));
+    }
+    
+    @Test
+    void assertParseCSVRowsWithEscapeByteByByte() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(createCopyCommand("COPY t_order FROM STDIN CSV ESCAPE '\\'"), new int[]{1}, StandardCharsets.UTF_8);
+        parseByteByByte(parser, "1,\"a\\\",\nb\"\n2,\"c\"\"d\"\n");
+        parser.finish(this::handle);
+        assertThat(rows, is(Arrays.asList("1,\"a\\\",\nb\"\n", "2,\"c\"\"d\"\n")));
+        assertThat(routingValues.get(0), is(new String[]{"a\",\nb"}));
+        assertThat(routingValues.get(1), is(new String[]{"cd"}));
+    }
+    
+    @Test
+    void assertFinishWithUnterminatedCSVQuotedField() throws SQLException {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(createCopyCommand("COPY t_order FROM STDIN CSV"), new int[]{0}, StandardCharsets.UTF_8);
+        parser.parse(Unpooled.wrappedBuffer("\"1,2".getBytes(StandardCharsets.UTF_8)), this::handle);
+        assertThrows(PostgreSQLException.class, () -> parser.finish(this::handle));
+    }
+    
+    @Test
+    void assertParseRowWithoutRoutingColumn() {
+        PostgreSQLCopyRowParser parser = new PostgreSQLCopyRowParser(createCopyCommand("COPY t_order FROM STDIN"), new int[]{2}, StandardCharsets.UTF_8);
+        assertThrows(PostgreSQLException.class, () -> parser.parse(Unpooled.wrappedBuffer("1\t2\n".getBytes(StandardCharsets.UTF_8)), this::handle));
+    }
+    
+    private void parseByteByByte(final PostgreSQLCopyRowParser parser, final String data) throws SQLException {
+        for (byte each : data.getBytes(StandardCharsets.UTF_8)) {
+            parser.parse(Unpooled.wrappedBuffer(new byte[]{each}), this::handle);
+        }
+    }
+    
+    private void handle(final byte[] bytes, final int offset, final int length, final String[] values) {
+        rows.add(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        routingValues.add(values);
+    }
+    
+    private PostgreSQLCopyCommand createCopyCommand(final String sql) {
+        OpenGaussCopyStatement copyStatement = new OpenGaussCopyStatement();
+        int startIndex = sql.indexOf("t_order");
+        copyStatement.setTableSegment(new SimpleTableSegment(new TableNameSegment(startIndex, startIndex + "t_order".length() - 1, new IdentifierValue("t_order"))));
+        return PostgreSQLCopyCommand.parse(sql, copyStatement).orElseThrow(IllegalStateException::new);
+    }
+}